@@ -0,0 +1,45 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 15:20
+ *
+ * Точка входу набору бенчмарків. Приймає ті самі аргументи, що й
+ * {@code org.openjdk.jmh.Main}, але за замовчуванням зберігає результати
+ * у форматі JSON ({@code jmh-result.json}), щоб їх можна було порівнювати
+ * між версіями бібліотеки.
+ */
+
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Запускає JMH з виведенням результатів у JSON.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Точка входу.
+     *
+     * @param args аргументи командного рядка JMH ({@code -rff}, {@code -p}, фільтри тощо)
+     * @throws RunnerException            у разі помилки виконання бенчмарків
+     * @throws CommandLineOptionException якщо аргументи некоректні
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder opts = new OptionsBuilder().parent(cmd);
+        if (!cmd.getResultFormat().hasValue()) {
+            opts.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            opts.result("jmh-result.json");
+        }
+        new Runner(opts.build()).run();
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 16:05
+ *
+ * Бенчмарки операцій класу {@code BigUnsigned} для чисел різної довжини.
+ * Довжина операндів у бітах задається параметром {@code bits}.
+ */
+
+package benchmarks;
+
+import numbers.BigUnsigned;
+import numbers.BigUnsignedAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки {@link BigUnsigned}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigUnsignedBenchmark {
+
+    @Param({"64", "1024", "16384"})
+    public int bits;
+
+    private BigUnsigned a;
+    private BigUnsigned b;
+
+    /**
+     * Створює два випадкові числа заданої довжини ({@code a > b}).
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        a = new BigUnsigned(new BigInteger(bits, random).setBit(bits - 1));
+        b = new BigUnsigned(new BigInteger(bits / 2, random).setBit(bits / 2 - 1));
+    }
+
+    @Benchmark
+    public BigUnsigned add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public BigUnsigned subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public BigUnsigned multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public BigUnsigned divide() {
+        return a.divide(b);
+    }
+
+    /**
+     * Факторіальний цикл з постійним створенням нових об’єктів.
+     *
+     * @return {@code 200!}
+     */
+    @Benchmark
+    public BigUnsigned factorialLoop() {
+        BigUnsigned acc = new BigUnsigned(BigInteger.ONE);
+        for (int i = 2; i <= 200; i++) {
+            acc = acc.multiply(new BigUnsigned(BigInteger.valueOf(i)));
+        }
+        return acc;
+    }
+
+    /**
+     * Той самий факторіальний цикл зі змінним накопичувачем.
+     *
+     * @return {@code 200!}
+     */
+    @Benchmark
+    public BigUnsigned factorialAccumulator() {
+        BigUnsignedAccumulator acc = new BigUnsignedAccumulator(1);
+        for (int i = 2; i <= 200; i++) {
+            acc.multiply(i);
+        }
+        return acc.toBigUnsigned();
+    }
+}
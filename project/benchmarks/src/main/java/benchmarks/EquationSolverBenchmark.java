@@ -0,0 +1,210 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 16:15
+ *
+ * Бенчмарки методів класу {@code EquationSolver}. Замкнені формули для
+ * кубічних рівнянь та рівнянь четвертого степеня порівнюються з ітераційним
+ * методом Дюрана – Кернера, а пакетні версії – з поелементними викликами.
+ */
+
+package benchmarks;
+
+import equations.EquationSolver;
+import numbers.Rational;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки {@link EquationSolver}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EquationSolverBenchmark {
+
+    private Rational a;
+    private Rational b;
+    private double qa;
+    private double qb;
+    private double qc;
+    private double[] cubic;
+    private double[] quartic;
+
+    private static final int BATCH = 1024;
+    private double[][] batch;
+    private double[][] cubicRoots;
+    private double[][] quarticRoots;
+
+    /**
+     * Готує коефіцієнти рівнянь.
+     */
+    @Setup
+    public void setup() {
+        a = new Rational(2, 3);
+        b = new Rational(-5, 7);
+        qa = 1.0;
+        qb = -3.0;
+        qc = 2.0;
+        cubic = new double[]{2.0, -3.0, -11.0, 6.0};
+        quartic = new double[]{1.0, -2.0, -13.0, 14.0, 24.0};
+
+        Random random = new Random(42);
+        batch = new double[5][BATCH];
+        for (double[] row : batch) {
+            for (int i = 0; i < BATCH; i++) {
+                row[i] = random.nextDouble() * 2 - 1;
+            }
+        }
+        cubicRoots = new double[3][BATCH];
+        quarticRoots = new double[4][BATCH];
+    }
+
+    @Benchmark
+    public Rational solveLinear() {
+        return EquationSolver.solveLinear(a, b);
+    }
+
+    @Benchmark
+    public double[] solveQuadratic() {
+        return EquationSolver.solveQuadratic(qa, qb, qc);
+    }
+
+    @Benchmark
+    public double[] solveCubic() {
+        return EquationSolver.solveCubic(cubic[0], cubic[1], cubic[2], cubic[3]);
+    }
+
+    @Benchmark
+    public double[][] solveCubicComplex() {
+        return EquationSolver.solveCubicComplex(cubic[0], cubic[1], cubic[2], cubic[3]);
+    }
+
+    @Benchmark
+    public double[][] solveCubicIterative() {
+        return durandKerner(cubic);
+    }
+
+    @Benchmark
+    public double[] solveQuartic() {
+        return EquationSolver.solveQuartic(quartic[0], quartic[1], quartic[2], quartic[3], quartic[4]);
+    }
+
+    @Benchmark
+    public double[][] solveQuarticComplex() {
+        return EquationSolver.solveQuarticComplex(quartic[0], quartic[1], quartic[2], quartic[3], quartic[4]);
+    }
+
+    @Benchmark
+    public double[][] solveQuarticIterative() {
+        return durandKerner(quartic);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public double[][] solveCubicBatch() {
+        EquationSolver.solveCubic(batch[0], batch[1], batch[2], batch[3], cubicRoots);
+        return cubicRoots;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public double solveCubicLoop() {
+        double sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            double[] r = EquationSolver.solveCubic(batch[0][i], batch[1][i], batch[2][i], batch[3][i]);
+            sum += r.length > 0 ? r[0] : 0.0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public double[][] solveQuarticBatch() {
+        EquationSolver.solveQuartic(batch[0], batch[1], batch[2], batch[3], batch[4], quarticRoots);
+        return quarticRoots;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public double solveQuarticLoop() {
+        double sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            double[] r = EquationSolver.solveQuartic(batch[0][i], batch[1][i], batch[2][i], batch[3][i], batch[4][i]);
+            sum += r.length > 0 ? r[0] : 0.0;
+        }
+        return sum;
+    }
+
+    /**
+     * Ітераційний метод Дюрана – Кернера (Вейєрштрасса) для порівняння:
+     * одночасне уточнення всіх коренів до збіжності.
+     *
+     * @param poly коефіцієнти від старшого до вільного члена
+     * @return масив {@code {re, im}} коренів
+     */
+    static double[][] durandKerner(double[] poly) {
+        int n = poly.length - 1;
+        double[] re = new double[n];
+        double[] im = new double[n];
+        // початкові наближення – степені 0.4 + 0.9i
+        double zr = 1.0;
+        double zi = 0.0;
+        for (int k = 0; k < n; k++) {
+            re[k] = zr;
+            im[k] = zi;
+            double t = zr * 0.4 - zi * 0.9;
+            zi = zr * 0.9 + zi * 0.4;
+            zr = t;
+        }
+        for (int iter = 0; iter < 500; iter++) {
+            double change = 0;
+            for (int k = 0; k < n; k++) {
+                double pr = 1.0;
+                double pi = 0.0;
+                for (int i = 1; i <= n; i++) {
+                    double c = poly[i] / poly[0];
+                    double t = pr * re[k] - pi * im[k] + c;
+                    pi = pr * im[k] + pi * re[k];
+                    pr = t;
+                }
+                double dr = 1.0;
+                double di = 0.0;
+                for (int j = 0; j < n; j++) {
+                    if (j != k) {
+                        double xr = re[k] - re[j];
+                        double xi = im[k] - im[j];
+                        double t = dr * xr - di * xi;
+                        di = dr * xi + di * xr;
+                        dr = t;
+                    }
+                }
+                double den = dr * dr + di * di;
+                double qr = (pr * dr + pi * di) / den;
+                double qi = (pi * dr - pr * di) / den;
+                re[k] -= qr;
+                im[k] -= qi;
+                change = Math.max(change, Math.abs(qr) + Math.abs(qi));
+            }
+            if (change < 1e-14) {
+                break;
+            }
+        }
+        return new double[][]{re, im};
+    }
+}
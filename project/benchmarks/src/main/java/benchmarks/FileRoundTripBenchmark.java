@@ -0,0 +1,134 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 16:30
+ *
+ * Бенчмарки збереження та зчитування поліномів: текстовий файл,
+ * розбір рядка {@code toString}, пакетна серіалізація та читання
+ * зі сховища {@code PolynomeStore}.
+ */
+
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import polynominal.Polynome;
+import polynominal.PolynomeStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки файлового введення-виведення {@link Polynome}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileRoundTripBenchmark {
+
+    @Param({"32", "2048"})
+    public int degree;
+
+    private Path dir;
+    private String textFile;
+    private Polynome p;
+    private String text;
+    private Polynome[] batch;
+    private PolynomeStore store;
+    private int storeSize;
+    private int next;
+
+    /**
+     * Створює тимчасовий каталог, поліноми та заповнене сховище.
+     *
+     * @throws IOException у разі помилки роботи з файлами
+     */
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        dir = Files.createTempDirectory("polynome-bench");
+        textFile = dir.resolve("poly.txt").toString();
+        p = PolynomeBenchmark.randomPolynome(random, degree);
+        text = p.toString();
+        batch = new Polynome[64];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = PolynomeBenchmark.randomPolynome(random, degree);
+        }
+        store = PolynomeStore.open(dir.resolve("store").toString());
+        storeSize = 1024;
+        for (int i = 0; i < storeSize; i++) {
+            store.append(batch[i % batch.length]);
+        }
+    }
+
+    /**
+     * Закриває сховище і видаляє тимчасові файли.
+     *
+     * @throws IOException у разі помилки роботи з файлами
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        try (var files = Files.list(dir)) {
+            for (Path f : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(f);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public Polynome textFileRoundTrip() throws IOException {
+        p.saveToFile(textFile);
+        return Polynome.readFromFile(textFile);
+    }
+
+    @Benchmark
+    public Polynome parseToString() {
+        return Polynome.parse(p.toString());
+    }
+
+    @Benchmark
+    public Polynome parseOnly() {
+        return Polynome.parse(text);
+    }
+
+    @Benchmark
+    public Polynome[] bulkRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Polynome.writeArray(new DataOutputStream(bytes), batch);
+        return Polynome.readArray(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Benchmark
+    public double storeView() {
+        next = (next + 1) & (storeSize - 1);
+        return store.view(next).valueAt(0.5);
+    }
+
+    @Benchmark
+    public Polynome storeGet() {
+        next = (next + 1) & (storeSize - 1);
+        return store.get(next);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 15:35
+ *
+ * Бенчмарки основних операцій класу {@code Polynome}: обчислення значення
+ * (циклом та згенерованим обчислювачем), множення (послідовне та паралельне),
+ * похідна, невизначений та визначений інтеграли.
+ * Степінь полінома задається параметром {@code degree}.
+ */
+
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynominal.Polynome;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Бенчмарки {@link Polynome}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomeBenchmark {
+
+    @Param({"4", "32", "256", "2048"})
+    public int degree;
+
+    private Polynome p;
+    private Polynome q;
+    private DoubleUnaryOperator compiled;
+    private double x;
+
+    /**
+     * Створює випадкові поліноми заданого степеня.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        p = randomPolynome(random, degree);
+        q = randomPolynome(random, degree);
+        compiled = p.compile();
+        x = 0.75;
+    }
+
+    /**
+     * Створює поліном з випадковими коефіцієнтами з {@code [-1, 1)}.
+     *
+     * @param random генератор випадкових чисел
+     * @param degree степінь полінома
+     * @return новий поліном
+     */
+    static Polynome randomPolynome(Random random, int degree) {
+        double[] c = new double[degree + 1];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = random.nextDouble() * 2 - 1;
+        }
+        c[degree] = 1.0;
+        return new Polynome(c);
+    }
+
+    @Benchmark
+    public double valueAt() {
+        return p.valueAt(x);
+    }
+
+    @Benchmark
+    public double valueAtCompiled() {
+        return compiled.applyAsDouble(x);
+    }
+
+    @Benchmark
+    public Polynome multiply() {
+        return p.multiply(q);
+    }
+
+    @Benchmark
+    public Polynome multiplyParallel() {
+        return p.multiplyParallel(q);
+    }
+
+    @Benchmark
+    public Polynome add() {
+        return p.add(q);
+    }
+
+    @Benchmark
+    public Polynome derivative() {
+        return p.derivative();
+    }
+
+    @Benchmark
+    public Polynome integral() {
+        return p.integral();
+    }
+
+    @Benchmark
+    public double definiteIntegral() {
+        return p.definiteIntegral(-0.5, x);
+    }
+}
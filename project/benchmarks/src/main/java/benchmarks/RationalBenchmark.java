@@ -0,0 +1,96 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 15:50
+ *
+ * Бенчмарки ланцюжків арифметичних операцій класу {@code Rational}.
+ * Довжина ланцюжка задається параметром {@code length}; значення
+ * підібрані так, щоб проміжні результати не виходили за межі {@code long}.
+ */
+
+package benchmarks;
+
+import numbers.Rational;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки {@link Rational}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RationalBenchmark {
+
+    @Param({"16", "256"})
+    public int length;
+
+    private Rational[] values;
+
+    /**
+     * Створює масив дробів {@code 1/2, 2/3, 3/4, ...}.
+     */
+    @Setup
+    public void setup() {
+        values = new Rational[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = new Rational(i + 1, i + 2);
+        }
+    }
+
+    /**
+     * Телескопічний добуток {@code 1/2 * 2/3 * ... = 1/(n+1)}.
+     *
+     * @return добуток
+     */
+    @Benchmark
+    public Rational multiplyChain() {
+        Rational acc = new Rational(1, 1);
+        for (Rational r : values) {
+            acc = acc.multiply(r);
+        }
+        return acc;
+    }
+
+    /**
+     * Сума з відніманням та діленням: {@code ((acc + r) - r) / r * r}.
+     *
+     * @return результат ланцюжка
+     */
+    @Benchmark
+    public Rational mixedChain() {
+        Rational acc = new Rational(1, 3);
+        for (Rational r : values) {
+            acc = acc.add(r).subtract(r).divide(r).multiply(r);
+        }
+        return acc;
+    }
+
+    /**
+     * Розбір і форматування дробів.
+     *
+     * @return останній розібраний дріб
+     */
+    @Benchmark
+    public Rational parseToString() {
+        Rational last = null;
+        for (Rational r : values) {
+            last = Rational.parse(r.toString());
+        }
+        return last;
+    }
+}
@@ -4,25 +4,69 @@
  * Час виконання: 14:43
  *
  * Статичний клас {@code EquationSolver} містить методи для розв’язання
- * лінійних та квадратних рівнянь.
+ * лінійних, квадратних, кубічних рівнянь та рівнянь четвертого степеня.
  *
  * Підтримує:
  * <ul>
  *   <li>розв’язання лінійного рівняння {@code a x + b = 0} у типі {@code Rational};</li>
  *   <li>розв’язання квадратного рівняння {@code a x^2 + bx + c = 0} у
  *       дійсних числах ({@code double});</li>
+ *   <li>розв’язання кубічного рівняння (формула Кардано / тригонометрична
+ *       формула) та рівняння четвертого степеня (метод Феррарі) у замкненому
+ *       вигляді з уточненням коренів кроками Ньютона – дійсні та комплексні
+ *       корені, а також пакетні версії для масивів коефіцієнтів.</li>
  * </ul>
  */
 
 package equations;
 
+import metrics.Metrics;
+import metrics.Operation;
 import numbers.Rational;
 
+import java.util.Arrays;
+
 /**
- * Набір статичних методів для розв’язання лінійних та квадратних рівнянь.
+ * Набір статичних методів для розв’язання алгебраїчних рівнянь степеня до 4.
  */
 public class EquationSolver {
 
+    /** Кількість кроків Ньютона для уточнення коренів. */
+    private static final int POLISH_STEPS = 2;
+
+    /**
+     * Найбільша кількість кроків Ньютона при уточненні окремого кореня у
+     * комплексній арифметиці; ітерації припиняються раніше, щойно значення
+     * полінома перестає зменшуватися. Поблизу кратного кореня метод Ньютона
+     * збігається лише лінійно, тому кроків більше, ніж {@link #POLISH_STEPS}.
+     */
+    private static final int MAX_POLISH_STEPS = 8;
+
+    /**
+     * Відносний поріг, нижче якого дискримінант квадратного множника
+     * вважається нульовим (кратний корінь замість пари близьких комплексних).
+     */
+    private static final double DISCRIMINANT_TOLERANCE = 1e-12;
+
+    /** Одинична похибка округлення {@code double}. */
+    private static final double UNIT_ROUNDOFF = 0x1p-53;
+
+    /**
+     * Запас, з яким уявна частина кореня та відстані між коренями порівнюються
+     * з оцінкою похибки кореня {@link #rootRadius}, а значення полінома – з
+     * оцінкою похибки його обчислення {@link #evaluationError}.
+     */
+    private static final double ROOT_ERROR_FACTOR = 8.0;
+
+    /** Біноміальні коефіцієнти {@code C(j, k)} для {@code j, k <= 4}. */
+    private static final double[][] BINOMIAL = {
+            {1},
+            {1, 1},
+            {1, 2, 1},
+            {1, 3, 3, 1},
+            {1, 4, 6, 4, 1}
+    };
+
     /**
      * Розв’язує лінійне рівняння {@code a x + b = 0} у раціональних числах.
      *
@@ -35,8 +79,11 @@ public class EquationSolver {
         if (a.getNumerator() == 0) {
             throw new ArithmeticException("Coefficient a must not be zero");
         }
+        long start = Metrics.start();
         Rational minusB = new Rational(-b.getNumerator(), b.getDenominator());
-        return minusB.divide(a);
+        Rational res = minusB.divide(a);
+        Metrics.record(Operation.SOLVE, 1, "linear", start);
+        return res;
     }
 
     /**
@@ -48,6 +95,21 @@ public class EquationSolver {
      * @return масив коренів (0, 1 або 2 елементи)
      */
     public static double[] solveQuadratic(double a, double b, double c) {
+        long start = Metrics.start();
+        double[] roots = quadraticRoots(a, b, c);
+        Metrics.record(Operation.SOLVE, 2, "quadratic", start);
+        return roots;
+    }
+
+    /**
+     * Обчислює корені квадратного рівняння {@code a x^2 + b x + c = 0}.
+     *
+     * @param a коефіцієнт при {@code x^2}
+     * @param b коефіцієнт при {@code x}
+     * @param c вільний член
+     * @return масив коренів (0, 1 або 2 елементи)
+     */
+    private static double[] quadraticRoots(double a, double b, double c) {
         if (a == 0.0) {
             if (b == 0.0) {
                 return new double[]{}; // немає однозначного рішення
@@ -66,4 +128,590 @@ public class EquationSolver {
             return new double[]{x1, x2};
         }
     }
+
+    /**
+     * Розв’язує кубічне рівняння {@code a x^3 + b x^2 + c x + d = 0}.
+     * Кратні корені (а також корені, які не можна розрізнити з урахуванням
+     * похибок округлення) повертаються один раз – як середнє значення групи.
+     *
+     * @param a коефіцієнт при {@code x^3}
+     * @param b коефіцієнт при {@code x^2}
+     * @param c коефіцієнт при {@code x}
+     * @param d вільний член
+     * @return дійсні корені у порядку зростання (від 0 до 3 елементів)
+     */
+    public static double[] solveCubic(double a, double b, double c, double d) {
+        long start = Metrics.start();
+        double[] re = new double[3];
+        double[] im = new double[3];
+        int n = cubicRoots(a, b, c, d, re, im);
+        double[] poly = {a, b, c, d};
+        polish(poly, re, im, n, new double[8]);
+        double[] roots = realRoots(poly, re, im, n);
+        Metrics.record(Operation.SOLVE, 3, "cubic", start);
+        return roots;
+    }
+
+    /**
+     * Знаходить усі корені кубічного рівняння {@code a x^3 + b x^2 + c x + d = 0}
+     * з урахуванням кратності.
+     *
+     * @param a коефіцієнт при {@code x^3}
+     * @param b коефіцієнт при {@code x^2}
+     * @param c коефіцієнт при {@code x}
+     * @param d вільний член
+     * @return масив {@code {re, im}} дійсних та уявних частин коренів,
+     *         упорядкованих за дійсною, а потім за уявною частиною
+     */
+    public static double[][] solveCubicComplex(double a, double b, double c, double d) {
+        long start = Metrics.start();
+        double[] re = new double[3];
+        double[] im = new double[3];
+        int n = cubicRoots(a, b, c, d, re, im);
+        polish(new double[]{a, b, c, d}, re, im, n, new double[8]);
+        double[][] roots = complexRoots(re, im, n);
+        Metrics.record(Operation.SOLVE, 3, "cubic", start);
+        return roots;
+    }
+
+    /**
+     * Розв’язує рівняння четвертого степеня {@code a x^4 + b x^3 + c x^2 + d x + e = 0}.
+     * Кратні корені (а також корені, які не можна розрізнити з урахуванням
+     * похибок округлення) повертаються один раз – як середнє значення групи.
+     *
+     * @param a коефіцієнт при {@code x^4}
+     * @param b коефіцієнт при {@code x^3}
+     * @param c коефіцієнт при {@code x^2}
+     * @param d коефіцієнт при {@code x}
+     * @param e вільний член
+     * @return дійсні корені у порядку зростання (від 0 до 4 елементів)
+     */
+    public static double[] solveQuartic(double a, double b, double c, double d, double e) {
+        long start = Metrics.start();
+        double[] re = new double[4];
+        double[] im = new double[4];
+        int n = quarticRoots(a, b, c, d, e, re, im);
+        double[] poly = {a, b, c, d, e};
+        polish(poly, re, im, n, new double[8]);
+        double[] roots = realRoots(poly, re, im, n);
+        Metrics.record(Operation.SOLVE, 4, "quartic", start);
+        return roots;
+    }
+
+    /**
+     * Знаходить усі корені рівняння четвертого степеня
+     * {@code a x^4 + b x^3 + c x^2 + d x + e = 0} з урахуванням кратності.
+     *
+     * @param a коефіцієнт при {@code x^4}
+     * @param b коефіцієнт при {@code x^3}
+     * @param c коефіцієнт при {@code x^2}
+     * @param d коефіцієнт при {@code x}
+     * @param e вільний член
+     * @return масив {@code {re, im}} дійсних та уявних частин коренів,
+     *         упорядкованих за дійсною, а потім за уявною частиною
+     */
+    public static double[][] solveQuarticComplex(double a, double b, double c, double d, double e) {
+        long start = Metrics.start();
+        double[] re = new double[4];
+        double[] im = new double[4];
+        int n = quarticRoots(a, b, c, d, e, re, im);
+        polish(new double[]{a, b, c, d, e}, re, im, n, new double[8]);
+        double[][] roots = complexRoots(re, im, n);
+        Metrics.record(Operation.SOLVE, 4, "quartic", start);
+        return roots;
+    }
+
+    /**
+     * Розв’язує багато кубічних рівнянь, заданих масивами коефіцієнтів
+     * (структура масивів). Рядок {@code roots[k]} містить {@code k}-й дійсний
+     * корінь кожного рівняння у порядку зростання або {@code NaN}, якщо коренів
+     * менше; кратні корені записуються один раз, як і у {@link #solveCubic(double, double, double, double)}.
+     * Перед відбором дійсних коренів кожен корінь уточнюється кроками Ньютона,
+     * а відібрані корені – ще й окремим проходом по всіх рівняннях, цикл якого
+     * не має розгалужень і векторизується.
+     *
+     * @param a     коефіцієнти при {@code x^3}
+     * @param b     коефіцієнти при {@code x^2}
+     * @param c     коефіцієнти при {@code x}
+     * @param d     вільні члени
+     * @param roots масив щонайменше з 3 рядків довжиною не меншою за {@code a.length}
+     * @throws IllegalArgumentException якщо розміри масивів не узгоджені
+     */
+    public static void solveCubic(double[] a, double[] b, double[] c, double[] d, double[][] roots) {
+        int n = a.length;
+        checkBatch(n, roots, 3, b, c, d);
+        long start = Metrics.start();
+        double[] re = new double[3];
+        double[] im = new double[3];
+        double[] poly = new double[4];
+        double[] work = new double[8];
+        for (int i = 0; i < n; i++) {
+            int count = cubicRoots(a[i], b[i], c[i], d[i], re, im);
+            poly[0] = a[i];
+            poly[1] = b[i];
+            poly[2] = c[i];
+            poly[3] = d[i];
+            polish(poly, re, im, count, work);
+            storeRealRoots(poly, re, im, count, roots, i);
+        }
+        for (int k = 0; k < 3; k++) {
+            double[] r = roots[k];
+            for (int iter = 0; iter < POLISH_STEPS; iter++) {
+                for (int i = 0; i < n; i++) {
+                    double x = r[i];
+                    double f = ((a[i] * x + b[i]) * x + c[i]) * x + d[i];
+                    double df = (3.0 * a[i] * x + 2.0 * b[i]) * x + c[i];
+                    double y = x - f / df;
+                    double g = ((a[i] * y + b[i]) * y + c[i]) * y + d[i];
+                    r[i] = Math.abs(g) < Math.abs(f) ? y : x;
+                }
+            }
+        }
+        Metrics.record(Operation.SOLVE, 3, "cubic-batch", start);
+    }
+
+    /**
+     * Розв’язує багато рівнянь четвертого степеня, заданих масивами коефіцієнтів
+     * (структура масивів). Рядок {@code roots[k]} містить {@code k}-й дійсний
+     * корінь кожного рівняння у порядку зростання або {@code NaN}, якщо коренів
+     * менше; кратні корені записуються один раз, як і у {@link #solveCubic(double, double, double, double)}.
+     * Корені уточнюються так само, як у {@link #solveCubic(double[], double[], double[], double[], double[][])}.
+     *
+     * @param a     коефіцієнти при {@code x^4}
+     * @param b     коефіцієнти при {@code x^3}
+     * @param c     коефіцієнти при {@code x^2}
+     * @param d     коефіцієнти при {@code x}
+     * @param e     вільні члени
+     * @param roots масив щонайменше з 4 рядків довжиною не меншою за {@code a.length}
+     * @throws IllegalArgumentException якщо розміри масивів не узгоджені
+     */
+    public static void solveQuartic(double[] a, double[] b, double[] c, double[] d, double[] e,
+                                    double[][] roots) {
+        int n = a.length;
+        checkBatch(n, roots, 4, b, c, d, e);
+        long start = Metrics.start();
+        double[] re = new double[4];
+        double[] im = new double[4];
+        double[] poly = new double[5];
+        double[] work = new double[8];
+        for (int i = 0; i < n; i++) {
+            int count = quarticRoots(a[i], b[i], c[i], d[i], e[i], re, im);
+            poly[0] = a[i];
+            poly[1] = b[i];
+            poly[2] = c[i];
+            poly[3] = d[i];
+            poly[4] = e[i];
+            polish(poly, re, im, count, work);
+            storeRealRoots(poly, re, im, count, roots, i);
+        }
+        for (int k = 0; k < 4; k++) {
+            double[] r = roots[k];
+            for (int iter = 0; iter < POLISH_STEPS; iter++) {
+                for (int i = 0; i < n; i++) {
+                    double x = r[i];
+                    double f = (((a[i] * x + b[i]) * x + c[i]) * x + d[i]) * x + e[i];
+                    double df = ((4.0 * a[i] * x + 3.0 * b[i]) * x + 2.0 * c[i]) * x + d[i];
+                    double y = x - f / df;
+                    double g = (((a[i] * y + b[i]) * y + c[i]) * y + d[i]) * y + e[i];
+                    r[i] = Math.abs(g) < Math.abs(f) ? y : x;
+                }
+            }
+        }
+        Metrics.record(Operation.SOLVE, 4, "quartic-batch", start);
+    }
+
+    /**
+     * Перевіряє розміри масивів пакетного розв’язання.
+     */
+    private static void checkBatch(int n, double[][] roots, int rows, double[]... coeffs) {
+        for (double[] c : coeffs) {
+            if (c.length != n) {
+                throw new IllegalArgumentException("Coefficient arrays must have equal length");
+            }
+        }
+        if (roots.length < rows) {
+            throw new IllegalArgumentException("roots must have at least " + rows + " rows");
+        }
+        for (int k = 0; k < rows; k++) {
+            if (roots[k].length < n) {
+                throw new IllegalArgumentException("roots row " + k + " is shorter than coefficient arrays");
+            }
+        }
+    }
+
+    /**
+     * Знаходить корені {@code a x^2 + b x + c = 0} з дійсними коефіцієнтами.
+     * Дійсні корені обчислюються без віднімання близьких чисел
+     * ({@code q = -(b + sign(b)·√D) / 2}, {@code x1 = q / a}, {@code x2 = c / q}).
+     *
+     * @return кількість записаних коренів, починаючи з {@code off}
+     */
+    private static int quadraticFactor(double a, double b, double c, double[] re, double[] im, int off) {
+        if (a == 0.0) {
+            if (b == 0.0) {
+                return 0;
+            }
+            re[off] = -c / b;
+            im[off] = 0.0;
+            return 1;
+        }
+        double disc = b * b - 4.0 * a * c;
+        if (Math.abs(disc) <= DISCRIMINANT_TOLERANCE * Math.max(b * b, Math.abs(4.0 * a * c))) {
+            disc = 0.0;
+        }
+        if (disc >= 0.0) {
+            double q = -0.5 * (b + Math.copySign(Math.sqrt(disc), b));
+            double x1 = q / a;
+            re[off] = x1;
+            re[off + 1] = q != 0.0 ? c / q : x1;
+        } else {
+            double x = -b / (2.0 * a);
+            double y = Math.abs(Math.sqrt(-disc) / (2.0 * a));
+            re[off] = x;
+            re[off + 1] = x;
+            im[off] = -y;
+            im[off + 1] = y;
+            return 2;
+        }
+        im[off] = 0.0;
+        im[off + 1] = 0.0;
+        return 2;
+    }
+
+    /**
+     * Знаходить корені кубічного рівняння без уточнення. Для трьох дійсних
+     * коренів використовується тригонометрична формула, інакше – формула
+     * Кардано для дійсного кореня з подальшим діленням на {@code (x - x1)}
+     * і стійким розв’язанням квадратного рівняння.
+     *
+     * @return кількість коренів з урахуванням кратності
+     */
+    private static int cubicRoots(double a, double b, double c, double d, double[] re, double[] im) {
+        if (a == 0.0) {
+            return quadraticFactor(b, c, d, re, im, 0);
+        }
+        double bn = b / a;
+        double cn = c / a;
+        double dn = d / a;
+        double shift = bn / 3.0;
+        // t^3 + p t + q = 0 після заміни x = t - b / 3a
+        double p = cn - bn * shift;
+        double q = dn - shift * cn + 2.0 * shift * shift * shift;
+        double qq = p / 3.0;
+        double r = -q / 2.0;
+        double disc = qq * qq * qq + r * r;
+        if (disc < 0.0) {
+            double s = Math.sqrt(-qq);
+            double theta = Math.acos(Math.max(-1.0, Math.min(1.0, r / (s * s * s))));
+            for (int k = 0; k < 3; k++) {
+                re[k] = 2.0 * s * Math.cos((theta + 2.0 * Math.PI * k) / 3.0) - shift;
+                im[k] = 0.0;
+            }
+            return 3;
+        }
+        double u = Math.cbrt(r + Math.copySign(Math.sqrt(disc), r));
+        double v = u == 0.0 ? 0.0 : -qq / u;
+        double x1 = u + v - shift;
+        for (int iter = 0; iter < POLISH_STEPS; iter++) {
+            double f = ((x1 + bn) * x1 + cn) * x1 + dn;
+            double df = (3.0 * x1 + 2.0 * bn) * x1 + cn;
+            double y = x1 - f / df;
+            double g = ((y + bn) * y + cn) * y + dn;
+            if (!(Math.abs(g) < Math.abs(f))) {
+                break;
+            }
+            x1 = y;
+        }
+        re[0] = x1;
+        im[0] = 0.0;
+        double b1 = bn + x1;
+        return 1 + quadraticFactor(1.0, b1, cn + x1 * b1, re, im, 1);
+    }
+
+    /**
+     * Знаходить корені рівняння четвертого степеня без уточнення методом Феррарі:
+     * після заміни {@code x = y - b / 4a} рівняння {@code y^4 + p y^2 + q y + r = 0}
+     * розкладається на два квадратні множники за додатним коренем
+     * резольвенти {@code m^3 + p m^2 + (p^2/4 - r) m - q^2/8 = 0}.
+     *
+     * @return кількість коренів з урахуванням кратності
+     */
+    private static int quarticRoots(double a, double b, double c, double d, double e,
+                                    double[] re, double[] im) {
+        if (a == 0.0) {
+            return cubicRoots(b, c, d, e, re, im);
+        }
+        double bn = b / a;
+        double cn = c / a;
+        double dn = d / a;
+        double en = e / a;
+        double shift = bn / 4.0;
+        double s2 = shift * shift;
+        double p = cn - 6.0 * s2;
+        double q = dn - 2.0 * cn * shift + 8.0 * s2 * shift;
+        double r = en - dn * shift + cn * s2 - 3.0 * s2 * s2;
+
+        double scale = Math.max(Math.sqrt(Math.abs(p)), Math.sqrt(Math.sqrt(Math.abs(r))));
+        double m = 0.0;
+        if (Math.abs(q) > DISCRIMINANT_TOLERANCE * scale * scale * scale) {
+            double c2 = p * p / 4.0 - r;
+            double c3 = -q * q / 8.0;
+            int n = cubicRoots(1.0, p, c2, c3, re, im);
+            m = Double.NEGATIVE_INFINITY;
+            for (int k = 0; k < n; k++) {
+                if (im[k] == 0.0 && re[k] > m) {
+                    m = re[k];
+                }
+            }
+            for (int iter = 0; iter < POLISH_STEPS; iter++) {
+                double f = ((m + p) * m + c2) * m + c3;
+                double df = (3.0 * m + 2.0 * p) * m + c2;
+                double y = m - f / df;
+                double g = ((y + p) * y + c2) * y + c3;
+                if (!(Math.abs(g) < Math.abs(f))) {
+                    break;
+                }
+                m = y;
+            }
+        }
+        if (m > 0.0) {
+            double s = Math.sqrt(2.0 * m);
+            double t = q / (2.0 * s);
+            quadraticFactor(1.0, -s, p / 2.0 + m + t, re, im, 0);
+            quadraticFactor(1.0, s, p / 2.0 + m - t, re, im, 2);
+        } else {
+            // біквадратне рівняння: y^2 = z, z^2 + p z + r = 0
+            quadraticFactor(1.0, p, r, re, im, 0);
+            for (int k = 1; k >= 0; k--) {
+                double zr = re[k];
+                double zi = im[k];
+                double mod = Math.hypot(zr, zi);
+                double wr = Math.sqrt(Math.max(0.0, (mod + zr) / 2.0));
+                double wi = Math.copySign(Math.sqrt(Math.max(0.0, (mod - zr) / 2.0)), zi);
+                re[2 * k] = wr;
+                im[2 * k] = wi;
+                re[2 * k + 1] = -wr;
+                im[2 * k + 1] = -wi;
+            }
+        }
+        for (int k = 0; k < 4; k++) {
+            re[k] -= shift;
+        }
+        return 4;
+    }
+
+    /**
+     * Уточнює корені кроками Ньютона у комплексній арифметиці. Крок приймається,
+     * лише якщо модуль значення полінома зменшується; дійсні корені
+     * залишаються дійсними.
+     *
+     * @param poly коефіцієнти від старшого до вільного члена
+     * @param work робочий масив щонайменше з 8 елементів
+     */
+    private static void polish(double[] poly, double[] re, double[] im, int n, double[] work) {
+        int lead = leading(poly);
+        for (int k = 0; k < n; k++) {
+            double xr = re[k];
+            double xi = im[k];
+            evaluate(poly, lead, xr, xi, work, 0);
+            for (int iter = 0; iter < MAX_POLISH_STEPS; iter++) {
+                double den = work[2] * work[2] + work[3] * work[3];
+                if (den == 0.0) {
+                    break;
+                }
+                double yr = xr - (work[0] * work[2] + work[1] * work[3]) / den;
+                double yi = xi - (work[1] * work[2] - work[0] * work[3]) / den;
+                evaluate(poly, lead, yr, yi, work, 4);
+                if (!(Math.hypot(work[4], work[5]) < Math.hypot(work[0], work[1]))) {
+                    break;
+                }
+                xr = yr;
+                xi = yi;
+                System.arraycopy(work, 4, work, 0, 4);
+            }
+            re[k] = xr;
+            im[k] = xi;
+        }
+    }
+
+    /**
+     * Обчислює значення полінома та його похідної у комплексній точці за схемою
+     * Горнера і записує {@code {Re P, Im P, Re P', Im P'}} у {@code out}, починаючи з {@code off}.
+     */
+    private static void evaluate(double[] poly, int from, double xr, double xi, double[] out, int off) {
+        double pr = poly[from];
+        double pi = 0.0;
+        double dr = 0.0;
+        double di = 0.0;
+        for (int i = from + 1; i < poly.length; i++) {
+            double ndr = dr * xr - di * xi + pr;
+            di = dr * xi + di * xr + pi;
+            dr = ndr;
+            double npr = pr * xr - pi * xi + poly[i];
+            pi = pr * xi + pi * xr;
+            pr = npr;
+        }
+        out[off] = pr;
+        out[off + 1] = pi;
+        out[off + 2] = dr;
+        out[off + 3] = di;
+    }
+
+    /**
+     * Відбирає дійсні корені, сортує їх і об’єднує кратні.
+     */
+    private static double[] realRoots(double[] poly, double[] re, double[] im, int n) {
+        return Arrays.copyOf(re, distinctRealRoots(poly, re, im, n));
+    }
+
+    /**
+     * Упорядковує корені за дійсною, а потім за уявною частиною.
+     */
+    private static double[][] complexRoots(double[] re, double[] im, int n) {
+        Integer[] order = new Integer[n];
+        for (int k = 0; k < n; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (i, j) -> re[i] != re[j] ? Double.compare(re[i], re[j]) : Double.compare(im[i], im[j]));
+        double[][] res = new double[2][n];
+        for (int k = 0; k < n; k++) {
+            res[0][k] = re[order[k]];
+            res[1][k] = im[order[k]];
+        }
+        return res;
+    }
+
+    /**
+     * Записує дійсні корені одного рівняння у стовпець {@code i} пакетного результату,
+     * доповнюючи його значеннями {@code NaN}. Масиви {@code re} та {@code im}
+     * використовуються як робочі, тому пакетний цикл не створює нових об’єктів.
+     */
+    private static void storeRealRoots(double[] poly, double[] re, double[] im, int n, double[][] roots, int i) {
+        int distinct = distinctRealRoots(poly, re, im, n);
+        for (int k = 0; k < re.length; k++) {
+            roots[k][i] = k < distinct ? re[k] : Double.NaN;
+        }
+    }
+
+    /**
+     * Переносить на початок {@code re} дійсні корені у порядку зростання і
+     * замінює кожну групу кратних коренів їх середнім значенням. Нових масивів
+     * не створює.
+     *
+     * <p>Корінь вважається дійсним, якщо його уявна частина не перевищує
+     * оцінку похибки {@link #rootRadius} у точці {@code Re z} (з запасом
+     * {@link #ROOT_ERROR_FACTOR}). Сусідні дійсні корені об’єднуються в групу,
+     * якщо інтервал похибки у середньому групи покриває кожен її корінь,
+     * а значення полінома в середньому не перевищує похибки його обчислення.
+     * Оцінка береться саме в середньому: для кратного кореня похідна там
+     * майже нульова, тоді як у кожному з обчислених наближень вона
+     * пропорційна відстані між ними і занижувала б оцінку.
+     *
+     * @param poly коефіцієнти від старшого до вільного члена
+     * @return кількість різних дійсних коренів
+     */
+    private static int distinctRealRoots(double[] poly, double[] re, double[] im, int n) {
+        int count = 0;
+        for (int k = 0; k < n; k++) {
+            double x = re[k];
+            double radius = rootRadius(poly, x);
+            if (Math.abs(im[k]) <= ROOT_ERROR_FACTOR * radius) {
+                int j = count++;
+                while (j > 0 && re[j - 1] > x) {
+                    re[j] = re[j - 1];
+                    j--;
+                }
+                re[j] = x;
+            }
+        }
+        int distinct = 0;
+        int from = 0;
+        double sum = count > 0 ? re[0] : 0.0;
+        for (int k = 1; k <= count; k++) {
+            if (k < count) {
+                double mean = (sum + re[k]) / (k + 1 - from);
+                double radius = ROOT_ERROR_FACTOR * rootRadius(poly, mean);
+                if (mean - re[from] <= radius && re[k] - mean <= radius
+                        && Math.abs(valueAt(poly, mean)) <= ROOT_ERROR_FACTOR * evaluationError(poly, mean)) {
+                    sum += re[k];
+                    continue;
+                }
+            }
+            re[distinct++] = sum / (k - from);
+            if (k < count) {
+                from = k;
+                sum = re[k];
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Оцінює похибку дійсного кореня {@code x}: найменше з
+     * {@code (e / |c_k|)^(1/k)}, де {@code c_k = P^(k)(x) / k!} – коефіцієнти
+     * Тейлора у точці {@code x}, а {@code e} – {@link #evaluationError}.
+     * Для простого кореня це {@code e / |P'(x)|}, для кратності {@code m} –
+     * {@code (e / |c_m|)^(1/m)}, тобто межа, у якій похибки округлення
+     * не дозволяють відрізнити корені один від одного.
+     *
+     * @param poly коефіцієнти від старшого до вільного члена
+     */
+    private static double rootRadius(double[] poly, double x) {
+        int lead = leading(poly);
+        int degree = poly.length - 1 - lead;
+        double e = evaluationError(poly, x);
+        double radius = Double.POSITIVE_INFINITY;
+        for (int k = 1; k <= degree; k++) {
+            double ck = 0.0;
+            for (int j = degree; j >= k; j--) {
+                ck = ck * x + BINOMIAL[j][k] * poly[poly.length - 1 - j];
+            }
+            if (ck != 0.0) {
+                radius = Math.min(radius, Math.pow(e / Math.abs(ck), 1.0 / k));
+            }
+        }
+        return radius;
+    }
+
+    /**
+     * Обчислює за схемою Горнера межу похибки округлення значення полінома
+     * у точці {@code x} (оцінка, що накопичується під час обчислення).
+     *
+     * @param poly коефіцієнти від старшого до вільного члена
+     */
+    private static double evaluationError(double[] poly, double x) {
+        int lead = leading(poly);
+        double y = poly[lead];
+        double mu = Math.abs(y) / 2.0;
+        for (int i = lead + 1; i < poly.length; i++) {
+            y = y * x + poly[i];
+            mu = mu * Math.abs(x) + Math.abs(y);
+        }
+        return UNIT_ROUNDOFF * (2.0 * mu - Math.abs(y));
+    }
+
+    /**
+     * Обчислює значення полінома у дійсній точці за схемою Горнера.
+     *
+     * @param poly коефіцієнти від старшого до вільного члена
+     */
+    private static double valueAt(double[] poly, double x) {
+        int lead = leading(poly);
+        double y = poly[lead];
+        for (int i = lead + 1; i < poly.length; i++) {
+            y = y * x + poly[i];
+        }
+        return y;
+    }
+
+    /**
+     * Повертає індекс старшого ненульового коефіцієнта.
+     */
+    private static int leading(double[] poly) {
+        int lead = 0;
+        while (lead < poly.length - 1 && poly[lead] == 0.0) {
+            lead++;
+        }
+        return lead;
+    }
 }
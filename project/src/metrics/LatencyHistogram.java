@@ -0,0 +1,62 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 17:10
+ *
+ * Клас {@code LatencyHistogram} – потокобезпечна гістограма затримок
+ * для шару метрик {@link Metrics}.
+ */
+
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Потокобезпечна гістограма затримок з логарифмічними кошиками.
+ *
+ * <p>Кошик {@code k} містить виміри від {@code 2^(k-1)} до {@code 2^k - 1} наносекунд.
+ */
+final class LatencyHistogram {
+
+    static final int BUCKETS = 64;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Додає один вимір.
+     *
+     * @param nanos тривалість у наносекундах
+     */
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        count.increment();
+        totalNanos.add(nanos);
+        buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(nanos));
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Створює незмінний знімок стану гістограми.
+     *
+     * @param operation    операція
+     * @param degreeBucket кошик степеня
+     * @return знімок
+     */
+    OperationStats snapshot(Operation operation, int degreeBucket) {
+        long[] b = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            b[i] = buckets.get(i);
+        }
+        return new OperationStats(operation, degreeBucket, count.sum(), totalNanos.sum(), maxNanos.get(), b);
+    }
+}
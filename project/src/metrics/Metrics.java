@@ -0,0 +1,200 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 17:10
+ *
+ * Клас {@code Metrics} – необов’язковий шар інструментування бібліотеки.
+ * Збирає лічильники та гістограми затримок за операцією і кошиком степеня
+ * полінома, а також генерує події JFR {@code polynome.Operation}.
+ *
+ * Збір метрик вимкнений за замовчуванням; його вмикає властивість
+ * {@code -Dpolynome.metrics=true} або виклик {@link Metrics#enable()}.
+ * Події JFR записуються незалежно від цього, якщо увімкнені у запису JFR.
+ * Коли і метрики, і подія вимкнені, інструментований метод виконує лише
+ * одне читання прапорця і одне порівняння.
+ */
+
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Статичний фасад для запису та читання метрик.
+ *
+ * <p>Типове використання в інструментованому методі:
+ * <pre>{@code
+ * long start = Metrics.start();
+ * ... // робота
+ * Metrics.record(Operation.POLYNOME_MULTIPLY, degree, start);
+ * }</pre>
+ */
+public final class Metrics {
+
+    /** Значення, яке повертає {@link #start()}, коли вимірювати нічого не треба. */
+    public static final long DISABLED = Long.MIN_VALUE;
+
+    private static final int DEGREE_BUCKETS = 33;
+
+    private static final OperationEvent EVENT_PROBE = new OperationEvent();
+
+    private static volatile boolean enabled = Boolean.getBoolean("polynome.metrics");
+
+    private static volatile AtomicReferenceArray<LatencyHistogram>[] table = newTable();
+
+    private Metrics() {
+    }
+
+    /**
+     * Вмикає збір метрик.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Вимикає збір метрик. Уже зібрані дані зберігаються.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Перевіряє, чи увімкнений збір метрик.
+     *
+     * @return {@code true}, якщо метрики збираються
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Очищає всі зібрані метрики.
+     */
+    public static void reset() {
+        table = newTable();
+    }
+
+    /**
+     * Починає вимірювання операції.
+     *
+     * @return мітка часу для {@link #record} або {@link #DISABLED}
+     */
+    public static long start() {
+        return enabled || EVENT_PROBE.isEnabled() ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Завершує вимірювання операції над поліномом.
+     *
+     * @param operation операція
+     * @param degree    степінь полінома (для бінарних операцій – більший зі степенів)
+     * @param start     значення, отримане з {@link #start()}
+     */
+    public static void record(Operation operation, int degree, long start) {
+        if (start != DISABLED) {
+            finish(operation, degree, null, start);
+        }
+    }
+
+    /**
+     * Завершує вимірювання операції з додатковим описом
+     * (наприклад, ім’ям файлу або типом рівняння), який потрапляє у подію JFR.
+     *
+     * @param operation операція
+     * @param degree    степінь полінома
+     * @param detail    опис
+     * @param start     значення, отримане з {@link #start()}
+     */
+    public static void record(Operation operation, int degree, String detail, long start) {
+        if (start != DISABLED) {
+            finish(operation, degree, detail, start);
+        }
+    }
+
+    /**
+     * Повертає знімки метрик для всіх операцій і кошиків степенів,
+     * у яких був хоча б один виклик.
+     *
+     * @return список знімків
+     */
+    public static List<OperationStats> snapshot() {
+        AtomicReferenceArray<LatencyHistogram>[] t = table;
+        List<OperationStats> res = new ArrayList<>();
+        for (Operation op : Operation.values()) {
+            AtomicReferenceArray<LatencyHistogram> row = t[op.ordinal()];
+            for (int b = 0; b < DEGREE_BUCKETS; b++) {
+                LatencyHistogram h = row.get(b);
+                if (h != null) {
+                    res.add(h.snapshot(op, b));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Записує вимір у гістограму та подію JFR.
+     *
+     * @param operation операція
+     * @param degree    степінь полінома
+     * @param detail    опис або {@code null}
+     * @param start     мітка часу початку
+     */
+    private static void finish(Operation operation, int degree, String detail, long start) {
+        long nanos = System.nanoTime() - start;
+        if (enabled) {
+            histogram(operation, degreeBucket(degree)).record(nanos);
+        }
+        OperationEvent event = new OperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation.name();
+            event.degree = degree;
+            event.detail = detail;
+            event.latency = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Повертає гістограму для операції та кошика степеня, створюючи її за потреби.
+     *
+     * @param operation операція
+     * @param bucket    кошик степеня
+     * @return гістограма
+     */
+    private static LatencyHistogram histogram(Operation operation, int bucket) {
+        AtomicReferenceArray<LatencyHistogram> row = table[operation.ordinal()];
+        LatencyHistogram h = row.get(bucket);
+        if (h == null) {
+            row.compareAndSet(bucket, null, new LatencyHistogram());
+            h = row.get(bucket);
+        }
+        return h;
+    }
+
+    /**
+     * Обчислює логарифмічний кошик степеня: {@code 0}, {@code 1}, {@code 2..3}, {@code 4..7}, ...
+     *
+     * @param degree степінь полінома
+     * @return номер кошика
+     */
+    static int degreeBucket(int degree) {
+        return degree <= 0 ? 0 : 32 - Integer.numberOfLeadingZeros(degree);
+    }
+
+    /**
+     * Створює порожню таблицю гістограм.
+     *
+     * @return таблиця, індексована порядковим номером операції
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static AtomicReferenceArray<LatencyHistogram>[] newTable() {
+        AtomicReferenceArray<LatencyHistogram>[] t = new AtomicReferenceArray[Operation.values().length];
+        for (int i = 0; i < t.length; i++) {
+            t[i] = new AtomicReferenceArray<>(DEGREE_BUCKETS);
+        }
+        return t;
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 17:10
+ *
+ * Перелік {@code Operation} – операції бібліотеки, для яких
+ * {@link Metrics} збирає лічильники та гістограми затримок.
+ */
+
+package metrics;
+
+/**
+ * Операції бібліотеки, для яких збираються метрики.
+ */
+public enum Operation {
+
+    /** {@code Polynome.add}. */
+    POLYNOME_ADD,
+
+    /** {@code Polynome.subtract}. */
+    POLYNOME_SUBTRACT,
+
+    /** {@code Polynome.multiply}. */
+    POLYNOME_MULTIPLY,
+
+    /** {@code Polynome.derivative}. */
+    POLYNOME_DERIVATIVE,
+
+    /** {@code Polynome.integral}. */
+    POLYNOME_INTEGRAL,
+
+    /** {@code Polynome.definiteIntegral}. */
+    POLYNOME_DEFINITE_INTEGRAL,
+
+    /** Читання полінома з файлу або сховища. */
+    FILE_READ,
+
+    /** Запис полінома у файл або сховище. */
+    FILE_WRITE,
+
+    /** Розв’язання рівняння у {@code EquationSolver}. */
+    SOLVE
+}
@@ -0,0 +1,41 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 17:10
+ *
+ * Клас {@code OperationEvent} – подія JFR {@code polynome.Operation},
+ * яку генерує {@link Metrics} для дорогих операцій.
+ */
+
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Подія JFR для дорогих операцій бібліотеки (множення, введення-виведення,
+ * розв’язання рівнянь). Записується лише тоді, коли подія
+ * {@code polynome.Operation} увімкнена у налаштуваннях запису JFR.
+ */
+@Name("polynome.Operation")
+@Label("Polynome Operation")
+@Category("Polynome")
+@Description("Тривалість дорогої операції над поліномом")
+final class OperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Degree")
+    int degree;
+
+    @Label("Detail")
+    String detail;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
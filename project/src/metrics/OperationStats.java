@@ -0,0 +1,157 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 17:10
+ *
+ * Клас {@code OperationStats} – знімок метрик однієї операції,
+ * який повертає {@link Metrics#snapshot()}.
+ */
+
+package metrics;
+
+/**
+ * Незмінний знімок метрик однієї операції для одного кошика степенів.
+ *
+ * <p>Кошик степенів {@code k} охоплює поліноми степеня
+ * від {@link #getMinDegree()} до {@link #getMaxDegree()}:
+ * {@code 0}, {@code 1}, {@code 2..3}, {@code 4..7} і т.д.
+ */
+public final class OperationStats {
+
+    private final Operation operation;
+    private final int degreeBucket;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] buckets;
+
+    /**
+     * Створює знімок.
+     *
+     * @param operation    операція
+     * @param degreeBucket кошик степеня
+     * @param count        кількість викликів
+     * @param totalNanos   сумарна тривалість
+     * @param maxNanos     найбільша тривалість
+     * @param buckets      кількість вимірів у кожному логарифмічному кошику затримок
+     */
+    OperationStats(Operation operation, int degreeBucket, long count,
+                   long totalNanos, long maxNanos, long[] buckets) {
+        this.operation = operation;
+        this.degreeBucket = degreeBucket;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Повертає операцію.
+     *
+     * @return операція
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Повертає найменший степінь полінома, що потрапляє у кошик.
+     *
+     * @return нижня межа степеня
+     */
+    public int getMinDegree() {
+        return degreeBucket == 0 ? 0 : 1 << (degreeBucket - 1);
+    }
+
+    /**
+     * Повертає найбільший степінь полінома, що потрапляє у кошик.
+     *
+     * @return верхня межа степеня
+     */
+    public int getMaxDegree() {
+        return degreeBucket == 0 ? 0 : (int) ((1L << degreeBucket) - 1);
+    }
+
+    /**
+     * Повертає кількість викликів.
+     *
+     * @return кількість викликів
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Повертає сумарну тривалість викликів.
+     *
+     * @return тривалість у наносекундах
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Повертає найбільшу тривалість одного виклику.
+     *
+     * @return тривалість у наносекундах
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Повертає середню тривалість виклику.
+     *
+     * @return тривалість у наносекундах або 0, якщо викликів не було
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Оцінює перцентиль затримки за гістограмою (верхня межа кошика).
+     *
+     * @param p частка від 0 до 1, наприклад 0.99
+     * @return оцінка перцентиля у наносекундах
+     * @throws IllegalArgumentException якщо {@code p} поза межами {@code [0, 1]}
+     */
+    public long percentileNanos(double p) {
+        if (p < 0.0 || p > 1.0) {
+            throw new IllegalArgumentException("Percentile must be in [0, 1]");
+        }
+        long target = (long) Math.ceil(p * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target && seen > 0) {
+                return i == 0 ? 0 : Math.min((1L << i) - 1, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Повертає копію кількостей вимірів у логарифмічних кошиках затримок.
+     * Кошик {@code k} містить виміри від {@code 2^(k-1)} до {@code 2^k - 1} нс.
+     *
+     * @return масив з 64 елементів
+     */
+    public long[] getLatencyBuckets() {
+        return buckets.clone();
+    }
+
+    /**
+     * Повертає рядкове представлення знімка.
+     *
+     * @return опис у форматі {@code операція[степені] count=... mean=... p50=... p99=... max=...}
+     */
+    @Override
+    public String toString() {
+        return operation + "[" + getMinDegree() + ".." + getMaxDegree() + "]"
+                + " count=" + count
+                + " meanNs=" + Math.round(getMeanNanos())
+                + " p50Ns=" + percentileNanos(0.5)
+                + " p99Ns=" + percentileNanos(0.99)
+                + " maxNs=" + maxNanos;
+    }
+}
@@ -171,6 +171,15 @@ public class BigUnsigned implements Numeric, Serializable {
         }
     }
 
+    /**
+     * Замінює об’єкт компактною формою {@link NumericSerialForm} під час серіалізації.
+     *
+     * @return серіалізаційна форма
+     */
+    private Object writeReplace() {
+        return new NumericSerialForm(NumericSerialForm.BIG_UNSIGNED, this);
+    }
+
     /**
      * Повертає рядкове представлення числа.
      *
@@ -0,0 +1,430 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 16:30
+ *
+ * Клас {@code BigUnsignedAccumulator} – змінне беззнакове ціле довільної
+ * довжини для циклів накопичення (факторіали, суми рядів тощо). На відміну
+ * від {@link BigUnsigned}, де кожна операція створює новий {@code BigInteger}
+ * і новий об’єкт-обгортку, акумулятор зберігає модуль у масиві {@code int[]}
+ * (молодше слово першим) зі змінною місткістю і змінює його на місці:
+ * додавання, множення на мале число, зсуви та порівняння не виділяють пам’яті,
+ * доки вистачає місткості.
+ *
+ * Екземпляр не є потокобезпечним.
+ */
+
+package numbers;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Змінний накопичувач беззнакового цілого числа.
+ */
+public final class BigUnsignedAccumulator implements Comparable<BigUnsignedAccumulator> {
+
+    private static final long MASK = 0xFFFFFFFFL;
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /** Слова модуля, молодше першим; слова з індексами {@code >= length} дорівнюють нулю. */
+    private int[] mag;
+
+    /** Кількість значущих слів (старше слово ненульове; 0 для нуля). */
+    private int length;
+
+    /**
+     * Створює акумулятор зі значенням 0.
+     */
+    public BigUnsignedAccumulator() {
+        this.mag = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Створює акумулятор зі значенням {@code value}.
+     *
+     * @param value початкове значення (має бути {@code >= 0})
+     * @throws IllegalArgumentException якщо {@code value} від’ємне
+     */
+    public BigUnsignedAccumulator(long value) {
+        this();
+        set(value);
+    }
+
+    /**
+     * Створює акумулятор зі значенням {@code value}.
+     *
+     * @param value початкове значення
+     */
+    public BigUnsignedAccumulator(BigUnsigned value) {
+        this();
+        set(value);
+    }
+
+    /**
+     * Встановлює значення.
+     *
+     * @param value нове значення (має бути {@code >= 0})
+     * @return цей акумулятор
+     * @throws IllegalArgumentException якщо {@code value} від’ємне
+     */
+    public BigUnsignedAccumulator set(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("BigUnsigned must be >= 0");
+        }
+        Arrays.fill(mag, 0, length, 0);
+        mag[0] = (int) value;
+        mag[1] = (int) (value >>> 32);
+        length = mag[1] != 0 ? 2 : mag[0] != 0 ? 1 : 0;
+        return this;
+    }
+
+    /**
+     * Встановлює значення.
+     *
+     * @param value нове значення
+     * @return цей акумулятор
+     */
+    public BigUnsignedAccumulator set(BigUnsigned value) {
+        Arrays.fill(mag, 0, length, 0);
+        byte[] bytes = value.getValue().toByteArray();
+        int words = (bytes.length + 3) / 4;
+        ensureCapacity(words);
+        for (int i = 0; i < bytes.length; i++) {
+            int pos = bytes.length - 1 - i;
+            mag[i >>> 2] |= (bytes[pos] & 0xFF) << ((i & 3) * 8);
+        }
+        length = words;
+        normalize();
+        return this;
+    }
+
+    /**
+     * Розширює внутрішній масив щонайменше до {@code words} слів.
+     *
+     * @param words потрібна кількість 32-бітних слів
+     * @return цей акумулятор
+     */
+    public BigUnsignedAccumulator ensureCapacity(int words) {
+        if (words > mag.length) {
+            mag = Arrays.copyOf(mag, Math.max(words, mag.length + (mag.length >> 1)));
+        }
+        return this;
+    }
+
+    /**
+     * Повертає місткість у 32-бітних словах.
+     *
+     * @return довжина внутрішнього масиву
+     */
+    public int capacity() {
+        return mag.length;
+    }
+
+    /**
+     * Обнуляє акумулятор, зберігаючи місткість.
+     *
+     * @return цей акумулятор
+     */
+    public BigUnsignedAccumulator clear() {
+        Arrays.fill(mag, 0, length, 0);
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Перевіряє, чи значення дорівнює нулю.
+     *
+     * @return {@code true}, якщо значення 0
+     */
+    public boolean isZero() {
+        return length == 0;
+    }
+
+    /**
+     * Повертає кількість бітів у двійковому записі значення.
+     *
+     * @return довжина у бітах (0 для нуля)
+     */
+    public long bitLength() {
+        return length == 0 ? 0 : 32L * (length - 1) + (32 - Integer.numberOfLeadingZeros(mag[length - 1]));
+    }
+
+    /**
+     * Додає невід’ємне число.
+     *
+     * @param value доданок (має бути {@code >= 0})
+     * @return цей акумулятор
+     * @throws IllegalArgumentException якщо {@code value} від’ємне
+     */
+    public BigUnsignedAccumulator add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("BigUnsigned must be >= 0");
+        }
+        ensureCapacity(Math.max(length, 2) + 1);
+        long sum = (mag[0] & MASK) + (value & MASK);
+        mag[0] = (int) sum;
+        long carry = (sum >>> 32) + (value >>> 32);
+        int i = 1;
+        for (; carry != 0; i++) {
+            sum = (mag[i] & MASK) + carry;
+            mag[i] = (int) sum;
+            carry = sum >>> 32;
+        }
+        length = Math.max(length, i);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Додає значення іншого акумулятора.
+     *
+     * @param other доданок
+     * @return цей акумулятор
+     */
+    public BigUnsignedAccumulator add(BigUnsignedAccumulator other) {
+        int n = other.length;
+        int[] src = other.mag;
+        ensureCapacity(Math.max(length, n) + 1);
+        long carry = 0;
+        int i = 0;
+        for (; i < n; i++) {
+            long sum = (mag[i] & MASK) + (src[i] & MASK) + carry;
+            mag[i] = (int) sum;
+            carry = sum >>> 32;
+        }
+        for (; carry != 0; i++) {
+            long sum = (mag[i] & MASK) + carry;
+            mag[i] = (int) sum;
+            carry = sum >>> 32;
+        }
+        length = Math.max(length, i);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Додає число {@link BigUnsigned}.
+     *
+     * @param value доданок
+     * @return цей акумулятор
+     */
+    public BigUnsignedAccumulator add(BigUnsigned value) {
+        return add(new BigUnsignedAccumulator(value));
+    }
+
+    /**
+     * Множить на мале число на місці.
+     *
+     * @param factor множник з діапазону {@code [0, 2^32)}
+     * @return цей акумулятор
+     * @throws IllegalArgumentException якщо множник поза діапазоном
+     */
+    public BigUnsignedAccumulator multiply(long factor) {
+        if (factor < 0 || factor > MASK) {
+            throw new IllegalArgumentException("factor must be in [0, 2^32)");
+        }
+        if (factor == 0) {
+            Arrays.fill(mag, 0, length, 0);
+            length = 0;
+            return this;
+        }
+        long carry = 0;
+        for (int i = 0; i < length; i++) {
+            long p = (mag[i] & MASK) * factor + carry;
+            mag[i] = (int) p;
+            carry = p >>> 32;
+        }
+        if (carry != 0) {
+            ensureCapacity(length + 1);
+            mag[length++] = (int) carry;
+        }
+        return this;
+    }
+
+    /**
+     * Множить на число {@code factor} і додає {@code addend}: {@code this = this·factor + addend}.
+     * Зручно для перетворення з довільної системи числення та схеми Горнера.
+     *
+     * @param factor множник з діапазону {@code [0, 2^32)}
+     * @param addend доданок з діапазону {@code [0, 2^32)}
+     * @return цей акумулятор
+     * @throws IllegalArgumentException якщо аргументи поза діапазоном
+     */
+    public BigUnsignedAccumulator multiplyAdd(long factor, long addend) {
+        if (factor < 0 || factor > MASK || addend < 0 || addend > MASK) {
+            throw new IllegalArgumentException("factor and addend must be in [0, 2^32)");
+        }
+        long carry = addend;
+        for (int i = 0; i < length; i++) {
+            long p = (mag[i] & MASK) * factor + carry;
+            mag[i] = (int) p;
+            carry = p >>> 32;
+        }
+        if (carry != 0) {
+            ensureCapacity(length + 1);
+            mag[length++] = (int) carry;
+        }
+        normalize();
+        return this;
+    }
+
+    /**
+     * Зсуває значення ліворуч на {@code bits} бітів (множення на {@code 2^bits}).
+     *
+     * @param bits кількість бітів (має бути {@code >= 0})
+     * @return цей акумулятор
+     * @throws IllegalArgumentException якщо {@code bits < 0}
+     */
+    public BigUnsignedAccumulator shiftLeft(int bits) {
+        if (bits < 0) {
+            throw new IllegalArgumentException("bits must be non-negative");
+        }
+        if (length == 0 || bits == 0) {
+            return this;
+        }
+        int words = bits >>> 5;
+        int shift = bits & 31;
+        ensureCapacity(length + words + 1);
+        if (shift == 0) {
+            System.arraycopy(mag, 0, mag, words, length);
+        } else {
+            mag[length + words] = mag[length - 1] >>> (32 - shift);
+            for (int i = length - 1; i > 0; i--) {
+                mag[i + words] = (mag[i] << shift) | (mag[i - 1] >>> (32 - shift));
+            }
+            mag[words] = mag[0] << shift;
+        }
+        Arrays.fill(mag, 0, words, 0);
+        length += words + 1;
+        normalize();
+        return this;
+    }
+
+    /**
+     * Зсуває значення праворуч на {@code bits} бітів (ділення на {@code 2^bits} з відкиданням остачі).
+     *
+     * @param bits кількість бітів (має бути {@code >= 0})
+     * @return цей акумулятор
+     * @throws IllegalArgumentException якщо {@code bits < 0}
+     */
+    public BigUnsignedAccumulator shiftRight(int bits) {
+        if (bits < 0) {
+            throw new IllegalArgumentException("bits must be non-negative");
+        }
+        int words = bits >>> 5;
+        int shift = bits & 31;
+        if (words >= length) {
+            Arrays.fill(mag, 0, length, 0);
+            length = 0;
+            return this;
+        }
+        int n = length - words;
+        if (shift == 0) {
+            System.arraycopy(mag, words, mag, 0, n);
+        } else {
+            for (int i = 0; i < n - 1; i++) {
+                mag[i] = (mag[i + words] >>> shift) | (mag[i + words + 1] << (32 - shift));
+            }
+            mag[n - 1] = mag[length - 1] >>> shift;
+        }
+        Arrays.fill(mag, n, length, 0);
+        length = n;
+        normalize();
+        return this;
+    }
+
+    /**
+     * Порівнює значення з іншим акумулятором.
+     *
+     * @param other інший акумулятор
+     * @return від’ємне число, нуль або додатне число
+     */
+    @Override
+    public int compareTo(BigUnsignedAccumulator other) {
+        if (length != other.length) {
+            return Integer.compare(length, other.length);
+        }
+        for (int i = length - 1; i >= 0; i--) {
+            if (mag[i] != other.mag[i]) {
+                return Integer.compareUnsigned(mag[i], other.mag[i]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Порівнює значення з числом {@link BigUnsigned}. Числа різної довжини
+     * порівнюються без перетворень.
+     *
+     * @param other число для порівняння
+     * @return від’ємне число, нуль або додатне число
+     */
+    public int compareTo(BigUnsigned other) {
+        BigInteger v = other.getValue();
+        long bits = bitLength();
+        if (bits != v.bitLength()) {
+            return Long.compare(bits, v.bitLength());
+        }
+        return toBigInteger().compareTo(v);
+    }
+
+    /**
+     * Створює незмінне число {@link BigUnsigned} через {@link #toBigInteger()}.
+     *
+     * @return поточне значення
+     */
+    public BigUnsigned toBigUnsigned() {
+        return new BigUnsigned(toBigInteger());
+    }
+
+    /**
+     * Повертає поточне значення як {@link BigInteger}.
+     *
+     * <p>Модуль копіюється двічі: слова записуються у масив байтів (старший
+     * байт першим), а {@link BigInteger} копіює його у власний {@code int[]}.
+     * {@code BigInteger} не має відкритого конструктора, що приймав би готовий
+     * {@code int[]}, а зберігати модуль у байтах означало б відмовитися від
+     * арифметики над 32-бітними словами на місці. Значення, що вміщуються
+     * у {@code long}, створюються через {@link BigInteger#valueOf(long)} без
+     * проміжного масиву.
+     *
+     * @return невід’ємне значення
+     */
+    public BigInteger toBigInteger() {
+        if (length == 0) {
+            return BigInteger.ZERO;
+        }
+        if (length == 1 || (length == 2 && mag[1] >= 0)) {
+            return BigInteger.valueOf((mag[0] & MASK) | ((long) mag[1] << 32));
+        }
+        byte[] bytes = new byte[length * 4];
+        for (int i = 0, pos = bytes.length - 1; i < length; i++, pos -= 4) {
+            int w = mag[i];
+            bytes[pos] = (byte) w;
+            bytes[pos - 1] = (byte) (w >>> 8);
+            bytes[pos - 2] = (byte) (w >>> 16);
+            bytes[pos - 3] = (byte) (w >>> 24);
+        }
+        return new BigInteger(1, bytes);
+    }
+
+    /**
+     * Повертає десятковий запис значення.
+     *
+     * @return текстова форма значення
+     */
+    @Override
+    public String toString() {
+        return toBigInteger().toString();
+    }
+
+    /**
+     * Відкидає нульові старші слова.
+     */
+    private void normalize() {
+        while (length > 0 && mag[length - 1] == 0) {
+            length--;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 13:45
+ *
+ * Клас {@code BulkSerialization} містить статичні методи для запису і читання
+ * масивів числових об’єктів суцільними серіями примітивних значень.
+ *
+ * Для масиву записується лише кількість елементів і дані, без дескрипторів
+ * класів і заголовків об’єктів. Методи приймають {@code DataOutput} /
+ * {@code DataInput}, тож працюють як з {@code DataOutputStream},
+ * так і всередині {@code ObjectOutputStream}.
+ */
+
+package numbers;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Пакетна серіалізація масивів {@link Rational} (зокрема {@link RationalArray}), {@link Unsigned},
+ * {@link BigUnsigned} та примітивних {@code double}/{@code long}.
+ */
+public final class BulkSerialization {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private BulkSerialization() {
+    }
+
+    /**
+     * Записує масив раціональних чисел: кількість, далі всі чисельники,
+     * далі всі знаменники.
+     *
+     * @param out    потік виведення
+     * @param values масив для запису
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeRationals(DataOutput out, Rational[] values) throws IOException {
+        long[] num = new long[values.length];
+        long[] den = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            num[i] = values[i].getNumerator();
+            den[i] = values[i].getDenominator();
+        }
+        out.writeInt(values.length);
+        writeLongs(out, num, 0, num.length);
+        writeLongs(out, den, 0, den.length);
+    }
+
+    /**
+     * Зчитує масив раціональних чисел, записаний {@link #writeRationals}.
+     *
+     * @param in потік введення
+     * @return масив {@link Rational}
+     * @throws IOException у разі помилки читання або некоректних даних
+     */
+    public static Rational[] readRationals(DataInput in) throws IOException {
+        int n = readLength(in);
+        long[] num = new long[n];
+        long[] den = new long[n];
+        readLongs(in, num, 0, n);
+        readLongs(in, den, 0, n);
+        Rational[] res = new Rational[n];
+        try {
+            for (int i = 0; i < n; i++) {
+                res[i] = new Rational(num[i], den[i]);
+            }
+        } catch (ArithmeticException e) {
+            throw new StreamCorruptedException(e.getMessage());
+        }
+        return res;
+    }
+
+    /**
+     * Записує масив {@link RationalArray} у тому самому форматі, що й
+     * {@link #writeRationals(DataOutput, Rational[])}, без проміжних об’єктів.
+     *
+     * @param out    потік виведення
+     * @param values масив для запису
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeRationals(DataOutput out, RationalArray values) throws IOException {
+        int n = values.length();
+        out.writeInt(n);
+        writeLongs(out, values.rawNumerators(), 0, n);
+        writeLongs(out, values.rawDenominators(), 0, n);
+    }
+
+    /**
+     * Зчитує масив раціональних чисел, записаний {@link #writeRationals},
+     * одразу у вигляді {@link RationalArray}.
+     *
+     * @param in потік введення
+     * @return масив {@link RationalArray}
+     * @throws IOException у разі помилки читання або некоректних даних
+     */
+    public static RationalArray readRationalArray(DataInput in) throws IOException {
+        int n = readLength(in);
+        long[] num = new long[n];
+        long[] den = new long[n];
+        readLongs(in, num, 0, n);
+        readLongs(in, den, 0, n);
+        try {
+            return new RationalArray(num, den);
+        } catch (ArithmeticException e) {
+            throw new StreamCorruptedException(e.getMessage());
+        }
+    }
+
+    /**
+     * Записує масив беззнакових чисел: кількість, далі всі значення.
+     *
+     * @param out    потік виведення
+     * @param values масив для запису
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeUnsigneds(DataOutput out, Unsigned[] values) throws IOException {
+        long[] v = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            v[i] = values[i].getValue();
+        }
+        out.writeInt(values.length);
+        writeLongs(out, v, 0, v.length);
+    }
+
+    /**
+     * Зчитує масив беззнакових чисел, записаний {@link #writeUnsigneds}.
+     *
+     * @param in потік введення
+     * @return масив {@link Unsigned}
+     * @throws IOException у разі помилки читання або некоректних даних
+     */
+    public static Unsigned[] readUnsigneds(DataInput in) throws IOException {
+        int n = readLength(in);
+        long[] v = new long[n];
+        readLongs(in, v, 0, n);
+        Unsigned[] res = new Unsigned[n];
+        try {
+            for (int i = 0; i < n; i++) {
+                res[i] = new Unsigned(v[i]);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new StreamCorruptedException(e.getMessage());
+        }
+        return res;
+    }
+
+    /**
+     * Записує масив великих беззнакових чисел: кількість, довжини
+     * магнітуд у байтах, далі всі магнітуди підряд.
+     *
+     * @param out    потік виведення
+     * @param values масив для запису
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeBigUnsigneds(DataOutput out, BigUnsigned[] values) throws IOException {
+        byte[][] mags = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            mags[i] = values[i].getValue().toByteArray();
+        }
+        out.writeInt(values.length);
+        for (byte[] m : mags) {
+            out.writeInt(m.length);
+        }
+        for (byte[] m : mags) {
+            out.write(m);
+        }
+    }
+
+    /**
+     * Зчитує масив великих беззнакових чисел, записаний {@link #writeBigUnsigneds}.
+     *
+     * @param in потік введення
+     * @return масив {@link BigUnsigned}
+     * @throws IOException у разі помилки читання або некоректних даних
+     */
+    public static BigUnsigned[] readBigUnsigneds(DataInput in) throws IOException {
+        int n = readLength(in);
+        int[] lengths = new int[n];
+        for (int i = 0; i < n; i++) {
+            lengths[i] = readLength(in);
+        }
+        BigUnsigned[] res = new BigUnsigned[n];
+        for (int i = 0; i < n; i++) {
+            byte[] mag = new byte[lengths[i]];
+            in.readFully(mag);
+            res[i] = new BigUnsigned(new BigInteger(1, mag));
+        }
+        return res;
+    }
+
+    /**
+     * Записує серію значень {@code double} без префікса довжини.
+     *
+     * @param out    потік виведення
+     * @param values масив значень
+     * @param off    індекс першого значення
+     * @param len    кількість значень
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeDoubles(DataOutput out, double[] values, int off, int len) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, (long) len * Double.BYTES));
+        int end = off + len;
+        while (off < end) {
+            int step = Math.min(end - off, buf.capacity() / Double.BYTES);
+            buf.clear();
+            buf.asDoubleBuffer().put(values, off, step);
+            out.write(buf.array(), 0, step * Double.BYTES);
+            off += step;
+        }
+    }
+
+    /**
+     * Зчитує серію значень {@code double}, записану {@link #writeDoubles}.
+     *
+     * @param in     потік введення
+     * @param values масив для результату
+     * @param off    індекс першого значення
+     * @param len    кількість значень
+     * @throws IOException у разі помилки читання
+     */
+    public static void readDoubles(DataInput in, double[] values, int off, int len) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, (long) len * Double.BYTES));
+        int end = off + len;
+        while (off < end) {
+            int step = Math.min(end - off, buf.capacity() / Double.BYTES);
+            in.readFully(buf.array(), 0, step * Double.BYTES);
+            buf.clear();
+            buf.asDoubleBuffer().get(values, off, step);
+            off += step;
+        }
+    }
+
+    /**
+     * Записує серію значень {@code long} без префікса довжини.
+     *
+     * @param out    потік виведення
+     * @param values масив значень
+     * @param off    індекс першого значення
+     * @param len    кількість значень
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeLongs(DataOutput out, long[] values, int off, int len) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, (long) len * Long.BYTES));
+        int end = off + len;
+        while (off < end) {
+            int step = Math.min(end - off, buf.capacity() / Long.BYTES);
+            buf.clear();
+            buf.asLongBuffer().put(values, off, step);
+            out.write(buf.array(), 0, step * Long.BYTES);
+            off += step;
+        }
+    }
+
+    /**
+     * Зчитує серію значень {@code long}, записану {@link #writeLongs}.
+     *
+     * @param in     потік введення
+     * @param values масив для результату
+     * @param off    індекс першого значення
+     * @param len    кількість значень
+     * @throws IOException у разі помилки читання
+     */
+    public static void readLongs(DataInput in, long[] values, int off, int len) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, (long) len * Long.BYTES));
+        int end = off + len;
+        while (off < end) {
+            int step = Math.min(end - off, buf.capacity() / Long.BYTES);
+            in.readFully(buf.array(), 0, step * Long.BYTES);
+            buf.clear();
+            buf.asLongBuffer().get(values, off, step);
+            off += step;
+        }
+    }
+
+    /**
+     * Зчитує невід’ємну довжину масиву.
+     *
+     * @param in потік введення
+     * @return довжина
+     * @throws IOException у разі помилки читання або від’ємної довжини
+     */
+    public static int readLength(DataInput in) throws IOException {
+        int n = in.readInt();
+        if (n < 0) {
+            throw new StreamCorruptedException("Negative array length " + n);
+        }
+        return n;
+    }
+}
@@ -0,0 +1,342 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 10:15
+ *
+ * Клас {@code DoubleDouble} реалізує число подвійно-подвійної точності
+ * у вигляді суми двох {@code double}: {@code hi + lo},
+ * де {@code |lo| <= ulp(hi)/2}. Це дає близько 106 біт мантиси
+ * (приблизно 32 десяткові цифри) при швидкості, у десятки разів більшій
+ * за {@link java.math.BigDecimal}.
+ *
+ * Усі операції побудовані на перетвореннях без похибок: TwoSum для
+ * додавання і TwoProd через {@link Math#fma} для множення.
+ *
+ * Клас реалізує інтерфейси {@code Numeric}, {@code Comparable} та {@code Serializable}.
+ */
+
+package numbers;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Незмінне число подвійно-подвійної точності.
+ */
+public final class DoubleDouble implements Numeric, Comparable<DoubleDouble>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Число 0. */
+    public static final DoubleDouble ZERO = new DoubleDouble(0.0, 0.0);
+
+    /** Число 1. */
+    public static final DoubleDouble ONE = new DoubleDouble(1.0, 0.0);
+
+    private static final MathContext TO_STRING_CONTEXT = new MathContext(32);
+
+    private final double hi;
+    private final double lo;
+
+    /**
+     * Створює число з уже нормалізованих частин.
+     *
+     * @param hi старша частина
+     * @param lo молодша частина
+     */
+    private DoubleDouble(double hi, double lo) {
+        this.hi = hi;
+        this.lo = Double.isFinite(hi) ? lo : 0.0;
+    }
+
+    /**
+     * Повертає число, що точно дорівнює {@code value}.
+     *
+     * @param value значення
+     * @return об’єкт {@link DoubleDouble}
+     */
+    public static DoubleDouble valueOf(double value) {
+        return new DoubleDouble(value, 0.0);
+    }
+
+    /**
+     * Повертає точну суму двох {@code double}, нормалізовану до вигляду {@code hi + lo}.
+     *
+     * @param a перший доданок
+     * @param b другий доданок
+     * @return об’єкт {@link DoubleDouble}, що дорівнює {@code a + b} без округлення
+     */
+    public static DoubleDouble valueOf(double a, double b) {
+        double s = a + b;
+        double bb = s - a;
+        return new DoubleDouble(s, (a - (s - bb)) + (b - bb));
+    }
+
+    /**
+     * Повертає найближче до {@code value} число подвійно-подвійної точності.
+     *
+     * @param value значення
+     * @return об’єкт {@link DoubleDouble}
+     */
+    public static DoubleDouble valueOf(BigDecimal value) {
+        double h = value.doubleValue();
+        if (!Double.isFinite(h)) {
+            return new DoubleDouble(h, 0.0);
+        }
+        double l = value.subtract(new BigDecimal(h)).doubleValue();
+        return valueOf(h, l);
+    }
+
+    /**
+     * Створює число з десяткового рядка, наприклад {@code "0.1"} або {@code "1.5e-20"}.
+     *
+     * @param s рядок з числом
+     * @return об’єкт {@link DoubleDouble}
+     * @throws NumberFormatException якщо рядок має некоректний формат
+     */
+    public static DoubleDouble parse(String s) {
+        return valueOf(new BigDecimal(s.trim()));
+    }
+
+    /**
+     * Повертає точний добуток двох {@code double}.
+     *
+     * @param a перший множник
+     * @param b другий множник
+     * @return об’єкт {@link DoubleDouble}, що дорівнює {@code a * b} без округлення
+     */
+    public static DoubleDouble product(double a, double b) {
+        double p = a * b;
+        return new DoubleDouble(p, Math.fma(a, b, -p));
+    }
+
+    /**
+     * Повертає старшу частину числа.
+     *
+     * @return {@code hi}
+     */
+    public double getHi() {
+        return hi;
+    }
+
+    /**
+     * Повертає молодшу частину числа.
+     *
+     * @return {@code lo}
+     */
+    public double getLo() {
+        return lo;
+    }
+
+    /**
+     * Додає до поточного числа інше.
+     *
+     * @param other доданок
+     * @return новий об’єкт {@link DoubleDouble} – результат додавання
+     */
+    public DoubleDouble add(DoubleDouble other) {
+        double s = hi + other.hi;
+        double bb = s - hi;
+        double e = (hi - (s - bb)) + (other.hi - bb);
+        double t = lo + other.lo;
+        bb = t - lo;
+        double f = (lo - (t - bb)) + (other.lo - bb);
+        e += t;
+        double h = s + e;
+        e = e - (h - s);
+        e += f;
+        double r = h + e;
+        return new DoubleDouble(r, e - (r - h));
+    }
+
+    /**
+     * Додає до поточного числа {@code double}.
+     *
+     * @param other доданок
+     * @return новий об’єкт {@link DoubleDouble} – результат додавання
+     */
+    public DoubleDouble add(double other) {
+        double s = hi + other;
+        double bb = s - hi;
+        double e = (hi - (s - bb)) + (other - bb) + lo;
+        double r = s + e;
+        return new DoubleDouble(r, e - (r - s));
+    }
+
+    /**
+     * Віднімає від поточного числа інше.
+     *
+     * @param other від’ємник
+     * @return новий об’єкт {@link DoubleDouble} – результат віднімання
+     */
+    public DoubleDouble subtract(DoubleDouble other) {
+        return add(other.negate());
+    }
+
+    /**
+     * Множить поточне число на інше.
+     *
+     * @param other множник
+     * @return новий об’єкт {@link DoubleDouble} – результат множення
+     */
+    public DoubleDouble multiply(DoubleDouble other) {
+        double p = hi * other.hi;
+        double e = Math.fma(hi, other.hi, -p) + (hi * other.lo + lo * other.hi);
+        double r = p + e;
+        return new DoubleDouble(r, e - (r - p));
+    }
+
+    /**
+     * Множить поточне число на {@code double}.
+     *
+     * @param other множник
+     * @return новий об’єкт {@link DoubleDouble} – результат множення
+     */
+    public DoubleDouble multiply(double other) {
+        double p = hi * other;
+        double e = Math.fma(hi, other, -p) + lo * other;
+        double r = p + e;
+        return new DoubleDouble(r, e - (r - p));
+    }
+
+    /**
+     * Ділить поточне число на інше.
+     *
+     * @param other дільник
+     * @return новий об’єкт {@link DoubleDouble} – результат ділення
+     * @throws ArithmeticException якщо дільник дорівнює нулю
+     */
+    public DoubleDouble divide(DoubleDouble other) {
+        if (other.hi == 0.0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        double q1 = hi / other.hi;
+        DoubleDouble r = subtract(other.multiply(q1));
+        double q2 = r.hi / other.hi;
+        r = r.subtract(other.multiply(q2));
+        double q3 = r.hi / other.hi;
+        return valueOf(q1, q2).add(q3);
+    }
+
+    /**
+     * Повертає число з протилежним знаком.
+     *
+     * @return новий об’єкт {@link DoubleDouble}
+     */
+    public DoubleDouble negate() {
+        return new DoubleDouble(-hi, -lo);
+    }
+
+    /**
+     * Повертає модуль числа.
+     *
+     * @return новий об’єкт {@link DoubleDouble} або поточний, якщо число невід’ємне
+     */
+    public DoubleDouble abs() {
+        return signum() < 0 ? negate() : this;
+    }
+
+    /**
+     * Обчислює квадратний корінь одним кроком методу Ньютона від {@link Math#sqrt}.
+     *
+     * @return новий об’єкт {@link DoubleDouble} – квадратний корінь
+     * @throws ArithmeticException якщо число від’ємне
+     */
+    public DoubleDouble sqrt() {
+        if (signum() < 0) {
+            throw new ArithmeticException("Square root of a negative number");
+        }
+        if (hi == 0.0 || !Double.isFinite(hi)) {
+            return this;
+        }
+        double x = Math.sqrt(hi);
+        DoubleDouble r = subtract(product(x, x));
+        return valueOf(x).add(r.hi * 0.5 / x);
+    }
+
+    /**
+     * Повертає знак числа.
+     *
+     * @return -1, 0 або 1
+     */
+    public int signum() {
+        return hi > 0 ? 1 : hi < 0 ? -1 : 0;
+    }
+
+    /**
+     * Повертає значення числа у вигляді {@code double} (округлене до найближчого).
+     *
+     * @return значення як {@code double}
+     */
+    @Override
+    public double toDouble() {
+        return hi + lo;
+    }
+
+    /**
+     * Повертає точне значення числа у вигляді {@link BigDecimal}.
+     *
+     * @return точне десяткове значення {@code hi + lo}
+     * @throws NumberFormatException якщо число нескінченне або NaN
+     */
+    public BigDecimal toBigDecimal() {
+        return new BigDecimal(hi).add(new BigDecimal(lo));
+    }
+
+    /**
+     * Порівнює два числа за значенням.
+     *
+     * @param other число для порівняння
+     * @return від’ємне число, нуль або додатне число
+     */
+    @Override
+    public int compareTo(DoubleDouble other) {
+        int c = Double.compare(hi, other.hi);
+        return c != 0 ? c : Double.compare(lo, other.lo);
+    }
+
+    /**
+     * Перевіряє рівність двох чисел за обома частинами.
+     *
+     * @param o об’єкт для порівняння
+     * @return {@code true}, якщо числа рівні
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DoubleDouble d
+                && Double.compare(hi, d.hi) == 0 && Double.compare(lo, d.lo) == 0;
+    }
+
+    /**
+     * Повертає хеш-код, узгоджений з {@link #equals(Object)}.
+     *
+     * @return хеш-код
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(hi) + Double.hashCode(lo);
+    }
+
+    /**
+     * Замінює об’єкт компактною формою {@link NumericSerialForm} під час серіалізації.
+     *
+     * @return серіалізаційна форма
+     */
+    private Object writeReplace() {
+        return new NumericSerialForm(NumericSerialForm.DOUBLE_DOUBLE, this);
+    }
+
+    /**
+     * Повертає десяткове представлення числа з 32 значущими цифрами.
+     *
+     * @return рядкове представлення
+     */
+    @Override
+    public String toString() {
+        if (!Double.isFinite(hi)) {
+            return Double.toString(hi);
+        }
+        return toBigDecimal().round(TO_STRING_CONTEXT).stripTrailingZeros().toString();
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 14:55
+ *
+ * Клас {@code ModInt} реалізує елемент кільця лишків за модулем {@code p}
+ * ({@code 3 <= p < 2^31}, непарний). Значення зберігається у формі Монтгомері,
+ * тому множення виконується без ділення.
+ *
+ * Клас реалізує інтерфейс {@code Numeric} та інтерфейс {@code Serializable}.
+ */
+
+package numbers;
+
+import java.io.Serializable;
+
+/**
+ * Незмінний лишок за модулем з арифметикою Монтгомері.
+ */
+public final class ModInt implements Numeric, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Montgomery field;
+    private final long residue;
+
+    /**
+     * Створює лишок з вже перетвореного значення.
+     *
+     * @param field   модуль
+     * @param residue значення у формі Монтгомері
+     */
+    private ModInt(Montgomery field, long residue) {
+        this.field = field;
+        this.residue = residue;
+    }
+
+    /**
+     * Створює лишок числа {@code value} за модулем.
+     *
+     * @param value довільне ціле число (може бути від’ємним)
+     * @param field модуль
+     */
+    public ModInt(long value, Montgomery field) {
+        this(field, field.toMontgomery(value));
+    }
+
+    /**
+     * Створює лишок числа {@code value} за модулем {@code modulus}.
+     *
+     * @param value   довільне ціле число
+     * @param modulus непарний модуль з діапазону {@code [3, 2^31)}
+     * @return об’єкт {@link ModInt}
+     * @throws IllegalArgumentException якщо модуль некоректний
+     */
+    public static ModInt of(long value, int modulus) {
+        return new ModInt(value, new Montgomery(modulus));
+    }
+
+    /**
+     * Повертає модуль.
+     *
+     * @return об’єкт {@link Montgomery}
+     */
+    public Montgomery getField() {
+        return field;
+    }
+
+    /**
+     * Повертає значення лишку.
+     *
+     * @return значення з діапазону {@code [0, p)}
+     */
+    public long getValue() {
+        return field.fromMontgomery(residue);
+    }
+
+    /**
+     * Додає до поточного лишку інший.
+     *
+     * @param other доданок з тим самим модулем
+     * @return новий об’єкт {@link ModInt} – результат додавання
+     * @throws IllegalArgumentException якщо модулі різні
+     */
+    public ModInt add(ModInt other) {
+        checkField(other);
+        return new ModInt(field, field.add(residue, other.residue));
+    }
+
+    /**
+     * Віднімає від поточного лишку інший.
+     *
+     * @param other від’ємник з тим самим модулем
+     * @return новий об’єкт {@link ModInt} – результат віднімання
+     * @throws IllegalArgumentException якщо модулі різні
+     */
+    public ModInt subtract(ModInt other) {
+        checkField(other);
+        return new ModInt(field, field.subtract(residue, other.residue));
+    }
+
+    /**
+     * Множить поточний лишок на інший.
+     *
+     * @param other множник з тим самим модулем
+     * @return новий об’єкт {@link ModInt} – результат множення
+     * @throws IllegalArgumentException якщо модулі різні
+     */
+    public ModInt multiply(ModInt other) {
+        checkField(other);
+        return new ModInt(field, field.multiply(residue, other.residue));
+    }
+
+    /**
+     * Ділить поточний лишок на інший (модуль має бути простим).
+     *
+     * @param other дільник з тим самим модулем
+     * @return новий об’єкт {@link ModInt} – результат ділення
+     * @throws IllegalArgumentException якщо модулі різні
+     * @throws ArithmeticException      якщо дільник дорівнює нулю
+     */
+    public ModInt divide(ModInt other) {
+        checkField(other);
+        return new ModInt(field, field.multiply(residue, field.inverse(other.residue)));
+    }
+
+    /**
+     * Підносить лишок до степеня.
+     *
+     * @param exponent невід’ємний показник
+     * @return новий об’єкт {@link ModInt}
+     */
+    public ModInt pow(long exponent) {
+        return new ModInt(field, field.pow(residue, exponent));
+    }
+
+    /**
+     * Повертає обернений лишок (модуль має бути простим).
+     *
+     * @return новий об’єкт {@link ModInt}
+     * @throws ArithmeticException якщо лишок дорівнює нулю
+     */
+    public ModInt inverse() {
+        return new ModInt(field, field.inverse(residue));
+    }
+
+    /**
+     * Перевіряє, що інший лишок має той самий модуль.
+     *
+     * @param other інший лишок
+     * @throws IllegalArgumentException якщо модулі різні
+     */
+    private void checkField(ModInt other) {
+        if (other.field != field && other.field.getModulus() != field.getModulus()) {
+            throw new IllegalArgumentException("Moduli differ: " + field.getModulus()
+                    + " and " + other.field.getModulus());
+        }
+    }
+
+    /**
+     * Повертає значення лишку у форматі {@code double}.
+     *
+     * @return значення з діапазону {@code [0, p)}
+     */
+    @Override
+    public double toDouble() {
+        return getValue();
+    }
+
+    /**
+     * Перевіряє рівність модулів і значень.
+     *
+     * @param o об’єкт для порівняння
+     * @return {@code true}, якщо лишки рівні
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ModInt m
+                && m.field.getModulus() == field.getModulus() && m.residue == residue;
+    }
+
+    /**
+     * Повертає хеш-код, узгоджений з {@link #equals(Object)}.
+     *
+     * @return хеш-код
+     */
+    @Override
+    public int hashCode() {
+        return 31 * field.getModulus() + Long.hashCode(residue);
+    }
+
+    /**
+     * Замінює об’єкт компактною формою {@link NumericSerialForm} під час серіалізації.
+     *
+     * @return серіалізаційна форма
+     */
+    private Object writeReplace() {
+        return new NumericSerialForm(NumericSerialForm.MOD_INT, this);
+    }
+
+    /**
+     * Повертає рядкове представлення лишку.
+     *
+     * @return рядок вигляду {@code "value (mod p)"}
+     */
+    @Override
+    public String toString() {
+        return getValue() + " (mod " + field.getModulus() + ")";
+    }
+}
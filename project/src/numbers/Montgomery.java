@@ -0,0 +1,197 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 14:20
+ *
+ * Клас {@code Montgomery} описує модуль {@code p} для арифметики за модулем
+ * у формі Монтгомері з {@code R = 2^32}. Число {@code a} зберігається як
+ * {@code a·R mod p}, і множення двох таких чисел виконується без ділення:
+ * один добуток, одне множення на {@code -p^(-1) mod R} та зсув.
+ *
+ * Підтримуються непарні модулі {@code 3 <= p < 2^31}; для обчислення
+ * оберненого елемента модуль має бути простим.
+ */
+
+package numbers;
+
+/**
+ * Модуль для множення Монтгомері з {@code R = 2^32}.
+ *
+ * <p>Усі методи, крім {@link #toMontgomery(long)} і {@link #fromMontgomery(long)},
+ * приймають і повертають значення у формі Монтгомері з діапазону {@code [0, p)}.
+ * Об’єкт незмінний і може використовуватися з кількох потоків.
+ */
+public final class Montgomery {
+
+    private static final long MASK32 = 0xFFFFFFFFL;
+
+    private final long modulus;
+
+    /** {@code -p^(-1) mod 2^32}. */
+    private final int negInverse;
+
+    /** {@code R mod p} – одиниця у формі Монтгомері. */
+    private final long one;
+
+    /** {@code R^2 mod p} – для перетворення у форму Монтгомері. */
+    private final long r2;
+
+    /**
+     * Створює модуль.
+     *
+     * @param modulus непарний модуль з діапазону {@code [3, 2^31)}
+     * @throws IllegalArgumentException якщо модуль парний або поза діапазоном
+     */
+    public Montgomery(int modulus) {
+        if (modulus < 3 || (modulus & 1) == 0) {
+            throw new IllegalArgumentException("Modulus must be odd and in [3, 2^31): " + modulus);
+        }
+        this.modulus = modulus;
+        int inv = modulus;
+        for (int i = 0; i < 5; i++) {
+            inv *= 2 - modulus * inv;
+        }
+        this.negInverse = -inv;
+        this.one = (1L << 32) % modulus;
+        this.r2 = one * one % modulus;
+    }
+
+    /**
+     * Повертає модуль.
+     *
+     * @return {@code p}
+     */
+    public int getModulus() {
+        return (int) modulus;
+    }
+
+    /**
+     * Повертає одиницю у формі Монтгомері.
+     *
+     * @return {@code R mod p}
+     */
+    public long one() {
+        return one;
+    }
+
+    /**
+     * Перетворює число у форму Монтгомері.
+     *
+     * @param a довільне ціле число (може бути від’ємним)
+     * @return {@code a·R mod p}
+     */
+    public long toMontgomery(long a) {
+        return reduce(Math.floorMod(a, modulus) * r2);
+    }
+
+    /**
+     * Перетворює число з форми Монтгомері у звичайне подання.
+     *
+     * @param a число у формі Монтгомері
+     * @return значення з діапазону {@code [0, p)}
+     */
+    public long fromMontgomery(long a) {
+        return reduce(a);
+    }
+
+    /**
+     * Редукція Монтгомері: обчислює {@code t·R^(-1) mod p}.
+     *
+     * @param t число з діапазону {@code [0, p·R)}
+     * @return результат з діапазону {@code [0, p)}
+     */
+    private long reduce(long t) {
+        long m = ((int) t * negInverse) & MASK32;
+        // t + m·p < 2^64, тож беззнаковий зсув дає точний результат
+        long u = (t + m * modulus) >>> 32;
+        return u >= modulus ? u - modulus : u;
+    }
+
+    /**
+     * Множить два числа у формі Монтгомері.
+     *
+     * @param a перший множник
+     * @param b другий множник
+     * @return {@code a·b·R^(-1) mod p}
+     */
+    public long multiply(long a, long b) {
+        return reduce(a * b);
+    }
+
+    /**
+     * Додає два числа за модулем.
+     *
+     * @param a перший доданок
+     * @param b другий доданок
+     * @return {@code (a + b) mod p}
+     */
+    public long add(long a, long b) {
+        long s = a + b;
+        return s >= modulus ? s - modulus : s;
+    }
+
+    /**
+     * Віднімає два числа за модулем.
+     *
+     * @param a зменшуване
+     * @param b від’ємник
+     * @return {@code (a - b) mod p}
+     */
+    public long subtract(long a, long b) {
+        long d = a - b;
+        return d < 0 ? d + modulus : d;
+    }
+
+    /**
+     * Повертає протилежне число за модулем.
+     *
+     * @param a число
+     * @return {@code -a mod p}
+     */
+    public long negate(long a) {
+        return a == 0 ? 0 : modulus - a;
+    }
+
+    /**
+     * Підносить число до степеня.
+     *
+     * @param a        основа у формі Монтгомері
+     * @param exponent невід’ємний показник
+     * @return {@code a^exponent} у формі Монтгомері
+     */
+    public long pow(long a, long exponent) {
+        long res = one;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                res = multiply(res, a);
+            }
+            a = multiply(a, a);
+            exponent >>>= 1;
+        }
+        return res;
+    }
+
+    /**
+     * Обчислює обернений елемент за малою теоремою Ферма (модуль має бути простим).
+     *
+     * @param a число у формі Монтгомері
+     * @return {@code a^(-1)} у формі Монтгомері
+     * @throws ArithmeticException якщо {@code a == 0}
+     */
+    public long inverse(long a) {
+        if (a == 0) {
+            throw new ArithmeticException("Zero has no inverse modulo " + modulus);
+        }
+        return pow(a, modulus - 2);
+    }
+
+    /**
+     * Повертає рядкове представлення модуля.
+     *
+     * @return рядок вигляду {@code "mod p"}
+     */
+    @Override
+    public String toString() {
+        return "mod " + modulus;
+    }
+}
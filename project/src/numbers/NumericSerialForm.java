@@ -0,0 +1,139 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 13:20
+ *
+ * Клас {@code NumericSerialForm} – компактна серіалізаційна форма для
+ * {@code Rational}, {@code Unsigned}, {@code BigUnsigned}, {@code DoubleDouble}
+ * та {@code ModInt}.
+ *
+ * Числові класи повертають цей об’єкт з {@code writeReplace}, тому в потік
+ * потрапляє один короткий дескриптор класу і кілька байтів даних замість
+ * повного опису полів. Дані, записані раніше стандартною серіалізацією
+ * ({@code serialVersionUID = 1}), і далі читаються без змін.
+ */
+
+package numbers;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+
+/**
+ * Серіалізаційна форма числових типів пакета {@code numbers}.
+ *
+ * <p>Формат: байт типу, далі значення у примітивному вигляді.
+ */
+final class NumericSerialForm implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final byte RATIONAL = 1;
+    static final byte UNSIGNED = 2;
+    static final byte BIG_UNSIGNED = 3;
+    static final byte DOUBLE_DOUBLE = 4;
+    static final byte MOD_INT = 5;
+
+    private byte type;
+    private Serializable object;
+
+    /**
+     * Конструктор для механізму серіалізації.
+     */
+    public NumericSerialForm() {
+    }
+
+    /**
+     * Створює форму для запису об’єкта.
+     *
+     * @param type   тип об’єкта
+     * @param object об’єкт, що записується
+     */
+    NumericSerialForm(byte type, Serializable object) {
+        this.type = type;
+        this.object = object;
+    }
+
+    /**
+     * Записує тип і значення об’єкта.
+     *
+     * @param out потік виведення
+     * @throws IOException у разі помилки запису
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(type);
+        switch (type) {
+            case RATIONAL -> {
+                Rational r = (Rational) object;
+                out.writeLong(r.getNumerator());
+                out.writeLong(r.getDenominator());
+            }
+            case UNSIGNED -> out.writeLong(((Unsigned) object).getValue());
+            case BIG_UNSIGNED -> {
+                byte[] mag = ((BigUnsigned) object).getValue().toByteArray();
+                out.writeInt(mag.length);
+                out.write(mag);
+            }
+            case DOUBLE_DOUBLE -> {
+                DoubleDouble d = (DoubleDouble) object;
+                out.writeDouble(d.getHi());
+                out.writeDouble(d.getLo());
+            }
+            case MOD_INT -> {
+                ModInt m = (ModInt) object;
+                out.writeInt(m.getField().getModulus());
+                out.writeInt((int) m.getValue());
+            }
+            default -> throw new InvalidObjectException("Unknown numeric type " + type);
+        }
+    }
+
+    /**
+     * Зчитує тип і значення об’єкта.
+     *
+     * @param in потік введення
+     * @throws IOException у разі помилки читання або некоректних даних
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        type = in.readByte();
+        try {
+            switch (type) {
+                case RATIONAL -> object = new Rational(in.readLong(), in.readLong());
+                case UNSIGNED -> object = new Unsigned(in.readLong());
+                case BIG_UNSIGNED -> {
+                    int length = in.readInt();
+                    if (length < 0) {
+                        throw new StreamCorruptedException("Negative BigUnsigned length");
+                    }
+                    byte[] mag = new byte[length];
+                    in.readFully(mag);
+                    object = new BigUnsigned(new BigInteger(1, mag));
+                }
+                case DOUBLE_DOUBLE -> object = DoubleDouble.valueOf(in.readDouble(), in.readDouble());
+                case MOD_INT -> {
+                    int modulus = in.readInt();
+                    object = ModInt.of(in.readInt(), modulus);
+                }
+                default -> throw new StreamCorruptedException("Unknown numeric type " + type);
+            }
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+    }
+
+    /**
+     * Повертає відновлений числовий об’єкт замість форми.
+     *
+     * @return відновлений об’єкт
+     */
+    private Object readResolve() {
+        return object;
+    }
+}
@@ -208,6 +208,15 @@ public class Rational implements Numeric, Serializable {
         }
     }
 
+    /**
+     * Замінює об’єкт компактною формою {@link NumericSerialForm} під час серіалізації.
+     *
+     * @return серіалізаційна форма
+     */
+    private Object writeReplace() {
+        return new NumericSerialForm(NumericSerialForm.RATIONAL, this);
+    }
+
     /**
      * Повертає рядкове представлення раціонального числа.
      *
@@ -0,0 +1,480 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 10:20
+ *
+ * Клас {@code RationalArray} реалізує масив раціональних чисел у вигляді
+ * структури масивів: чисельники і знаменники зберігаються у двох паралельних
+ * масивах {@code long[]}. На відміну від {@code Rational[]}, елементи не мають
+ * заголовків об’єктів, лежать у пам’яті підряд, а пакетні операції
+ * виконуються на місці без створення об’єктів для кожного елемента.
+ *
+ * Усі елементи зберігаються у нескоротному вигляді з додатним знаменником.
+ * Арифметика використовує {@code Math.*Exact}: замість тихого переповнення
+ * кидається {@link ArithmeticException}. Порівняння виконується точним
+ * 128-бітним перехресним множенням і ніколи не переповнюється.
+ */
+
+package numbers;
+
+import java.util.Arrays;
+
+/**
+ * Масив раціональних чисел фіксованої довжини на паралельних масивах {@code long[]}.
+ */
+public final class RationalArray {
+
+    private final long[] num;
+    private final long[] den;
+
+    /**
+     * Створює масив заданої довжини, заповнений нулями ({@code 0/1}).
+     *
+     * @param length довжина масиву
+     * @throws NegativeArraySizeException якщо довжина від’ємна
+     */
+    public RationalArray(int length) {
+        this.num = new long[length];
+        this.den = new long[length];
+        Arrays.fill(den, 1L);
+    }
+
+    /**
+     * Створює масив з паралельних масивів чисельників і знаменників.
+     * Масиви копіюються, а кожен дріб скорочується.
+     *
+     * @param numerators   чисельники
+     * @param denominators знаменники (ненульові)
+     * @throws IllegalArgumentException якщо довжини масивів різні
+     * @throws ArithmeticException      якщо якийсь знаменник дорівнює нулю
+     */
+    public RationalArray(long[] numerators, long[] denominators) {
+        if (numerators.length != denominators.length) {
+            throw new IllegalArgumentException("Numerator and denominator arrays differ in length");
+        }
+        this.num = new long[numerators.length];
+        this.den = new long[numerators.length];
+        for (int i = 0; i < num.length; i++) {
+            set(i, numerators[i], denominators[i]);
+        }
+    }
+
+    /**
+     * Створює масив з масиву об’єктів {@link Rational}.
+     *
+     * @param values масив раціональних чисел
+     * @return новий об’єкт {@link RationalArray}
+     */
+    public static RationalArray fromArray(Rational[] values) {
+        RationalArray res = new RationalArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            // Rational уже скорочений і має додатний знаменник
+            res.num[i] = values[i].getNumerator();
+            res.den[i] = values[i].getDenominator();
+        }
+        return res;
+    }
+
+    /**
+     * Перетворює масив у масив об’єктів {@link Rational}.
+     *
+     * @return новий масив {@link Rational}
+     */
+    public Rational[] toArray() {
+        Rational[] res = new Rational[num.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = new Rational(num[i], den[i]);
+        }
+        return res;
+    }
+
+    /**
+     * Повертає довжину масиву.
+     *
+     * @return кількість елементів
+     */
+    public int length() {
+        return num.length;
+    }
+
+    /**
+     * Повертає внутрішній масив чисельників без копіювання.
+     *
+     * @return масив чисельників
+     */
+    long[] rawNumerators() {
+        return num;
+    }
+
+    /**
+     * Повертає внутрішній масив знаменників без копіювання.
+     *
+     * @return масив знаменників
+     */
+    long[] rawDenominators() {
+        return den;
+    }
+
+    /**
+     * Повертає елемент як об’єкт {@link Rational}.
+     *
+     * @param i індекс
+     * @return новий об’єкт {@link Rational}
+     */
+    public Rational get(int i) {
+        return new Rational(num[i], den[i]);
+    }
+
+    /**
+     * Повертає чисельник елемента.
+     *
+     * @param i індекс
+     * @return чисельник
+     */
+    public long getNumerator(int i) {
+        return num[i];
+    }
+
+    /**
+     * Повертає знаменник елемента.
+     *
+     * @param i індекс
+     * @return додатний знаменник
+     */
+    public long getDenominator(int i) {
+        return den[i];
+    }
+
+    /**
+     * Записує у масив значення {@link Rational}.
+     *
+     * @param i     індекс
+     * @param value значення
+     */
+    public void set(int i, Rational value) {
+        num[i] = value.getNumerator();
+        den[i] = value.getDenominator();
+    }
+
+    /**
+     * Записує у масив дріб {@code n/d}, скорочуючи його.
+     *
+     * @param i індекс
+     * @param n чисельник
+     * @param d знаменник
+     * @throws ArithmeticException якщо {@code d == 0} або нормалізація переповнює {@code long}
+     */
+    public void set(int i, long n, long d) {
+        if (d == 0) {
+            throw new ArithmeticException("Denominator must not be zero");
+        }
+        if (d < 0) {
+            n = Math.negateExact(n);
+            d = Math.negateExact(d);
+        }
+        long g = gcd(n, d);
+        num[i] = n / g;
+        den[i] = d / g;
+    }
+
+    /**
+     * Додає до кожного елемента відповідний елемент іншого масиву (на місці).
+     *
+     * @param other масив тієї самої довжини
+     * @throws IllegalArgumentException якщо довжини різні
+     * @throws ArithmeticException      у разі переповнення {@code long}
+     */
+    public void add(RationalArray other) {
+        checkLength(other);
+        for (int i = 0; i < num.length; i++) {
+            addAt(i, other.num[i], other.den[i]);
+        }
+    }
+
+    /**
+     * Віднімає від кожного елемента відповідний елемент іншого масиву (на місці).
+     *
+     * @param other масив тієї самої довжини
+     * @throws IllegalArgumentException якщо довжини різні
+     * @throws ArithmeticException      у разі переповнення {@code long}
+     */
+    public void subtract(RationalArray other) {
+        checkLength(other);
+        for (int i = 0; i < num.length; i++) {
+            addAt(i, Math.negateExact(other.num[i]), other.den[i]);
+        }
+    }
+
+    /**
+     * Множить кожен елемент на відповідний елемент іншого масиву (на місці).
+     *
+     * @param other масив тієї самої довжини
+     * @throws IllegalArgumentException якщо довжини різні
+     * @throws ArithmeticException      у разі переповнення {@code long}
+     */
+    public void multiply(RationalArray other) {
+        checkLength(other);
+        for (int i = 0; i < num.length; i++) {
+            multiplyAt(i, other.num[i], other.den[i]);
+        }
+    }
+
+    /**
+     * Множить усі елементи на одне раціональне число (на місці).
+     *
+     * @param factor множник
+     * @throws ArithmeticException у разі переповнення {@code long}
+     */
+    public void scale(Rational factor) {
+        long n = factor.getNumerator();
+        long d = factor.getDenominator();
+        for (int i = 0; i < num.length; i++) {
+            multiplyAt(i, n, d);
+        }
+    }
+
+    /**
+     * Обчислює суму всіх елементів.
+     *
+     * @return сума як об’єкт {@link Rational}
+     * @throws ArithmeticException у разі переповнення {@code long}
+     */
+    public Rational sum() {
+        long sn = 0;
+        long sd = 1;
+        for (int i = 0; i < num.length; i++) {
+            long a = num[i];
+            long b = den[i];
+            long g = gcd(sd, b);
+            long t = Math.addExact(Math.multiplyExact(sn, b / g), Math.multiplyExact(a, sd / g));
+            long g2 = gcd(t, g);
+            sn = t / g2;
+            sd = Math.multiplyExact(sd / g, b / g2);
+        }
+        return new Rational(sn, sd);
+    }
+
+    /**
+     * Обчислює скалярний добуток з іншим масивом.
+     *
+     * @param other масив тієї самої довжини
+     * @return сума попарних добутків як об’єкт {@link Rational}
+     * @throws IllegalArgumentException якщо довжини різні
+     * @throws ArithmeticException      у разі переповнення {@code long}
+     */
+    public Rational dot(RationalArray other) {
+        checkLength(other);
+        long sn = 0;
+        long sd = 1;
+        for (int i = 0; i < num.length; i++) {
+            long g1 = gcd(num[i], other.den[i]);
+            long g2 = gcd(other.num[i], den[i]);
+            long a = Math.multiplyExact(num[i] / g1, other.num[i] / g2);
+            long b = Math.multiplyExact(den[i] / g2, other.den[i] / g1);
+            long g = gcd(sd, b);
+            long t = Math.addExact(Math.multiplyExact(sn, b / g), Math.multiplyExact(a, sd / g));
+            long g3 = gcd(t, g);
+            sn = t / g3;
+            sd = Math.multiplyExact(sd / g, b / g3);
+        }
+        return new Rational(sn, sd);
+    }
+
+    /**
+     * Записує наближені значення елементів у масив {@code double}.
+     *
+     * @param out масив для результатів (довжина не менша за {@link #length()})
+     * @throws IllegalArgumentException якщо {@code out} закороткий
+     */
+    public void toDoubles(double[] out) {
+        if (out.length < num.length) {
+            throw new IllegalArgumentException("out is shorter than the array");
+        }
+        for (int i = 0; i < num.length; i++) {
+            out[i] = (double) num[i] / (double) den[i];
+        }
+    }
+
+    /**
+     * Порівнює два елементи масиву.
+     *
+     * @param i індекс першого елемента
+     * @param j індекс другого елемента
+     * @return від’ємне число, нуль або додатне число
+     */
+    public int compare(int i, int j) {
+        return compare(num[i], den[i], num[j], den[j]);
+    }
+
+    /**
+     * Порівнює дроби {@code a/b} та {@code c/d} з додатними знаменниками
+     * точним 128-бітним перехресним множенням {@code a·d} і {@code c·b}.
+     *
+     * @param a чисельник першого дробу
+     * @param b додатний знаменник першого дробу
+     * @param c чисельник другого дробу
+     * @param d додатний знаменник другого дробу
+     * @return від’ємне число, нуль або додатне число
+     */
+    public static int compare(long a, long b, long c, long d) {
+        long hi1 = Math.multiplyHigh(a, d);
+        long hi2 = Math.multiplyHigh(c, b);
+        if (hi1 != hi2) {
+            return Long.compare(hi1, hi2);
+        }
+        return Long.compareUnsigned(a * d, c * b);
+    }
+
+    /**
+     * Сортує масив за зростанням значень. Сортування стабільне (злиттям
+     * масиву індексів) і не створює об’єктів для елементів.
+     */
+    public void sort() {
+        int n = num.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            idx[i] = i;
+        }
+        int[] tmp = new int[n];
+        for (int width = 1; width < n; width <<= 1) {
+            for (int lo = 0; lo < n - width; lo += width << 1) {
+                merge(idx, tmp, lo, lo + width, Math.min(lo + (width << 1), n));
+            }
+        }
+        long[] sn = new long[n];
+        long[] sd = new long[n];
+        for (int i = 0; i < n; i++) {
+            sn[i] = num[idx[i]];
+            sd[i] = den[idx[i]];
+        }
+        System.arraycopy(sn, 0, num, 0, n);
+        System.arraycopy(sd, 0, den, 0, n);
+    }
+
+    /**
+     * Зливає два відсортовані відрізки масиву індексів {@code [lo, mid)} і {@code [mid, hi)}.
+     *
+     * @param idx масив індексів
+     * @param tmp допоміжний масив
+     * @param lo  початок першого відрізка
+     * @param mid початок другого відрізка
+     * @param hi  кінець другого відрізка
+     */
+    private void merge(int[] idx, int[] tmp, int lo, int mid, int hi) {
+        if (compare(idx[mid - 1], idx[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(idx, lo, tmp, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && compare(tmp[i], tmp[j]) <= 0)) {
+                idx[k] = tmp[i++];
+            } else {
+                idx[k] = tmp[j++];
+            }
+        }
+    }
+
+    /**
+     * Додає дріб {@code c/d} до елемента {@code i}.
+     *
+     * @param i індекс
+     * @param c чисельник доданка
+     * @param d додатний знаменник доданка
+     */
+    private void addAt(int i, long c, long d) {
+        long b = den[i];
+        long g = gcd(b, d);
+        long t = Math.addExact(Math.multiplyExact(num[i], d / g), Math.multiplyExact(c, b / g));
+        long g2 = gcd(t, g);
+        num[i] = t / g2;
+        den[i] = Math.multiplyExact(b / g, d / g2);
+    }
+
+    /**
+     * Множить елемент {@code i} на дріб {@code c/d}.
+     *
+     * @param i індекс
+     * @param c чисельник множника
+     * @param d додатний знаменник множника
+     */
+    private void multiplyAt(int i, long c, long d) {
+        long g1 = gcd(num[i], d);
+        long g2 = gcd(c, den[i]);
+        num[i] = Math.multiplyExact(num[i] / g1, c / g2);
+        den[i] = Math.multiplyExact(den[i] / g2, d / g1);
+    }
+
+    /**
+     * Перевіряє, що інший масив має ту саму довжину.
+     *
+     * @param other інший масив
+     * @throws IllegalArgumentException якщо довжини різні
+     */
+    private void checkLength(RationalArray other) {
+        if (other.num.length != num.length) {
+            throw new IllegalArgumentException("Array lengths differ: " + num.length + " and " + other.num.length);
+        }
+    }
+
+    /**
+     * Обчислює найбільший спільний дільник; {@code gcd(0, b) = |b|}.
+     *
+     * @param a перше число
+     * @param b друге число (хоча б одне з чисел ненульове)
+     * @return додатний НСД
+     * @throws ArithmeticException якщо результат дорівнює {@code 2^63}
+     */
+    private static long gcd(long a, long b) {
+        a = Math.absExact(a);
+        b = Math.absExact(b);
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Перевіряє рівність усіх елементів.
+     *
+     * @param o об’єкт для порівняння
+     * @return {@code true}, якщо масиви рівні поелементно
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RationalArray r && Arrays.equals(r.num, num) && Arrays.equals(r.den, den);
+    }
+
+    /**
+     * Повертає хеш-код, узгоджений з {@link #equals(Object)}.
+     *
+     * @return хеш-код
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(num) + Arrays.hashCode(den);
+    }
+
+    /**
+     * Повертає рядкове представлення масиву у форматі {@code [a/b, c, ...]}.
+     *
+     * @return рядок з елементами
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < num.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(num[i]);
+            if (den[i] != 1) {
+                sb.append('/').append(den[i]);
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
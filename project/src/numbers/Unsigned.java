@@ -173,6 +173,15 @@ public class Unsigned implements Numeric, Serializable {
         }
     }
 
+    /**
+     * Замінює об’єкт компактною формою {@link NumericSerialForm} під час серіалізації.
+     *
+     * @return серіалізаційна форма
+     */
+    private Object writeReplace() {
+        return new NumericSerialForm(NumericSerialForm.UNSIGNED, this);
+    }
+
     /**
      * Повертає рядкове представлення числа.
      *
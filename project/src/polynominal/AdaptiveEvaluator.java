@@ -0,0 +1,219 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 18:10
+ *
+ * Клас {@code AdaptiveEvaluator} обчислює значення полінома з гарантованою
+ * відносною точністю, підвищуючи точність арифметики лише там, де це потрібно.
+ *
+ * Обчислення виконується у три кроки:
+ * <ol>
+ *   <li>звичайна схема Горнера у {@code double} разом з поточною (running)
+ *       оцінкою похибки, що накопичується на кожному кроці;</li>
+ *   <li>компенсована схема Горнера (точність подвійної довжини) з
+ *       перетвореннями без похибок TwoSum/TwoProd через {@link Math#fma};</li>
+ *   <li>точне обчислення у {@link BigDecimal} з одним округленням результату.</li>
+ * </ol>
+ * Наступний крок виконується лише тоді, коли оцінка похибки попереднього
+ * більша за допустиму, тому для добре обумовлених точок вартість майже
+ * не відрізняється від {@link Polynome#valueAt(double)}.
+ */
+
+package polynominal;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Обчислювач значень полінома з адаптивною точністю.
+ *
+ * <p>Об’єкт можна використовувати з кількох потоків одночасно.
+ */
+public class AdaptiveEvaluator {
+
+    /** Допустима відносна похибка за замовчуванням (близько {@code 5.7e-14}). */
+    public static final double DEFAULT_TOLERANCE = 0x1p-44;
+
+    private static final double U = 0x1p-53;
+    private static final int BLOCK = 256;
+
+    private final double[] coeffs;
+    private final double[] absCoeffs;
+    private final double tolerance;
+
+    /** γ(2n+2) – множник апріорної оцінки похибки схеми Горнера з невеликим запасом. */
+    private final double gamma;
+
+    private final LongAdder compensated = new LongAdder();
+    private final LongAdder exact = new LongAdder();
+
+    /**
+     * Створює обчислювач з допустимою похибкою {@link #DEFAULT_TOLERANCE}.
+     *
+     * @param p поліном
+     */
+    public AdaptiveEvaluator(Polynome p) {
+        this(p, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Створює обчислювач із заданою допустимою відносною похибкою.
+     *
+     * @param p         поліном
+     * @param tolerance допустима відносна похибка результату
+     * @throws IllegalArgumentException якщо {@code tolerance} менша за {@code 2^-53}
+     */
+    public AdaptiveEvaluator(Polynome p, double tolerance) {
+        if (!(tolerance >= U)) {
+            throw new IllegalArgumentException("tolerance must be at least 2^-53");
+        }
+        this.coeffs = p.getCoefficients();
+        this.absCoeffs = new double[coeffs.length];
+        for (int i = 0; i < coeffs.length; i++) {
+            absCoeffs[i] = Math.abs(coeffs[i]);
+        }
+        this.tolerance = tolerance;
+        int k = 2 * coeffs.length;
+        this.gamma = k * U / (1 - k * U);
+    }
+
+    /**
+     * Обчислює значення полінома у точці {@code x} з відносною похибкою
+     * не більшою за задану.
+     *
+     * @param x значення аргумента
+     * @return значення полінома
+     */
+    public double valueAt(double x) {
+        int n = coeffs.length - 1;
+        double r = coeffs[n];
+        double mu = Math.abs(r) * 0.5;
+        double ax = Math.abs(x);
+        for (int i = n - 1; i >= 0; i--) {
+            r = r * x + coeffs[i];
+            mu = mu * ax + Math.abs(r);
+        }
+        return refine(x, r, mu);
+    }
+
+    /**
+     * Обчислює значення полінома у багатьох точках. Перший крок виконується
+     * для блоку точок одночасно, після чого уточнюються лише ті точки,
+     * для яких оцінка похибки завелика.
+     *
+     * @param xs  значення аргумента
+     * @param out масив для результатів (довжина не менша за {@code xs.length})
+     * @throws IllegalArgumentException якщо {@code out} коротший за {@code xs}
+     */
+    public void valueAt(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("out is shorter than xs");
+        }
+        int n = xs.length;
+        int top = coeffs.length - 1;
+        double[] mu = new double[Math.min(BLOCK, n)];
+        for (int from = 0; from < n; from += BLOCK) {
+            int len = Math.min(BLOCK, n - from);
+            for (int j = 0; j < len; j++) {
+                out[from + j] = coeffs[top];
+                mu[j] = Math.abs(coeffs[top]) * 0.5;
+            }
+            for (int i = top - 1; i >= 0; i--) {
+                double c = coeffs[i];
+                for (int j = 0; j < len; j++) {
+                    double x = xs[from + j];
+                    double r = out[from + j] * x + c;
+                    out[from + j] = r;
+                    mu[j] = mu[j] * Math.abs(x) + Math.abs(r);
+                }
+            }
+            for (int j = 0; j < len; j++) {
+                out[from + j] = refine(xs[from + j], out[from + j], mu[j]);
+            }
+        }
+    }
+
+    /**
+     * Повертає кількість точок, для яких знадобилася компенсована схема Горнера.
+     *
+     * @return кількість уточнень другого рівня
+     */
+    public long getCompensatedCount() {
+        return compensated.sum();
+    }
+
+    /**
+     * Повертає кількість точок, обчислених точно у {@link BigDecimal}.
+     *
+     * @return кількість уточнень третього рівня
+     */
+    public long getExactCount() {
+        return exact.sum();
+    }
+
+    /**
+     * Перевіряє оцінку похибки першого кроку і за потреби переходить до наступних.
+     *
+     * <p>Оцінка першого кроку (Higham, алгоритм 5.1):
+     * {@code |p(x) - r| <= u·(2μ - |r|)}, де {@code μ} накопичує модулі
+     * проміжних значень схеми Горнера.
+     *
+     * @param x  точка
+     * @param r  значення, обчислене у {@code double}
+     * @param mu накопичена сума модулів проміжних значень
+     * @return значення з потрібною точністю
+     */
+    private double refine(double x, double r, double mu) {
+        if (!Double.isFinite(mu)) {
+            return r;
+        }
+        double bound = U * (2 * mu - Math.abs(r)) * (1 + gamma);
+        if (bound <= tolerance * Math.abs(r)) {
+            return r;
+        }
+        compensated.increment();
+        double[] c = coeffs;
+        int n = c.length - 1;
+        double h = c[n];
+        double s = absCoeffs[n];
+        double ax = Math.abs(x);
+        double err = 0.0;
+        for (int i = n - 1; i >= 0; i--) {
+            s = s * ax + absCoeffs[i];
+            double p = h * x;
+            double pi = Math.fma(h, x, -p);
+            double sum = p + c[i];
+            double z = sum - p;
+            double sigma = (p - (sum - z)) + (c[i] - z);
+            h = sum;
+            err = err * x + (pi + sigma);
+        }
+        double res = h + err;
+        // |res - p(x)| <= u|res| + γ(2n)^2 · Horner(|c|, |x|)
+        if (Double.isFinite(s) && gamma * gamma * s <= (tolerance - U) * Math.abs(res)) {
+            return res;
+        }
+        exact.increment();
+        return exactValue(x);
+    }
+
+    /**
+     * Обчислює значення полінома точно і округлює його до {@code double}.
+     * Усі коефіцієнти та {@code x} є скінченними двійковими дробами, тому
+     * схема Горнера у {@link BigDecimal} не має похибок округлення.
+     *
+     * @param x точка
+     * @return правильно округлене значення полінома
+     */
+    private double exactValue(double x) {
+        BigDecimal bx = new BigDecimal(x);
+        BigDecimal r = new BigDecimal(coeffs[coeffs.length - 1]);
+        for (int i = coeffs.length - 2; i >= 0; i--) {
+            r = r.multiply(bx);
+            if (coeffs[i] != 0.0) {
+                r = r.add(new BigDecimal(coeffs[i]));
+            }
+        }
+        return r.doubleValue();
+    }
+}
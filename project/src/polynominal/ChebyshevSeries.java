@@ -0,0 +1,410 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 12:30
+ *
+ * Клас {@code ChebyshevSeries} представляє поліном на відрізку [a, b]
+ * у базисі многочленів Чебишова: {@code P(x) = sum c_k T_k(t)}, де
+ * {@code t = (2x - a - b) / (b - a)} відображає [a, b] на [-1, 1].
+ *
+ * Для поліномів високого степеня на фіксованому відрізку цей базис
+ * значно краще обумовлений за мономіальний. Клас підтримує:
+ * <ul>
+ *   <li>перетворення з {@code Polynome} та з довільної функції через ДКП за O(n log n);</li>
+ *   <li>обчислення значення алгоритмом Кленшоу (для однієї точки та пакетно);</li>
+ *   <li>похідну та інтеграл безпосередньо в базисі Чебишова;</li>
+ *   <li>адаптивне відсікання до найменшого степеня із заданою похибкою;</li>
+ *   <li>перетворення назад у {@code Polynome}.</li>
+ * </ul>
+ */
+
+package polynominal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Ряд Чебишова на відрізку {@code [a, b]}.
+ */
+public class ChebyshevSeries implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double[] coeffs;
+    private final double a;
+    private final double b;
+
+    /**
+     * Створює ряд з коефіцієнтів Чебишова.
+     *
+     * @param coeffs коефіцієнти {@code c_0..c_n} при {@code T_0..T_n}
+     * @param a      ліва межа відрізка
+     * @param b      права межа відрізка
+     * @throws IllegalArgumentException якщо {@code coeffs} порожній або {@code a >= b}
+     */
+    public ChebyshevSeries(double[] coeffs, double a, double b) {
+        if (coeffs.length == 0) {
+            throw new IllegalArgumentException("coeffs must not be empty");
+        }
+        if (!(a < b)) {
+            throw new IllegalArgumentException("Interval must satisfy a < b");
+        }
+        this.coeffs = coeffs.clone();
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * Створює ряд без копіювання масиву (лише для внутрішнього використання).
+     *
+     * @param coeffs коефіцієнти
+     * @param a      ліва межа відрізка
+     * @param b      права межа відрізка
+     * @param unused ознака конструктора без копіювання
+     */
+    private ChebyshevSeries(double[] coeffs, double a, double b, boolean unused) {
+        this.coeffs = coeffs;
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * Перетворює поліном у ряд Чебишова на відрізку {@code [a, b]}.
+     * Поліном обчислюється у точках Чебишова–Лобатто, після чого коефіцієнти
+     * знаходяться через ДКП за O(n log n). Результат точно відтворює поліном
+     * (з точністю до округлення), бо кількість вузлів не менша за степінь + 1.
+     *
+     * @param p поліном
+     * @param a ліва межа відрізка
+     * @param b права межа відрізка
+     * @return ряд Чебишова того самого степеня
+     * @throws IllegalArgumentException якщо {@code a >= b}
+     */
+    public static ChebyshevSeries fromPolynome(Polynome p, double a, double b) {
+        ChebyshevSeries s = sample(x -> p.valueAt(x), a, b, nodesFor(p.degree()));
+        return new ChebyshevSeries(Arrays.copyOf(s.coeffs, p.degree() + 1), a, b, true);
+    }
+
+    /**
+     * Інтерполює функцію рядом Чебишова степеня не нижче {@code degree}
+     * у точках Чебишова–Лобатто.
+     *
+     * @param f      функція
+     * @param a      ліва межа відрізка
+     * @param b      права межа відрізка
+     * @param degree бажаний степінь (округлюється вгору до степеня двійки)
+     * @return інтерполяційний ряд
+     * @throws IllegalArgumentException якщо {@code a >= b} або {@code degree < 0}
+     */
+    public static ChebyshevSeries fromFunction(DoubleUnaryOperator f, double a, double b, int degree) {
+        if (degree < 0) {
+            throw new IllegalArgumentException("degree must be >= 0");
+        }
+        return sample(f, a, b, nodesFor(degree));
+    }
+
+    /**
+     * Адаптивно наближає функцію рядом Чебишова: подвоює кількість вузлів,
+     * доки старші коефіцієнти не стануть меншими за {@code tol}, а потім
+     * відсікає ряд до найменшого степеня з похибкою не більше {@code tol}.
+     *
+     * @param f         функція
+     * @param a         ліва межа відрізка
+     * @param b         права межа відрізка
+     * @param tol       допустима абсолютна похибка на відрізку
+     * @param maxDegree найбільший допустимий степінь
+     * @return наближення степеня не вище {@code maxDegree}; якщо точності не досягнуто,
+     *         повертається ряд степеня {@code maxDegree}
+     * @throws IllegalArgumentException якщо {@code a >= b}, {@code tol <= 0} або {@code maxDegree < 1}
+     */
+    public static ChebyshevSeries adaptive(DoubleUnaryOperator f, double a, double b,
+                                           double tol, int maxDegree) {
+        if (!(tol > 0) || maxDegree < 1) {
+            throw new IllegalArgumentException("tol must be > 0 and maxDegree >= 1");
+        }
+        int limit = nodesFor(maxDegree);
+        ChebyshevSeries s = null;
+        for (int n = Math.min(16, limit); n <= limit; n *= 2) {
+            s = sample(f, a, b, n);
+            double tail = 0.0;
+            for (int k = n - n / 8; k <= n; k++) {
+                tail = Math.max(tail, Math.abs(s.coeffs[k]));
+            }
+            if (tail <= tol / 8) {
+                break;
+            }
+        }
+        if (s.coeffs.length > maxDegree + 1) {
+            // сітка округлюється до степеня двійки; зайві старші коефіцієнти відкидаються
+            s = new ChebyshevSeries(Arrays.copyOf(s.coeffs, maxDegree + 1), a, b, true);
+        }
+        return s.truncate(tol);
+    }
+
+    /**
+     * Повертає ліву межу відрізка.
+     *
+     * @return ліва межа
+     */
+    public double getA() {
+        return a;
+    }
+
+    /**
+     * Повертає праву межу відрізка.
+     *
+     * @return права межа
+     */
+    public double getB() {
+        return b;
+    }
+
+    /**
+     * Повертає степінь ряду.
+     *
+     * @return степінь
+     */
+    public int degree() {
+        return coeffs.length - 1;
+    }
+
+    /**
+     * Повертає копію коефіцієнтів Чебишова.
+     *
+     * @return масив коефіцієнтів {@code c_0..c_n}
+     */
+    public double[] getCoefficients() {
+        return coeffs.clone();
+    }
+
+    /**
+     * Обчислює значення ряду у точці {@code x} алгоритмом Кленшоу.
+     *
+     * @param x значення аргумента
+     * @return значення {@code P(x)}
+     */
+    public double valueAt(double x) {
+        double t2 = 2 * toUnit(x);
+        double b1 = 0.0;
+        double b2 = 0.0;
+        for (int k = coeffs.length - 1; k >= 1; k--) {
+            double bk = coeffs[k] + t2 * b1 - b2;
+            b2 = b1;
+            b1 = bk;
+        }
+        return coeffs[0] + 0.5 * t2 * b1 - b2;
+    }
+
+    /**
+     * Обчислює значення ряду у багатьох точках. Алгоритм Кленшоу виконується
+     * для всіх точок одночасно, тож внутрішній цикл векторизується.
+     *
+     * @param xs  значення аргумента
+     * @param out масив для результатів (довжина не менша за {@code xs.length})
+     * @throws IllegalArgumentException якщо {@code out} коротший за {@code xs}
+     */
+    public void valueAt(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("out is shorter than xs");
+        }
+        int n = xs.length;
+        double[] t2 = new double[n];
+        double[] b1 = new double[n];
+        double[] b2 = new double[n];
+        for (int j = 0; j < n; j++) {
+            t2[j] = 2 * toUnit(xs[j]);
+        }
+        for (int k = coeffs.length - 1; k >= 1; k--) {
+            double c = coeffs[k];
+            for (int j = 0; j < n; j++) {
+                double bk = c + t2[j] * b1[j] - b2[j];
+                b2[j] = b1[j];
+                b1[j] = bk;
+            }
+        }
+        double c0 = coeffs[0];
+        for (int j = 0; j < n; j++) {
+            out[j] = c0 + 0.5 * t2[j] * b1[j] - b2[j];
+        }
+    }
+
+    /**
+     * Обчислює похідну ряду за змінною {@code x} у базисі Чебишова.
+     *
+     * @return новий ряд – похідна
+     */
+    public ChebyshevSeries derivative() {
+        int n = coeffs.length - 1;
+        if (n == 0) {
+            return new ChebyshevSeries(new double[]{0.0}, a, b, true);
+        }
+        double[] d = new double[n + 2];
+        for (int k = n; k >= 1; k--) {
+            d[k - 1] = d[k + 1] + 2 * k * coeffs[k];
+        }
+        d[0] /= 2;
+        double scale = 2 / (b - a);
+        double[] res = new double[n];
+        for (int k = 0; k < n; k++) {
+            res[k] = d[k] * scale;
+        }
+        return new ChebyshevSeries(res, a, b, true);
+    }
+
+    /**
+     * Обчислює первісну ряду у базисі Чебишова, що дорівнює нулю в точці {@code a}.
+     *
+     * @return новий ряд – первісна
+     */
+    public ChebyshevSeries integral() {
+        int n = coeffs.length - 1;
+        double[] res = new double[n + 2];
+        double scale = (b - a) / 2;
+        for (int k = 1; k <= n + 1; k++) {
+            double prev = k == 1 ? 2 * coeffs[0] : coeffs[k - 1];
+            double next = k + 1 <= n ? coeffs[k + 1] : 0.0;
+            res[k] = scale * (prev - next) / (2 * k);
+        }
+        double atA = 0.0;
+        for (int k = 1; k < res.length; k++) {
+            atA += (k % 2 == 0) ? res[k] : -res[k];
+        }
+        res[0] = -atA;
+        return new ChebyshevSeries(res, a, b, true);
+    }
+
+    /**
+     * Обчислює визначений інтеграл на [{@code lo}, {@code hi}].
+     *
+     * @param lo ліва межа інтегрування
+     * @param hi права межа інтегрування
+     * @return значення визначеного інтегралу
+     */
+    public double definiteIntegral(double lo, double hi) {
+        ChebyshevSeries f = integral();
+        return f.valueAt(hi) - f.valueAt(lo);
+    }
+
+    /**
+     * Відсікає ряд до найменшого степеня {@code m}, для якого
+     * {@code sum_{k > m} |c_k| <= tol}. Оскільки {@code |T_k| <= 1} на відрізку,
+     * похибка відсікання на [a, b] не перевищує {@code tol}.
+     *
+     * @param tol допустима абсолютна похибка
+     * @return відсічений ряд (або цей самий, якщо відсікати нічого)
+     */
+    public ChebyshevSeries truncate(double tol) {
+        int m = coeffs.length - 1;
+        double tail = 0.0;
+        while (m > 0 && tail + Math.abs(coeffs[m]) <= tol) {
+            tail += Math.abs(coeffs[m]);
+            m--;
+        }
+        if (m == coeffs.length - 1) {
+            return this;
+        }
+        return new ChebyshevSeries(Arrays.copyOf(coeffs, m + 1), a, b, true);
+    }
+
+    /**
+     * Перетворює ряд у поліном у мономіальному базисі змінної {@code x}.
+     * Перетворення виконується за O(n^2); для високих степенів мономіальний
+     * базис погано обумовлений, тож результат може втрачати точність.
+     *
+     * @return новий об’єкт {@link Polynome}
+     */
+    public Polynome toPolynome() {
+        int n = coeffs.length - 1;
+        // Коефіцієнти у змінній t: рекурентно будуємо T_k(t) і додаємо c_k T_k(t).
+        double[] inT = new double[n + 1];
+        double[] prev = new double[n + 1];
+        double[] cur = new double[n + 1];
+        prev[0] = 1.0;
+        inT[0] = coeffs[0];
+        if (n >= 1) {
+            cur[1] = 1.0;
+            inT[1] += coeffs[1];
+        }
+        for (int k = 2; k <= n; k++) {
+            double[] next = new double[n + 1];
+            for (int i = 0; i < k; i++) {
+                next[i + 1] += 2 * cur[i];
+            }
+            for (int i = 0; i <= k - 2; i++) {
+                next[i] -= prev[i];
+            }
+            for (int i = 0; i <= k; i++) {
+                inT[i] += coeffs[k] * next[i];
+            }
+            prev = cur;
+            cur = next;
+        }
+        // Підставляємо t = alpha x + beta за схемою Горнера над поліномами.
+        double alpha = 2 / (b - a);
+        double beta = -(a + b) / (b - a);
+        double[] res = new double[n + 1];
+        res[0] = inT[n];
+        int len = 1;
+        for (int k = n - 1; k >= 0; k--) {
+            for (int i = len; i >= 1; i--) {
+                res[i] = res[i] * beta + res[i - 1] * alpha;
+            }
+            res[0] = res[0] * beta + inT[k];
+            len++;
+        }
+        return new Polynome(res);
+    }
+
+    /**
+     * Повертає текстове подання ряду.
+     *
+     * @return рядок вигляду {@code Chebyshev[a, b](c_0, c_1, ...)}
+     */
+    @Override
+    public String toString() {
+        return "Chebyshev[" + a + ", " + b + "]" + Arrays.toString(coeffs);
+    }
+
+    /**
+     * Відображає точку з [a, b] на [-1, 1].
+     *
+     * @param x точка
+     * @return відповідна точка {@code t}
+     */
+    private double toUnit(double x) {
+        return (2 * x - a - b) / (b - a);
+    }
+
+    /**
+     * Повертає кількість інтервалів сітки (степінь двійки, не менший за {@code degree} і 1).
+     *
+     * @param degree степінь
+     * @return кількість інтервалів
+     */
+    private static int nodesFor(int degree) {
+        return degree <= 1 ? 1 : Integer.highestOneBit(degree - 1) << 1;
+    }
+
+    /**
+     * Обчислює функцію у {@code n + 1} точках Чебишова–Лобатто і знаходить коефіцієнти.
+     *
+     * @param f функція
+     * @param a ліва межа відрізка
+     * @param b права межа відрізка
+     * @param n кількість інтервалів (степінь двійки)
+     * @return ряд степеня {@code n}
+     */
+    private static ChebyshevSeries sample(DoubleUnaryOperator f, double a, double b, int n) {
+        if (!(a < b)) {
+            throw new IllegalArgumentException("Interval must satisfy a < b");
+        }
+        double mid = (a + b) / 2;
+        double half = (b - a) / 2;
+        double[] values = new double[n + 1];
+        for (int j = 0; j <= n; j++) {
+            values[j] = f.applyAsDouble(mid + half * Math.cos(Math.PI * j / n));
+        }
+        return new ChebyshevSeries(Fft.chebyshevCoefficients(values), a, b, true);
+    }
+}
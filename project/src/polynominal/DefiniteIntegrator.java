@@ -0,0 +1,190 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 16:30
+ *
+ * Клас {@code DefiniteIntegrator} – підготовлений об’єкт для багаторазового
+ * обчислення визначених інтегралів одного полінома. Первісна будується один
+ * раз у конструкторі, після чого кожен запит {@code (a, b)} коштує лише
+ * обчислення первісної у двох точках, без створення нових об’єктів.
+ *
+ * Підтримується:
+ * <ul>
+ *   <li>одиночні запити {@code integrate(a, b)};</li>
+ *   <li>пакетні запити {@code (a[], b[]) -> out[]} з обчисленням за Горнером
+ *       для блоку точок одночасно;</li>
+ *   <li>точне обчислення для раціональних меж з одним округленням результату.</li>
+ * </ul>
+ */
+
+package polynominal;
+
+import numbers.Rational;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Підготовлений інтегратор полінома з попередньо обчисленою первісною.
+ *
+ * <p>Об’єкт незмінний і може використовуватися з кількох потоків.
+ */
+public class DefiniteIntegrator {
+
+    private static final int BLOCK = 256;
+
+    /** Коефіцієнти первісної з константою 0, від {@code x^0} до {@code x^(n+1)}. */
+    private final double[] anti;
+
+    /** Вихідні коефіцієнти полінома (для точного варіанта). */
+    private final double[] coeffs;
+
+    /**
+     * Створює інтегратор для полінома.
+     *
+     * @param p поліном
+     */
+    public DefiniteIntegrator(Polynome p) {
+        this.coeffs = p.getCoefficients();
+        this.anti = new double[coeffs.length + 1];
+        for (int i = 0; i < coeffs.length; i++) {
+            anti[i + 1] = coeffs[i] / (i + 1);
+        }
+    }
+
+    /**
+     * Повертає первісну як поліном.
+     *
+     * @return первісна з константою інтегрування 0
+     */
+    public Polynome antiderivative() {
+        return new Polynome(anti);
+    }
+
+    /**
+     * Обчислює визначений інтеграл на [{@code a}, {@code b}].
+     * Первісна обчислюється в обох точках в одному циклі.
+     *
+     * @param a ліва межа інтегрування
+     * @param b права межа інтегрування
+     * @return значення визначеного інтегралу
+     */
+    public double integrate(double a, double b) {
+        double fa = 0.0;
+        double fb = 0.0;
+        for (int i = anti.length - 1; i >= 0; i--) {
+            fa = fa * a + anti[i];
+            fb = fb * b + anti[i];
+        }
+        return fb - fa;
+    }
+
+    /**
+     * Обчислює визначені інтеграли для пакета відрізків {@code [a[j], b[j]]}.
+     * Точки обробляються блоками: для кожного коефіцієнта первісної внутрішній
+     * цикл проходить по всьому блоку точок без залежностей між ітераціями,
+     * тож компілятор JIT може векторизувати його.
+     *
+     * @param a   ліві межі
+     * @param b   праві межі (та сама довжина)
+     * @param out масив для результатів (довжина не менша за {@code a.length})
+     * @throws IllegalArgumentException якщо довжини масивів не узгоджені
+     */
+    public void integrate(double[] a, double[] b, double[] out) {
+        int n = a.length;
+        if (b.length != n || out.length < n) {
+            throw new IllegalArgumentException("a, b and out lengths do not match");
+        }
+        double[] fa = new double[Math.min(BLOCK, n)];
+        double[] fb = new double[fa.length];
+        int top = anti.length - 1;
+        for (int from = 0; from < n; from += BLOCK) {
+            int len = Math.min(BLOCK, n - from);
+            double c = anti[top];
+            for (int j = 0; j < len; j++) {
+                fa[j] = c;
+                fb[j] = c;
+            }
+            for (int i = top - 1; i >= 0; i--) {
+                c = anti[i];
+                for (int j = 0; j < len; j++) {
+                    fa[j] = fa[j] * a[from + j] + c;
+                    fb[j] = fb[j] * b[from + j] + c;
+                }
+            }
+            for (int j = 0; j < len; j++) {
+                out[from + j] = fb[j] - fa[j];
+            }
+        }
+    }
+
+    /**
+     * Обчислює визначений інтеграл з раціональними межами точно.
+     * Коефіцієнти {@code double} розглядаються як точні двійкові дроби,
+     * усі проміжні обчислення виконуються без округлення, а результат
+     * округлюється один раз відповідно до {@code mc}.
+     *
+     * @param a  ліва межа інтегрування
+     * @param b  права межа інтегрування
+     * @param mc точність результату
+     * @return значення визначеного інтегралу
+     */
+    public BigDecimal integrateExact(Rational a, Rational b, MathContext mc) {
+        int m = coeffs.length; // найвищий степінь первісної
+        BigInteger lcm = BigInteger.ONE;
+        for (int k = 2; k <= m; k++) {
+            BigInteger bk = BigInteger.valueOf(k);
+            lcm = lcm.divide(lcm.gcd(bk)).multiply(bk);
+        }
+        BigInteger pa = BigInteger.valueOf(a.getNumerator());
+        BigInteger qa = BigInteger.valueOf(a.getDenominator());
+        BigInteger pb = BigInteger.valueOf(b.getNumerator());
+        BigInteger qb = BigInteger.valueOf(b.getDenominator());
+
+        // F(p/q) * lcm * q^m = sum c_i * (lcm / (i+1)) * p^(i+1) * q^(m-i-1)
+        BigDecimal na = scaledAntiderivative(pa, qa, lcm);
+        BigDecimal nb = scaledAntiderivative(pb, qb, lcm);
+        BigInteger qam = qa.pow(m);
+        BigInteger qbm = qb.pow(m);
+        BigDecimal num = nb.multiply(new BigDecimal(qam)).subtract(na.multiply(new BigDecimal(qbm)));
+        BigInteger den = lcm.multiply(qam).multiply(qbm);
+        return num.divide(new BigDecimal(den), mc);
+    }
+
+    /**
+     * Обчислює визначений інтеграл з раціональними межами точно
+     * і округлює результат до {@code double}.
+     *
+     * @param a ліва межа інтегрування
+     * @param b права межа інтегрування
+     * @return значення визначеного інтегралу
+     */
+    public double integrateExact(Rational a, Rational b) {
+        return integrateExact(a, b, MathContext.DECIMAL128).doubleValue();
+    }
+
+    /**
+     * Обчислює {@code F(p/q) * lcm * q^m} точно, де {@code m} – степінь первісної.
+     *
+     * @param p   чисельник точки
+     * @param q   знаменник точки
+     * @param lcm НСК чисел {@code 1..m}
+     * @return точне значення
+     */
+    private BigDecimal scaledAntiderivative(BigInteger p, BigInteger q, BigInteger lcm) {
+        int m = coeffs.length;
+        BigDecimal sum = BigDecimal.ZERO;
+        BigInteger pPow = p;
+        for (int i = 0; i < m; i++) {
+            if (coeffs[i] != 0.0) {
+                BigInteger factor = lcm.divide(BigInteger.valueOf(i + 1))
+                        .multiply(pPow)
+                        .multiply(q.pow(m - i - 1));
+                sum = sum.add(new BigDecimal(coeffs[i]).multiply(new BigDecimal(factor)));
+            }
+            pPow = pPow.multiply(p);
+        }
+        return sum;
+    }
+}
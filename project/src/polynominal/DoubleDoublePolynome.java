@@ -0,0 +1,302 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 11:05
+ *
+ * Клас {@code DoubleDoublePolynome} реалізує поліном з коефіцієнтами
+ * подвійно-подвійної точності. Коефіцієнти зберігаються у двох примітивних
+ * масивах {@code hi[]} та {@code lo[]}, тому обчислення не створюють
+ * проміжних об’єктів {@link DoubleDouble}: схема Горнера і множення працюють
+ * безпосередньо з парами {@code double}.
+ */
+
+package polynominal;
+
+import numbers.DoubleDouble;
+
+import java.util.Arrays;
+
+/**
+ * Незмінний поліном з коефіцієнтами {@link DoubleDouble}.
+ *
+ * <p>Коефіцієнти зберігаються від {@code x^0} до {@code x^n}.
+ */
+public class DoubleDoublePolynome {
+
+    private final double[] hi;
+    private final double[] lo;
+
+    /**
+     * Створює поліном з коефіцієнтами звичайного полінома (точно).
+     *
+     * @param p поліном
+     */
+    public DoubleDoublePolynome(Polynome p) {
+        this.hi = p.getCoefficients();
+        this.lo = new double[hi.length];
+    }
+
+    /**
+     * Створює поліном з масиву коефіцієнтів.
+     *
+     * @param coeffs коефіцієнти від {@code x^0} до {@code x^n}
+     * @throws IllegalArgumentException якщо масив порожній
+     */
+    public DoubleDoublePolynome(DoubleDouble[] coeffs) {
+        if (coeffs.length == 0) {
+            throw new IllegalArgumentException("Coefficients array must not be empty");
+        }
+        int n = trimmedLength(coeffs);
+        this.hi = new double[n];
+        this.lo = new double[n];
+        for (int i = 0; i < n; i++) {
+            hi[i] = coeffs[i].getHi();
+            lo[i] = coeffs[i].getLo();
+        }
+    }
+
+    /**
+     * Приймає вже нормалізовані масиви без копіювання.
+     *
+     * @param hi старші частини коефіцієнтів
+     * @param lo молодші частини коефіцієнтів
+     */
+    private DoubleDoublePolynome(double[] hi, double[] lo) {
+        int n = hi.length;
+        while (n > 1 && hi[n - 1] == 0.0 && lo[n - 1] == 0.0) {
+            n--;
+        }
+        this.hi = n == hi.length ? hi : Arrays.copyOf(hi, n);
+        this.lo = n == lo.length ? lo : Arrays.copyOf(lo, n);
+    }
+
+    /**
+     * Обчислює кількість коефіцієнтів без старших нулів.
+     *
+     * @param coeffs коефіцієнти
+     * @return довжина без старших нулів (не менше 1)
+     */
+    private static int trimmedLength(DoubleDouble[] coeffs) {
+        int n = coeffs.length;
+        while (n > 1 && coeffs[n - 1].signum() == 0) {
+            n--;
+        }
+        return n;
+    }
+
+    /**
+     * Повертає степінь полінома.
+     *
+     * @return степінь полінома
+     */
+    public int degree() {
+        return hi.length - 1;
+    }
+
+    /**
+     * Повертає коефіцієнт при {@code x^i}.
+     *
+     * @param i степінь
+     * @return коефіцієнт
+     * @throws IndexOutOfBoundsException якщо {@code i} поза межами [0, degree]
+     */
+    public DoubleDouble coefficient(int i) {
+        return DoubleDouble.valueOf(hi[i], lo[i]);
+    }
+
+    /**
+     * Обчислює значення полінома у точці {@code x}.
+     *
+     * @param x значення аргумента
+     * @return значення полінома з подвійно-подвійною точністю
+     */
+    public DoubleDouble valueAt(double x) {
+        return valueAt(DoubleDouble.valueOf(x));
+    }
+
+    /**
+     * Обчислює значення полінома у точці {@code x} за схемою Горнера.
+     *
+     * @param x значення аргумента
+     * @return значення полінома з подвійно-подвійною точністю
+     */
+    public DoubleDouble valueAt(DoubleDouble x) {
+        double xh = x.getHi();
+        double xl = x.getLo();
+        int n = hi.length - 1;
+        double rh = hi[n];
+        double rl = lo[n];
+        for (int i = n - 1; i >= 0; i--) {
+            // (rh, rl) * (xh, xl)
+            double p = rh * xh;
+            double e = Math.fma(rh, xh, -p) + (rh * xl + rl * xh);
+            double ph = p + e;
+            double pl = e - (ph - p);
+            // (ph, pl) + (hi[i], lo[i])
+            double s = ph + hi[i];
+            double bb = s - ph;
+            double se = (ph - (s - bb)) + (hi[i] - bb);
+            double t = pl + lo[i];
+            bb = t - pl;
+            double te = (pl - (t - bb)) + (lo[i] - bb);
+            se += t;
+            double h = s + se;
+            se = se - (h - s);
+            se += te;
+            rh = h + se;
+            rl = se - (rh - h);
+        }
+        return DoubleDouble.valueOf(rh, rl);
+    }
+
+    /**
+     * Обчислює значення полінома у багатьох точках, записуючи старші
+     * та молодші частини результатів в окремі масиви.
+     *
+     * @param xs    значення аргумента
+     * @param outHi масив для старших частин (довжина не менша за {@code xs.length})
+     * @param outLo масив для молодших частин (довжина не менша за {@code xs.length})
+     * @throws IllegalArgumentException якщо масиви результатів коротші за {@code xs}
+     */
+    public void valueAt(double[] xs, double[] outHi, double[] outLo) {
+        if (outHi.length < xs.length || outLo.length < xs.length) {
+            throw new IllegalArgumentException("out is shorter than xs");
+        }
+        int n = hi.length - 1;
+        for (int j = 0; j < xs.length; j++) {
+            double x = xs[j];
+            double rh = hi[n];
+            double rl = lo[n];
+            for (int i = n - 1; i >= 0; i--) {
+                double p = rh * x;
+                double e = Math.fma(rh, x, -p) + rl * x;
+                double ph = p + e;
+                double pl = e - (ph - p);
+                double s = ph + hi[i];
+                double bb = s - ph;
+                double se = (ph - (s - bb)) + (hi[i] - bb);
+                double t = pl + lo[i];
+                bb = t - pl;
+                double te = (pl - (t - bb)) + (lo[i] - bb);
+                se += t;
+                double h = s + se;
+                se = se - (h - s);
+                se += te;
+                rh = h + se;
+                rl = se - (rh - h);
+            }
+            outHi[j] = rh;
+            outLo[j] = rl;
+        }
+    }
+
+    /**
+     * Додає інший поліном до поточного.
+     *
+     * @param other доданок
+     * @return новий об’єкт {@link DoubleDoublePolynome} – результат додавання
+     */
+    public DoubleDoublePolynome add(DoubleDoublePolynome other) {
+        int n = Math.max(hi.length, other.hi.length);
+        double[] rh = new double[n];
+        double[] rl = new double[n];
+        for (int i = 0; i < n; i++) {
+            double ah = i < hi.length ? hi[i] : 0.0;
+            double al = i < lo.length ? lo[i] : 0.0;
+            double bh = i < other.hi.length ? other.hi[i] : 0.0;
+            double bl = i < other.lo.length ? other.lo[i] : 0.0;
+            double s = ah + bh;
+            double bb = s - ah;
+            double se = (ah - (s - bb)) + (bh - bb);
+            double t = al + bl;
+            bb = t - al;
+            double te = (al - (t - bb)) + (bl - bb);
+            se += t;
+            double h = s + se;
+            se = se - (h - s);
+            se += te;
+            rh[i] = h + se;
+            rl[i] = se - (rh[i] - h);
+        }
+        return new DoubleDoublePolynome(rh, rl);
+    }
+
+    /**
+     * Множить поточний поліном на інший. Кожен коефіцієнт добутку
+     * накопичується у подвійно-подвійній точності.
+     *
+     * @param other множник
+     * @return новий об’єкт {@link DoubleDoublePolynome} – результат множення
+     */
+    public DoubleDoublePolynome multiply(DoubleDoublePolynome other) {
+        int n = hi.length + other.hi.length - 1;
+        double[] rh = new double[n];
+        double[] rl = new double[n];
+        for (int k = 0; k < n; k++) {
+            int from = Math.max(0, k - other.hi.length + 1);
+            int to = Math.min(k, hi.length - 1);
+            double ah = 0.0;
+            double al = 0.0;
+            for (int i = from; i <= to; i++) {
+                int j = k - i;
+                double p = hi[i] * other.hi[j];
+                double e = Math.fma(hi[i], other.hi[j], -p) + (hi[i] * other.lo[j] + lo[i] * other.hi[j]);
+                double ph = p + e;
+                double pl = e - (ph - p);
+                double s = ah + ph;
+                double bb = s - ah;
+                double se = (ah - (s - bb)) + (ph - bb);
+                double t = al + pl;
+                bb = t - al;
+                double te = (al - (t - bb)) + (pl - bb);
+                se += t;
+                double h = s + se;
+                se = se - (h - s);
+                se += te;
+                ah = h + se;
+                al = se - (ah - h);
+            }
+            rh[k] = ah;
+            rl[k] = al;
+        }
+        return new DoubleDoublePolynome(rh, rl);
+    }
+
+    /**
+     * Округлює коефіцієнти до {@code double} і повертає звичайний поліном.
+     *
+     * @return новий об’єкт {@link Polynome}
+     */
+    public Polynome toPolynome() {
+        double[] c = new double[hi.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = hi[i] + lo[i];
+        }
+        return new Polynome(c);
+    }
+
+    /**
+     * Повертає рядкове представлення полінома у форматі {@code c_n x^n + ... + c_0}.
+     *
+     * @return рядок з поліномом
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = hi.length - 1; i >= 0; i--) {
+            if (hi[i] == 0.0 && hi.length > 1) {
+                continue;
+            }
+            DoubleDouble c = coefficient(i);
+            if (sb.length() > 0) {
+                sb.append(c.signum() < 0 ? " - " : " + ");
+                c = c.abs();
+            }
+            sb.append(c);
+            if (i > 0) {
+                sb.append(i == 1 ? "x" : "x^" + i);
+            }
+        }
+        return sb.length() == 0 ? "0" : sb.toString();
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 12:30
+ *
+ * Клас {@code Fft} – швидке перетворення Фур’є (Кулі–Тьюкі, основа 2)
+ * і обчислення коефіцієнтів Чебишова за значеннями у вузлах для {@link ChebyshevSeries}.
+ */
+
+package polynominal;
+
+/**
+ * Швидке перетворення Фур’є та пов’язані з ним перетворення
+ * для внутрішнього використання в пакеті.
+ */
+final class Fft {
+
+    private Fft() {
+    }
+
+    /**
+     * Виконує пряме комплексне ДПФ на місці (алгоритм Кулі–Тьюкі, основа 2).
+     *
+     * @param re дійсні частини (довжина – степінь двійки)
+     * @param im уявні частини (та сама довжина)
+     * @throws IllegalArgumentException якщо довжина не є степенем двійки
+     */
+    static void transform(double[] re, double[] im) {
+        int n = re.length;
+        if (n == 0 || (n & (n - 1)) != 0 || im.length != n) {
+            throw new IllegalArgumentException("FFT length must be a power of two");
+        }
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+        }
+        for (int len = 2; len <= n; len <<= 1) {
+            int half = len >> 1;
+            double ang = -2 * Math.PI / len;
+            for (int k = 0; k < half; k++) {
+                double wr = Math.cos(ang * k);
+                double wi = Math.sin(ang * k);
+                for (int i = k; i < n; i += len) {
+                    int j = i + half;
+                    double xr = re[j] * wr - im[j] * wi;
+                    double xi = re[j] * wi + im[j] * wr;
+                    re[j] = re[i] - xr;
+                    im[j] = im[i] - xi;
+                    re[i] += xr;
+                    im[i] += xi;
+                }
+            }
+        }
+    }
+
+    /**
+     * Обчислює коефіцієнти Чебишова з значень у точках Чебишова–Лобатто
+     * {@code cos(pi j / n)}, {@code j = 0..n}, через ДКП-I за O(n log n).
+     *
+     * @param values значення функції (довжина {@code n + 1}, {@code n} – степінь двійки)
+     * @return коефіцієнти {@code c_0..c_n} ряду {@code sum c_k T_k(t)}
+     */
+    static double[] chebyshevCoefficients(double[] values) {
+        int n = values.length - 1;
+        int m = 2 * n;
+        double[] re = new double[m];
+        double[] im = new double[m];
+        for (int j = 0; j <= n; j++) {
+            re[j] = values[j];
+        }
+        for (int j = 1; j < n; j++) {
+            re[m - j] = values[j];
+        }
+        transform(re, im);
+        double[] c = new double[n + 1];
+        for (int k = 0; k <= n; k++) {
+            c[k] = re[k] / n;
+        }
+        c[0] /= 2;
+        c[n] /= 2;
+        return c;
+    }
+}
@@ -0,0 +1,360 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 17:40
+ *
+ * Клас {@code GaussQuadrature} – квадратурна формула Гаусса для сімейства
+ * {@link OrthogonalFamily}: {@code ∫ w(x) f(x) dx ≈ sum w_i f(x_i)}, точна для
+ * многочленів степеня до {@code 2n-1}. Вузли та ваги обчислюються один раз
+ * і кешуються для кожної пари (сімейство, кількість вузлів), тож подальше
+ * інтегрування – це лише обчислення функції у вузлах і скалярний добуток.
+ *
+ * Вузли обчислюються так:
+ * <ul>
+ *   <li>Лежандр – метод Ньютона за рекурентністю з початковими наближеннями
+ *       через косинуси, ваги {@code 2 / ((1 - x^2) P_n'(x)^2)};</li>
+ *   <li>Чебишов – явні формули;</li>
+ *   <li>Ерміт – алгоритм Голуба–Велша: власні значення тридіагональної
+ *       матриці Якобі (QL-алгоритм з неявними зсувами) та перші компоненти
+ *       власних векторів.</li>
+ * </ul>
+ */
+
+package polynominal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Незмінна квадратурна формула Гаусса з кешованими вузлами та вагами.
+ *
+ * <p>Об’єкт незмінний і може використовуватися з кількох потоків.
+ */
+public final class GaussQuadrature {
+
+    /** Максимальна кількість ітерацій Ньютона / QL для одного вузла. */
+    private static final int MAX_ITERATIONS = 100;
+
+    private static final ConcurrentHashMap<Key, GaussQuadrature> CACHE = new ConcurrentHashMap<>();
+
+    private final OrthogonalFamily family;
+
+    /** Вузли у зростаючому порядку. */
+    private final double[] nodes;
+
+    private final double[] weights;
+
+    private GaussQuadrature(OrthogonalFamily family, double[] nodes, double[] weights) {
+        this.family = family;
+        this.nodes = nodes;
+        this.weights = weights;
+    }
+
+    /**
+     * Повертає формулу з {@code n} вузлами для сімейства (з кешу, якщо вона вже будувалася).
+     *
+     * @param family сімейство ортогональних многочленів
+     * @param n      кількість вузлів
+     * @return квадратурна формула
+     * @throws IllegalArgumentException якщо {@code n < 1}
+     */
+    public static GaussQuadrature of(OrthogonalFamily family, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("number of nodes must be positive");
+        }
+        return CACHE.computeIfAbsent(new Key(family, n), k -> build(k.family(), k.n()));
+    }
+
+    /**
+     * Повертає формулу Гаусса–Лежандра з {@code n} вузлами.
+     *
+     * @param n кількість вузлів
+     * @return квадратурна формула
+     */
+    public static GaussQuadrature legendre(int n) {
+        return of(OrthogonalFamily.LEGENDRE, n);
+    }
+
+    /**
+     * Повертає формулу Гаусса–Ерміта з {@code n} вузлами.
+     *
+     * @param n кількість вузлів
+     * @return квадратурна формула
+     */
+    public static GaussQuadrature hermite(int n) {
+        return of(OrthogonalFamily.HERMITE, n);
+    }
+
+    /**
+     * Повертає сімейство, для якого побудовано формулу.
+     *
+     * @return сімейство
+     */
+    public OrthogonalFamily family() {
+        return family;
+    }
+
+    /**
+     * Повертає кількість вузлів.
+     *
+     * @return кількість вузлів
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Повертає копію вузлів у зростаючому порядку.
+     *
+     * @return вузли
+     */
+    public double[] nodes() {
+        return nodes.clone();
+    }
+
+    /**
+     * Повертає копію ваг у порядку вузлів.
+     *
+     * @return ваги
+     */
+    public double[] weights() {
+        return weights.clone();
+    }
+
+    /**
+     * Обчислює {@code ∫ w(x) f(x) dx} по проміжку ортогональності сімейства.
+     *
+     * @param f підінтегральна функція (без вагової функції)
+     * @return наближене значення інтеграла
+     */
+    public double integrate(DoubleUnaryOperator f) {
+        double s = 0.0;
+        for (int i = 0; i < nodes.length; i++) {
+            s += weights[i] * f.applyAsDouble(nodes[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Обчислює інтеграл за вже відомими значеннями функції у вузлах.
+     *
+     * @param values значення {@code f(x_i)} у порядку {@link #nodes()}
+     * @return наближене значення інтеграла
+     * @throws IllegalArgumentException якщо довжина масиву не дорівнює кількості вузлів
+     */
+    public double integrate(double[] values) {
+        if (values.length != nodes.length) {
+            throw new IllegalArgumentException("values length must equal number of nodes");
+        }
+        double s = 0.0;
+        for (int i = 0; i < nodes.length; i++) {
+            s += weights[i] * values[i];
+        }
+        return s;
+    }
+
+    /**
+     * Обчислює {@code ∫ w(x) P(x) dx}; результат точний (до округлення),
+     * якщо степінь полінома не перевищує {@code 2n-1}.
+     *
+     * @param p поліном
+     * @return значення інтеграла
+     */
+    public double integrate(Polynome p) {
+        return integrate(p::valueAt);
+    }
+
+    /**
+     * Обчислює інтеграл по скінченному відрізку {@code [a, b]} після лінійної
+     * заміни змінної з проміжку ортогональності. Для Лежандра це звичайний
+     * інтеграл {@code ∫_a^b f(x) dx}.
+     *
+     * @param f підінтегральна функція
+     * @param a ліва межа
+     * @param b права межа
+     * @return наближене значення інтеграла
+     * @throws IllegalStateException якщо проміжок ортогональності сімейства нескінченний
+     */
+    public double integrate(DoubleUnaryOperator f, double a, double b) {
+        double lo = family.lower();
+        double hi = family.upper();
+        if (Double.isInfinite(lo) || Double.isInfinite(hi)) {
+            throw new IllegalStateException("Interval mapping requires a finite orthogonality interval");
+        }
+        double scale = (b - a) / (hi - lo);
+        double s = 0.0;
+        for (int i = 0; i < nodes.length; i++) {
+            s += weights[i] * f.applyAsDouble(a + (nodes[i] - lo) * scale);
+        }
+        return s * scale;
+    }
+
+    @Override
+    public String toString() {
+        return "GaussQuadrature{" + family + ", n=" + nodes.length + "}";
+    }
+
+    /**
+     * Будує формулу відповідним методом.
+     */
+    private static GaussQuadrature build(OrthogonalFamily family, int n) {
+        double[] x = new double[n];
+        double[] w = new double[n];
+        switch (family) {
+            case LEGENDRE -> legendreNewton(n, x, w);
+            case CHEBYSHEV_T -> {
+                for (int i = 0; i < n; i++) {
+                    x[i] = -Math.cos((2.0 * i + 1.0) * Math.PI / (2.0 * n));
+                    w[i] = Math.PI / n;
+                }
+            }
+            case CHEBYSHEV_U -> {
+                for (int i = 0; i < n; i++) {
+                    double t = (i + 1.0) * Math.PI / (n + 1.0);
+                    double s = Math.sin(t);
+                    x[i] = -Math.cos(t);
+                    w[i] = Math.PI / (n + 1.0) * s * s;
+                }
+            }
+            default -> golubWelsch(family, n, x, w);
+        }
+        return new GaussQuadrature(family, x, w);
+    }
+
+    /**
+     * Вузли та ваги Гаусса–Лежандра методом Ньютона; обчислюється лише
+     * половина вузлів, решта – симетрично.
+     */
+    private static void legendreNewton(int n, double[] x, double[] w) {
+        for (int i = 0; i < (n + 1) / 2; i++) {
+            double z = Math.cos(Math.PI * (i + 0.75) / (n + 0.5));
+            double dp = 0.0;
+            for (int iter = 0; iter < MAX_ITERATIONS; iter++) {
+                double p0 = 1.0;
+                double p1 = 0.0;
+                for (int k = 0; k < n; k++) {
+                    double p2 = p1;
+                    p1 = p0;
+                    p0 = ((2.0 * k + 1.0) * z * p1 - k * p2) / (k + 1.0);
+                }
+                dp = n * (z * p0 - p1) / (z * z - 1.0);
+                double dz = p0 / dp;
+                z -= dz;
+                if (Math.abs(dz) <= 1e-15) {
+                    break;
+                }
+            }
+            double wi = 2.0 / ((1.0 - z * z) * dp * dp);
+            x[i] = -z;
+            x[n - 1 - i] = z;
+            w[i] = wi;
+            w[n - 1 - i] = wi;
+        }
+        if (n % 2 == 1) {
+            x[n / 2] = 0.0;
+        }
+    }
+
+    /**
+     * Алгоритм Голуба–Велша: матриця Якобі будується з монічної форми
+     * рекурентності {@code p_{k+1} = x·p_k - beta_k·p_{k-1}},
+     * {@code beta_k = c_k / (a_k·a_{k-1})}. Вузли – її власні значення,
+     * ваги – {@code weightIntegral · v_0^2}, де {@code v_0} – перша компонента
+     * нормованого власного вектора.
+     */
+    private static void golubWelsch(OrthogonalFamily family, int n, double[] x, double[] w) {
+        double[] e = new double[n];
+        for (int k = 1; k < n; k++) {
+            e[k - 1] = Math.sqrt(family.c(k) / (family.a(k) * family.a(k - 1)));
+        }
+        double[] z = new double[n];
+        z[0] = 1.0;
+        tridiagonalQl(x, e, z);
+        for (int i = 0; i < n; i++) {
+            w[i] = family.weightIntegral() * z[i] * z[i];
+        }
+        // сортування вставками: після QL вузли майже впорядковані
+        for (int i = 1; i < n; i++) {
+            double xi = x[i];
+            double wi = w[i];
+            int j = i - 1;
+            while (j >= 0 && x[j] > xi) {
+                x[j + 1] = x[j];
+                w[j + 1] = w[j];
+                j--;
+            }
+            x[j + 1] = xi;
+            w[j + 1] = wi;
+        }
+    }
+
+    /**
+     * QL-алгоритм з неявними зсувами для симетричної тридіагональної матриці.
+     * На вході {@code d} – діагональ, {@code e[k]} – елемент між {@code k} і
+     * {@code k+1}; на виході {@code d} містить власні значення. Обертання
+     * застосовуються лише до першого рядка матриці власних векторів, який
+     * передається у {@code z}.
+     *
+     * @throws ArithmeticException якщо ітерації не збігаються
+     */
+    private static void tridiagonalQl(double[] d, double[] e, double[] z) {
+        int n = d.length;
+        for (int l = 0; l < n; l++) {
+            int iter = 0;
+            int m;
+            do {
+                for (m = l; m < n - 1; m++) {
+                    double dd = Math.abs(d[m]) + Math.abs(d[m + 1]);
+                    if (Math.abs(e[m]) + dd == dd) {
+                        break;
+                    }
+                }
+                if (m != l) {
+                    if (iter++ == MAX_ITERATIONS) {
+                        throw new ArithmeticException("Jacobi matrix eigenvalues did not converge");
+                    }
+                    double g = (d[l + 1] - d[l]) / (2.0 * e[l]);
+                    double r = Math.hypot(g, 1.0);
+                    g = d[m] - d[l] + e[l] / (g + Math.copySign(r, g));
+                    double s = 1.0;
+                    double c = 1.0;
+                    double p = 0.0;
+                    int i;
+                    for (i = m - 1; i >= l; i--) {
+                        double f = s * e[i];
+                        double b = c * e[i];
+                        r = Math.hypot(f, g);
+                        e[i + 1] = r;
+                        if (r == 0.0) {
+                            d[i + 1] -= p;
+                            e[m] = 0.0;
+                            break;
+                        }
+                        s = f / r;
+                        c = g / r;
+                        g = d[i + 1] - p;
+                        r = (d[i] - g) * s + 2.0 * c * b;
+                        p = s * r;
+                        d[i + 1] = g + p;
+                        g = c * r - b;
+                        f = z[i + 1];
+                        z[i + 1] = s * z[i] + c * f;
+                        z[i] = c * z[i] - s * f;
+                    }
+                    if (r == 0.0 && i >= l) {
+                        continue;
+                    }
+                    d[l] -= p;
+                    e[l] = g;
+                    e[m] = 0.0;
+                }
+            } while (m != l);
+        }
+    }
+
+    /**
+     * Ключ кешу формул.
+     */
+    private record Key(OrthogonalFamily family, int n) {
+    }
+}
@@ -0,0 +1,545 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 16:40
+ *
+ * Клас {@code IntegerPolynome} реалізує поліном з цілими коефіцієнтами
+ * довільної довжини ({@link BigInteger}) і точні алгоритми, для яких
+ * {@link Polynome} з коефіцієнтами {@code double} непридатний:
+ * <ul>
+ *   <li>НСД багатомодульним методом: НСД обчислюється за кількома 31-бітними
+ *       простими модулями у Z_p ({@link ModPolynome}), результати поєднуються
+ *       за китайською теоремою про остачі, а кандидат перевіряється діленням.
+ *       Проміжні коефіцієнти не ростуть, на відміну від алгоритму Евкліда над Q;</li>
+ *   <li>точне ділення;</li>
+ *   <li>розклад на множники без квадратів (алгоритм Юна).</li>
+ * </ul>
+ */
+
+package polynominal;
+
+import numbers.Montgomery;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Незмінний поліном з цілими коефіцієнтами.
+ *
+ * <p>Коефіцієнти зберігаються від {@code x^0} до {@code x^n}; нульовий поліном
+ * має один нульовий коефіцієнт і степінь 0, як і в {@link Polynome}.
+ */
+public class IntegerPolynome {
+
+    /** Найбільше просте число, менше за {@code 2^31}. */
+    private static final int FIRST_PRIME = Integer.MAX_VALUE;
+
+    private final BigInteger[] coeffs;
+
+    /**
+     * Створює поліном з масиву коефіцієнтів.
+     *
+     * @param coeffs коефіцієнти від {@code x^0} до {@code x^n}
+     * @throws IllegalArgumentException якщо масив порожній
+     */
+    public IntegerPolynome(BigInteger[] coeffs) {
+        if (coeffs.length == 0) {
+            throw new IllegalArgumentException("Coefficients array must not be empty");
+        }
+        int n = coeffs.length;
+        while (n > 1 && coeffs[n - 1].signum() == 0) {
+            n--;
+        }
+        this.coeffs = Arrays.copyOf(coeffs, n);
+    }
+
+    /**
+     * Створює поліном з коефіцієнтів типу {@code long}.
+     *
+     * @param coeffs коефіцієнти від {@code x^0} до {@code x^n}
+     * @return новий об’єкт {@link IntegerPolynome}
+     * @throws IllegalArgumentException якщо масив порожній
+     */
+    public static IntegerPolynome valueOf(long... coeffs) {
+        BigInteger[] c = new BigInteger[coeffs.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = BigInteger.valueOf(coeffs[i]);
+        }
+        return new IntegerPolynome(c);
+    }
+
+    /**
+     * Створює поліном з {@link Polynome}, усі коефіцієнти якого цілі.
+     *
+     * @param p поліном з цілими коефіцієнтами
+     * @return новий об’єкт {@link IntegerPolynome}
+     * @throws IllegalArgumentException якщо якийсь коефіцієнт не є скінченним цілим числом
+     */
+    public static IntegerPolynome fromPolynome(Polynome p) {
+        double[] d = p.rawCoefficients();
+        BigInteger[] c = new BigInteger[d.length];
+        for (int i = 0; i < d.length; i++) {
+            if (!Double.isFinite(d[i]) || d[i] != Math.rint(d[i])) {
+                throw new IllegalArgumentException("Coefficient of x^" + i + " is not an integer: " + d[i]);
+            }
+            c[i] = new BigDecimal(d[i]).toBigIntegerExact();
+        }
+        return new IntegerPolynome(c);
+    }
+
+    /**
+     * Перетворює поліном у {@link Polynome} (коефіцієнти округлюються до {@code double}).
+     *
+     * @return новий об’єкт {@link Polynome}
+     */
+    public Polynome toPolynome() {
+        double[] d = new double[coeffs.length];
+        for (int i = 0; i < d.length; i++) {
+            d[i] = coeffs[i].doubleValue();
+        }
+        return new Polynome(d);
+    }
+
+    /**
+     * Повертає степінь полінома.
+     *
+     * @return степінь полінома
+     */
+    public int degree() {
+        return coeffs.length - 1;
+    }
+
+    /**
+     * Перевіряє, чи поліном нульовий.
+     *
+     * @return {@code true}, якщо всі коефіцієнти нульові
+     */
+    public boolean isZero() {
+        return coeffs.length == 1 && coeffs[0].signum() == 0;
+    }
+
+    /**
+     * Повертає коефіцієнт при {@code x^i}.
+     *
+     * @param i степінь
+     * @return коефіцієнт (0, якщо {@code i} більше за степінь)
+     */
+    public BigInteger coefficient(int i) {
+        return i < coeffs.length ? coeffs[i] : BigInteger.ZERO;
+    }
+
+    /**
+     * Повертає старший коефіцієнт.
+     *
+     * @return старший коефіцієнт
+     */
+    public BigInteger leadingCoefficient() {
+        return coeffs[coeffs.length - 1];
+    }
+
+    /**
+     * Повертає копію коефіцієнтів.
+     *
+     * @return масив коефіцієнтів від {@code x^0} до {@code x^n}
+     */
+    public BigInteger[] getCoefficients() {
+        return coeffs.clone();
+    }
+
+    /**
+     * Обчислює вміст полінома – НСД коефіцієнтів.
+     *
+     * @return невід’ємний вміст (0 для нульового полінома)
+     */
+    public BigInteger content() {
+        BigInteger g = BigInteger.ZERO;
+        for (BigInteger c : coeffs) {
+            g = g.gcd(c);
+            if (g.equals(BigInteger.ONE)) {
+                break;
+            }
+        }
+        return g;
+    }
+
+    /**
+     * Повертає примітивну частину полінома з додатним старшим коефіцієнтом.
+     *
+     * @return примітивна частина (нульовий поліном для нульового)
+     */
+    public IntegerPolynome primitivePart() {
+        if (isZero()) {
+            return this;
+        }
+        BigInteger c = content();
+        if (leadingCoefficient().signum() < 0) {
+            c = c.negate();
+        }
+        return c.equals(BigInteger.ONE) ? this : divide(c);
+    }
+
+    /**
+     * Ділить усі коефіцієнти на ціле число без перевірки остачі.
+     *
+     * @param c дільник, що ділить усі коефіцієнти
+     * @return новий поліном
+     */
+    private IntegerPolynome divide(BigInteger c) {
+        BigInteger[] res = new BigInteger[coeffs.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = coeffs[i].divide(c);
+        }
+        return new IntegerPolynome(res);
+    }
+
+    /**
+     * Множить поліном на ціле число.
+     *
+     * @param c множник
+     * @return новий поліном
+     */
+    public IntegerPolynome multiply(BigInteger c) {
+        BigInteger[] res = new BigInteger[coeffs.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = coeffs[i].multiply(c);
+        }
+        return new IntegerPolynome(res);
+    }
+
+    /**
+     * Додає інший поліном до поточного.
+     *
+     * @param other доданок
+     * @return новий об’єкт {@link IntegerPolynome} – результат додавання
+     */
+    public IntegerPolynome add(IntegerPolynome other) {
+        BigInteger[] res = new BigInteger[Math.max(coeffs.length, other.coeffs.length)];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = coefficient(i).add(other.coefficient(i));
+        }
+        return new IntegerPolynome(res);
+    }
+
+    /**
+     * Віднімає інший поліном від поточного.
+     *
+     * @param other від’ємник
+     * @return новий об’єкт {@link IntegerPolynome} – результат віднімання
+     */
+    public IntegerPolynome subtract(IntegerPolynome other) {
+        BigInteger[] res = new BigInteger[Math.max(coeffs.length, other.coeffs.length)];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = coefficient(i).subtract(other.coefficient(i));
+        }
+        return new IntegerPolynome(res);
+    }
+
+    /**
+     * Множить поточний поліном на інший.
+     *
+     * @param other множник
+     * @return новий об’єкт {@link IntegerPolynome} – результат множення
+     */
+    public IntegerPolynome multiply(IntegerPolynome other) {
+        BigInteger[] res = new BigInteger[coeffs.length + other.coeffs.length - 1];
+        Arrays.fill(res, BigInteger.ZERO);
+        for (int i = 0; i < coeffs.length; i++) {
+            if (coeffs[i].signum() == 0) {
+                continue;
+            }
+            for (int j = 0; j < other.coeffs.length; j++) {
+                res[i + j] = res[i + j].add(coeffs[i].multiply(other.coeffs[j]));
+            }
+        }
+        return new IntegerPolynome(res);
+    }
+
+    /**
+     * Обчислює похідну полінома.
+     *
+     * @return новий об’єкт {@link IntegerPolynome}, що є похідною
+     */
+    public IntegerPolynome derivative() {
+        if (coeffs.length == 1) {
+            return valueOf(0);
+        }
+        BigInteger[] res = new BigInteger[coeffs.length - 1];
+        for (int i = 1; i < coeffs.length; i++) {
+            res[i - 1] = coeffs[i].multiply(BigInteger.valueOf(i));
+        }
+        return new IntegerPolynome(res);
+    }
+
+    /**
+     * Ділить поточний поліном на інший, якщо ділення в Z[x] виконується без остачі.
+     * Ділення припиняється, щойно старший коефіцієнт остачі не ділиться націло.
+     *
+     * @param divisor ненульовий дільник
+     * @return частка або {@code null}, якщо {@code divisor} не ділить поліном
+     * @throws ArithmeticException якщо дільник нульовий
+     */
+    public IntegerPolynome divideExact(IntegerPolynome divisor) {
+        if (divisor.isZero()) {
+            throw new ArithmeticException("Division by zero polynome");
+        }
+        if (isZero()) {
+            return this;
+        }
+        int db = divisor.degree();
+        if (degree() < db) {
+            return null;
+        }
+        BigInteger[] r = coeffs.clone();
+        BigInteger[] q = new BigInteger[r.length - db];
+        BigInteger lc = divisor.leadingCoefficient();
+        for (int i = r.length - 1; i >= db; i--) {
+            BigInteger[] qr = r[i].divideAndRemainder(lc);
+            if (qr[1].signum() != 0) {
+                return null;
+            }
+            BigInteger c = qr[0];
+            q[i - db] = c;
+            if (c.signum() == 0) {
+                continue;
+            }
+            for (int j = 0; j <= db; j++) {
+                r[i - db + j] = r[i - db + j].subtract(c.multiply(divisor.coeffs[j]));
+            }
+        }
+        for (int i = 0; i < db; i++) {
+            if (r[i].signum() != 0) {
+                return null;
+            }
+        }
+        return new IntegerPolynome(q);
+    }
+
+    /**
+     * Перевіряє, чи ділить {@code divisor} поточний поліном у Z[x].
+     *
+     * @param divisor ненульовий дільник
+     * @return {@code true}, якщо ділення без остачі
+     */
+    public boolean isDivisibleBy(IntegerPolynome divisor) {
+        return divideExact(divisor) != null;
+    }
+
+    /**
+     * Зводить коефіцієнти за простим модулем.
+     *
+     * @param field модуль
+     * @return поліном над Z_p
+     */
+    ModPolynome reduce(Montgomery field) {
+        BigInteger p = BigInteger.valueOf(field.getModulus());
+        long[] res = new long[coeffs.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = field.toMontgomery(coeffs[i].mod(p).longValue());
+        }
+        return new ModPolynome(field, res);
+    }
+
+    /**
+     * Обчислює найбільший спільний дільник багатомодульним методом.
+     *
+     * <p>Для кожного простого {@code p}, що не ділить старші коефіцієнти, обчислюється
+     * унітарний НСД у Z_p і масштабується до {@code gcd(lc(a), lc(b))}. Прості з
+     * більшим степенем НСД відкидаються як невдалі, а менший степінь скидає
+     * накопичений результат. Коли відновлений за китайською теоремою кандидат
+     * перестає змінюватися, його примітивна частина перевіряється діленням
+     * обох поліномів.
+     *
+     * @param other другий поліном
+     * @return НСД з додатним старшим коефіцієнтом, помножений на НСД вмістів
+     */
+    public IntegerPolynome gcd(IntegerPolynome other) {
+        if (isZero()) {
+            return other.normalizeSign();
+        }
+        if (other.isZero()) {
+            return normalizeSign();
+        }
+        BigInteger contentGcd = content().gcd(other.content());
+        IntegerPolynome a = primitivePart();
+        IntegerPolynome b = other.primitivePart();
+        if (a.degree() == 0 || b.degree() == 0) {
+            return new IntegerPolynome(new BigInteger[]{contentGcd});
+        }
+        BigInteger lcGcd = a.leadingCoefficient().gcd(b.leadingCoefficient());
+
+        BigInteger[] h = null;
+        BigInteger modulus = BigInteger.ONE;
+        int prime = FIRST_PRIME;
+        while (true) {
+            BigInteger bp = BigInteger.valueOf(prime);
+            if (a.leadingCoefficient().mod(bp).signum() != 0 && b.leadingCoefficient().mod(bp).signum() != 0) {
+                Montgomery field = new Montgomery(prime);
+                ModPolynome g = a.reduce(field).gcd(b.reduce(field));
+                if (g.degree() == 0) {
+                    return new IntegerPolynome(new BigInteger[]{contentGcd});
+                }
+                g = g.multiply(lcGcd.mod(bp).longValue());
+                if (h == null || g.degree() < h.length - 1) {
+                    h = new BigInteger[g.degree() + 1];
+                    long half = prime >>> 1;
+                    for (int i = 0; i < h.length; i++) {
+                        long c = g.coefficient(i);
+                        h[i] = BigInteger.valueOf(c > half ? c - prime : c);
+                    }
+                    modulus = bp;
+                } else if (g.degree() == h.length - 1) {
+                    boolean changed = combine(h, modulus, g, field);
+                    modulus = modulus.multiply(bp);
+                    if (!changed) {
+                        IntegerPolynome candidate = new IntegerPolynome(h).primitivePart();
+                        if (a.isDivisibleBy(candidate) && b.isDivisibleBy(candidate)) {
+                            return candidate.multiply(contentGcd);
+                        }
+                    }
+                }
+            }
+            prime = previousPrime(prime);
+        }
+    }
+
+    /**
+     * Доповнює відновлені коефіцієнти остачами за новим модулем (китайська теорема
+     * про остачі): {@code h + M·((g - h)·M^(-1) mod p)}. Коефіцієнти зберігаються
+     * у симетричному діапазоні {@code (-M/2, M/2]}, тому від’ємні коефіцієнти
+     * НСД перестають змінюватися, щойно добуток модулів стає достатньо великим.
+     *
+     * @param h       коефіцієнти у симетричному діапазоні за модулем {@code M}; змінюються на місці
+     * @param modulus поточний добуток модулів {@code M}
+     * @param g       остачі за модулем {@code p}
+     * @param field   модуль {@code p}
+     * @return {@code true}, якщо хоча б один коефіцієнт змінився
+     */
+    private static boolean combine(BigInteger[] h, BigInteger modulus, ModPolynome g, Montgomery field) {
+        BigInteger bp = BigInteger.valueOf(field.getModulus());
+        BigInteger product = modulus.multiply(bp);
+        BigInteger half = product.shiftRight(1);
+        long mInv = field.inverse(field.toMontgomery(modulus.mod(bp).longValue()));
+        boolean changed = false;
+        for (int i = 0; i < h.length; i++) {
+            long hp = field.toMontgomery(h[i].mod(bp).longValue());
+            long diff = field.subtract(field.toMontgomery(g.coefficient(i)), hp);
+            if (diff == 0) {
+                continue;
+            }
+            long t = field.fromMontgomery(field.multiply(diff, mInv));
+            BigInteger c = h[i].add(modulus.multiply(BigInteger.valueOf(t)));
+            h[i] = c.compareTo(half) > 0 ? c.subtract(product) : c;
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Повертає найбільше просте число, менше за {@code n}.
+     *
+     * @param n верхня межа
+     * @return просте число
+     */
+    private static int previousPrime(int n) {
+        int c = n - 2;
+        while (!BigInteger.valueOf(c).isProbablePrime(40)) {
+            c -= 2;
+        }
+        return c;
+    }
+
+    /**
+     * Повертає поліном з додатним старшим коефіцієнтом.
+     *
+     * @return поточний поліном або протилежний до нього
+     */
+    private IntegerPolynome normalizeSign() {
+        return leadingCoefficient().signum() < 0 ? multiply(BigInteger.ONE.negate()) : this;
+    }
+
+    /**
+     * Розкладає поліном на множники без квадратів за алгоритмом Юна:
+     * {@code f = content · a_1 · a_2^2 · ... · a_k^k}, де {@code a_i} попарно взаємно
+     * прості, не мають кратних коренів і мають додатні старші коефіцієнти.
+     * Вміст береться зі знаком старшого коефіцієнта {@code f}.
+     *
+     * @return список {@code [a_1, ..., a_k]}; елемент з індексом {@code i} має кратність
+     *         {@code i + 1} (порожній список для сталого полінома)
+     */
+    public List<IntegerPolynome> squareFreeDecomposition() {
+        List<IntegerPolynome> res = new ArrayList<>();
+        IntegerPolynome f = primitivePart();
+        if (f.degree() == 0) {
+            return res;
+        }
+        IntegerPolynome df = f.derivative();
+        IntegerPolynome a0 = f.gcd(df);
+        IntegerPolynome b = f.divideExact(a0);
+        IntegerPolynome c = df.divideExact(a0);
+        IntegerPolynome d = c.subtract(b.derivative());
+        while (b.degree() > 0) {
+            IntegerPolynome ai = b.gcd(d).primitivePart();
+            res.add(ai);
+            b = b.divideExact(ai);
+            c = d.divideExact(ai);
+            d = c.subtract(b.derivative());
+        }
+        while (!res.isEmpty() && res.get(res.size() - 1).degree() == 0) {
+            res.remove(res.size() - 1);
+        }
+        return res;
+    }
+
+    /**
+     * Перевіряє рівність коефіцієнтів.
+     *
+     * @param o об’єкт для порівняння
+     * @return {@code true}, якщо поліноми рівні
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IntegerPolynome p && Arrays.equals(p.coeffs, coeffs);
+    }
+
+    /**
+     * Повертає хеш-код, узгоджений з {@link #equals(Object)}.
+     *
+     * @return хеш-код
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(coeffs);
+    }
+
+    /**
+     * Повертає рядкове представлення полінома у форматі {@code c_n x^n + ... + c_0}.
+     *
+     * @return рядок з поліномом
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = coeffs.length - 1; i >= 0; i--) {
+            BigInteger c = coeffs[i];
+            if (c.signum() == 0 && coeffs.length > 1) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(c.signum() < 0 ? " - " : " + ");
+                c = c.abs();
+            }
+            if (!c.abs().equals(BigInteger.ONE) || i == 0) {
+                sb.append(c);
+            } else if (c.signum() < 0) {
+                sb.append('-');
+            }
+            if (i > 0) {
+                sb.append(i == 1 ? "x" : "x^" + i);
+            }
+        }
+        return sb.toString();
+    }
+}
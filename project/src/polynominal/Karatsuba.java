@@ -0,0 +1,273 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 16:10
+ *
+ * Клас {@code Karatsuba} містить паралельне множення масивів коефіцієнтів
+ * з детермінованим порядком підсумовування:
+ * <ul>
+ *   <li>блочне множення «у стовпчик», у якому діапазони вихідних коефіцієнтів
+ *       розподіляються між задачами {@link ForkJoinPool}; кожен коефіцієнт
+ *       підсумовується у тому самому порядку, що й у {@link Polynome#multiply(Polynome)},
+ *       тому результат збігається з ним біт у біт;</li>
+ *   <li>алгоритм Карацуби з базовим випадком «у стовпчик» для великих степенів.</li>
+ * </ul>
+ * Дерево рекурсії і порядок додавання проміжних добутків залежать лише від
+ * розмірів масивів, а не від кількості потоків, тому результат відтворюється
+ * біт у біт за будь-якого паралелізму.
+ */
+
+package polynominal;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Детерміноване паралельне множення поліномів.
+ */
+final class Karatsuba {
+
+    /** Довжина, до якої використовується множення «у стовпчик». */
+    static final int THRESHOLD = 48;
+
+    /** Довжина, починаючи з якої підзадачі Карацуби виконуються паралельно. */
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    /** Кількість вихідних коефіцієнтів в одному блоці множення «у стовпчик». */
+    private static final int BLOCK = 512;
+
+    /** Мінімальна кількість множень, за якої блоки виконуються паралельно. */
+    private static final long PARALLEL_WORK = 1L << 16;
+
+    private Karatsuba() {
+    }
+
+    /**
+     * Множить два масиви коефіцієнтів блочним методом «у стовпчик».
+     * Результат збігається біт у біт із послідовним множенням.
+     *
+     * @param a    коефіцієнти першого полінома
+     * @param b    коефіцієнти другого полінома
+     * @param pool пул потоків
+     * @return коефіцієнти добутку (довжина {@code a.length + b.length - 1})
+     */
+    static double[] schoolbook(double[] a, double[] b, ForkJoinPool pool) {
+        double[] res = new double[a.length + b.length - 1];
+        if ((long) a.length * b.length < PARALLEL_WORK) {
+            schoolbookRange(a, 0, a.length, b, 0, b.length, res, 0, 0, res.length);
+        } else {
+            pool.invoke(new SchoolbookTask(a, b, res, 0, res.length));
+        }
+        return res;
+    }
+
+    /**
+     * Множить два масиви коефіцієнтів алгоритмом Карацуби.
+     *
+     * @param a    коефіцієнти першого полінома
+     * @param b    коефіцієнти другого полінома
+     * @param pool пул потоків
+     * @return коефіцієнти добутку (довжина {@code a.length + b.length - 1})
+     */
+    static double[] multiply(double[] a, double[] b, ForkJoinPool pool) {
+        if (Math.min(a.length, b.length) <= THRESHOLD) {
+            // без перестановки множників, щоб порядок підсумовування збігався з Polynome.multiply
+            return schoolbook(a, b, pool);
+        }
+        if (a.length < b.length) {
+            double[] t = a;
+            a = b;
+            b = t;
+        }
+        if (a.length == b.length) {
+            double[] res = new double[2 * a.length - 1];
+            ForkJoinTask<?> task = new KaratsubaTask(a, 0, b, 0, a.length, res, 0);
+            if (a.length >= PARALLEL_THRESHOLD) {
+                pool.invoke(task);
+            } else {
+                task.invoke();
+            }
+            return res;
+        }
+        return unbalanced(a, b, pool);
+    }
+
+    /**
+     * Множить довгий масив на коротший: довгий розбивається на частини довжини
+     * короткого, частини множаться паралельно, а їхні добутки додаються
+     * до результату в порядку зростання зсуву.
+     *
+     * @param a    довший масив
+     * @param b    коротший масив
+     * @param pool пул потоків
+     * @return коефіцієнти добутку
+     */
+    private static double[] unbalanced(double[] a, double[] b, ForkJoinPool pool) {
+        int m = b.length;
+        int chunks = (a.length + m - 1) / m;
+        double[][] parts = new double[chunks][];
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int from = c * m;
+            int len = Math.min(m, a.length - from);
+            int index = c;
+            tasks[c] = ForkJoinTask.adapt(() -> {
+                double[] chunk = new double[len];
+                System.arraycopy(a, from, chunk, 0, len);
+                parts[index] = multiply(chunk, b, pool);
+            });
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        double[] res = new double[a.length + m - 1];
+        for (int c = 0; c < chunks; c++) {
+            double[] part = parts[c];
+            int off = c * m;
+            for (int k = 0; k < part.length; k++) {
+                res[off + k] += part[k];
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Обчислює вихідні коефіцієнти {@code out[outFrom..outTo)} добутку
+     * {@code a[aOff..aOff+na)} на {@code b[bOff..bOff+nb)}, додаючи внески
+     * у порядку зростання індексу {@code a}. Внутрішній цикл є операцією
+     * {@code out += a_i · b} над суцільним відрізком і векторизується.
+     *
+     * @param a       перший масив
+     * @param aOff    зсув у першому масиві
+     * @param na      довжина першого множника
+     * @param b       другий масив
+     * @param bOff    зсув у другому масиві
+     * @param nb      довжина другого множника
+     * @param out     масив результату (відрізок має бути заповнений нулями)
+     * @param outOff  зсув добутку у масиві результату
+     * @param outFrom перший обчислюваний коефіцієнт добутку
+     * @param outTo   межа обчислюваних коефіцієнтів (не включно)
+     */
+    private static void schoolbookRange(double[] a, int aOff, int na, double[] b, int bOff, int nb,
+                                        double[] out, int outOff, int outFrom, int outTo) {
+        int iFrom = Math.max(0, outFrom - nb + 1);
+        int iTo = Math.min(na, outTo);
+        for (int i = iFrom; i < iTo; i++) {
+            double ai = a[aOff + i];
+            int kFrom = Math.max(outFrom, i);
+            int kTo = Math.min(outTo, i + nb);
+            int shift = bOff - i;
+            for (int k = kFrom; k < kTo; k++) {
+                out[outOff + k] += ai * b[shift + k];
+            }
+        }
+    }
+
+    /**
+     * Задача множення «у стовпчик» для діапазону вихідних коефіцієнтів.
+     */
+    private static final class SchoolbookTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] a;
+        private final double[] b;
+        private final double[] out;
+        private final int from;
+        private final int to;
+
+        SchoolbookTask(double[] a, double[] b, double[] out, int from, int to) {
+            this.a = a;
+            this.b = b;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BLOCK) {
+                schoolbookRange(a, 0, a.length, b, 0, b.length, out, 0, from, to);
+                return;
+            }
+            int mid = from + (to - from) / 2;
+            invokeAll(new SchoolbookTask(a, b, out, from, mid), new SchoolbookTask(a, b, out, mid, to));
+        }
+    }
+
+    /**
+     * Задача Карацуби для двох відрізків однакової довжини {@code n}.
+     * Записує {@code 2n - 1} коефіцієнтів добутку у {@code out[outOff..]}.
+     */
+    private static final class KaratsubaTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] a;
+        private final int aOff;
+        private final double[] b;
+        private final int bOff;
+        private final int n;
+        private final double[] out;
+        private final int outOff;
+
+        KaratsubaTask(double[] a, int aOff, double[] b, int bOff, int n, double[] out, int outOff) {
+            this.a = a;
+            this.aOff = aOff;
+            this.b = b;
+            this.bOff = bOff;
+            this.n = n;
+            this.out = out;
+            this.outOff = outOff;
+        }
+
+        @Override
+        protected void compute() {
+            if (n <= THRESHOLD) {
+                Arrays.fill(out, outOff, outOff + 2 * n - 1, 0.0);
+                schoolbookRange(a, aOff, n, b, bOff, n, out, outOff, 0, 2 * n - 1);
+                return;
+            }
+            int m = n / 2;
+            int h = n - m;
+
+            // z0 = lo(a)·lo(b) у out[0, 2m-1), z2 = hi(a)·hi(b) у out[2m, 2n-1)
+            KaratsubaTask low = new KaratsubaTask(a, aOff, b, bOff, m, out, outOff);
+            KaratsubaTask high = new KaratsubaTask(a, aOff + m, b, bOff + m, h, out, outOff + 2 * m);
+
+            // z1 = (lo(a) + hi(a))·(lo(b) + hi(b))
+            double[] sa = new double[h];
+            double[] sb = new double[h];
+            for (int i = 0; i < h; i++) {
+                sa[i] = a[aOff + m + i];
+                sb[i] = b[bOff + m + i];
+            }
+            for (int i = 0; i < m; i++) {
+                sa[i] += a[aOff + i];
+                sb[i] += b[bOff + i];
+            }
+            double[] z1 = new double[2 * h - 1];
+            KaratsubaTask middle = new KaratsubaTask(sa, 0, sb, 0, h, z1, 0);
+
+            if (n >= PARALLEL_THRESHOLD) {
+                invokeAll(low, high, middle);
+            } else {
+                low.compute();
+                high.compute();
+                middle.compute();
+            }
+            out[outOff + 2 * m - 1] = 0.0;
+
+            // z1 - z0 - z2, потім додавання зі зсувом m
+            for (int i = 0; i < 2 * m - 1; i++) {
+                z1[i] -= out[outOff + i];
+            }
+            for (int i = 0; i < 2 * h - 1; i++) {
+                z1[i] -= out[outOff + 2 * m + i];
+            }
+            for (int i = 0; i < z1.length; i++) {
+                out[outOff + m + i] += z1[i];
+            }
+        }
+    }
+}
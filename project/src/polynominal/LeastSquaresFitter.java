@@ -0,0 +1,347 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 12:15
+ *
+ * Клас {@code LeastSquaresFitter} виконує потокову апроксимацію поліномом
+ * методом найменших квадратів. Точки {@code (x, y)} обробляються по одній
+ * або порціями: кожен рядок системи (значення многочленів Чебишова
+ * {@code T_0..T_d} у точці) вбудовується у верхньотрикутну матрицю {@code R}
+ * QR-розкладу обертаннями Гівенса. Зберігаються лише {@code R}, вектор
+ * {@code Q^T y} та сума квадратів залишків, тому пам’ять становить
+ * {@code O(d^2)} незалежно від кількості точок, а базис Чебишова на відрізку
+ * {@code [a, b]} робить задачу добре обумовленою (на відміну від нормальних
+ * рівнянь у мономіальному базисі).
+ *
+ * Часткові накопичувачі з різних потоків об’єднуються методом {@link #merge},
+ * а розв’язок можна отримати у будь-який момент.
+ */
+
+package polynominal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Потоковий метод найменших квадратів у базисі Чебишова.
+ * Екземпляр не є потокобезпечним: кожен потік має власний накопичувач.
+ */
+public class LeastSquaresFitter {
+
+    /** Кількість точок, яку одна задача обробляє без поділу під час паралельної апроксимації. */
+    private static final int CHUNK = 8192;
+
+    private final int degree;
+    private final double a;
+    private final double b;
+
+    /** Верхньотрикутна матриця {@code R} розміру {@code (d+1)×(d+1)} за рядками. */
+    private final double[] r;
+
+    /** Вектор {@code Q^T y}. */
+    private final double[] z;
+
+    /** Робочий рядок для чергового вбудовування. */
+    private final double[] row;
+
+    private double residual;
+    private long count;
+
+    /**
+     * Створює порожній накопичувач.
+     *
+     * @param degree степінь полінома
+     * @param a      ліва межа відрізка, на якому лежать точки
+     * @param b      права межа відрізка
+     * @throws IllegalArgumentException якщо {@code degree < 0} або {@code a >= b}
+     */
+    public LeastSquaresFitter(int degree, double a, double b) {
+        if (degree < 0) {
+            throw new IllegalArgumentException("degree must be non-negative");
+        }
+        if (!(a < b)) {
+            throw new IllegalArgumentException("Interval must satisfy a < b");
+        }
+        this.degree = degree;
+        this.a = a;
+        this.b = b;
+        int m = degree + 1;
+        this.r = new double[m * m];
+        this.z = new double[m];
+        this.row = new double[m];
+    }
+
+    /**
+     * Апроксимує точки паралельно у спільному пулі {@link ForkJoinPool#commonPool()}.
+     *
+     * @param xs     абсциси
+     * @param ys     ординати
+     * @param degree степінь полінома
+     * @param a      ліва межа відрізка
+     * @param b      права межа відрізка
+     * @return накопичувач з усіма точками
+     * @see #fit(double[], double[], int, double, double, ForkJoinPool)
+     */
+    public static LeastSquaresFitter fit(double[] xs, double[] ys, int degree, double a, double b) {
+        return fit(xs, ys, degree, a, b, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Апроксимує точки паралельно: масив ділиться на частини, кожна
+     * обробляється окремим накопичувачем, після чого накопичувачі
+     * об’єднуються. Дерево поділу залежить лише від кількості точок,
+     * тому результат не залежить від кількості потоків.
+     *
+     * @param xs     абсциси
+     * @param ys     ординати
+     * @param degree степінь полінома
+     * @param a      ліва межа відрізка
+     * @param b      права межа відрізка
+     * @param pool   пул потоків
+     * @return накопичувач з усіма точками
+     * @throws IllegalArgumentException якщо довжини масивів різні
+     */
+    public static LeastSquaresFitter fit(double[] xs, double[] ys, int degree, double a, double b,
+                                         ForkJoinPool pool) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have equal length");
+        }
+        if (xs.length <= CHUNK) {
+            LeastSquaresFitter f = new LeastSquaresFitter(degree, a, b);
+            f.accept(xs, ys, 0, xs.length);
+            return f;
+        }
+        return pool.invoke(new FitTask(xs, ys, degree, a, b, 0, xs.length));
+    }
+
+    /**
+     * Додає одну точку.
+     *
+     * @param x абсциса
+     * @param y ордината
+     */
+    public void accept(double x, double y) {
+        accept(x, y, 1.0);
+    }
+
+    /**
+     * Додає одну точку з вагою.
+     *
+     * @param x      абсциса
+     * @param y      ордината
+     * @param weight невід’ємна вага
+     * @throws IllegalArgumentException якщо {@code weight < 0}
+     */
+    public void accept(double x, double y, double weight) {
+        if (!(weight >= 0.0)) {
+            throw new IllegalArgumentException("weight must be non-negative");
+        }
+        double w = Math.sqrt(weight);
+        double t = (2.0 * x - a - b) / (b - a);
+        row[0] = w;
+        if (degree >= 1) {
+            row[1] = w * t;
+        }
+        for (int k = 2; k <= degree; k++) {
+            row[k] = 2.0 * t * row[k - 1] - row[k - 2];
+        }
+        update(row, w * y, 0);
+        count++;
+    }
+
+    /**
+     * Додає порцію точок.
+     *
+     * @param xs абсциси
+     * @param ys ординати
+     * @throws IllegalArgumentException якщо довжини масивів різні
+     */
+    public void accept(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have equal length");
+        }
+        accept(xs, ys, 0, xs.length);
+    }
+
+    /**
+     * Додає точки {@code xs[from..to)}, {@code ys[from..to)}.
+     *
+     * @param xs   абсциси
+     * @param ys   ординати
+     * @param from перший індекс
+     * @param to   межа (не включно)
+     */
+    public void accept(double[] xs, double[] ys, int from, int to) {
+        for (int i = from; i < to; i++) {
+            accept(xs[i], ys[i], 1.0);
+        }
+    }
+
+    /**
+     * Додає до цього накопичувача точки іншого. Рядки матриці {@code R}
+     * іншого накопичувача вбудовуються так само, як рядки окремих точок.
+     *
+     * @param other накопичувач з тим самим степенем і відрізком
+     * @return цей накопичувач
+     * @throws IllegalArgumentException якщо степінь або відрізок відрізняються
+     *                                  або {@code other} – цей самий накопичувач
+     */
+    public LeastSquaresFitter merge(LeastSquaresFitter other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge fitter with itself");
+        }
+        if (other.degree != degree || other.a != a || other.b != b) {
+            throw new IllegalArgumentException("Cannot merge fitters with different degree or interval");
+        }
+        int m = degree + 1;
+        for (int i = 0; i < m; i++) {
+            System.arraycopy(other.r, i * m, row, 0, m);
+            update(row, other.z[i], i);
+        }
+        residual += other.residual;
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * Повертає кількість доданих точок.
+     *
+     * @return кількість точок
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Повертає степінь полінома.
+     *
+     * @return степінь
+     */
+    public int degree() {
+        return degree;
+    }
+
+    /**
+     * Повертає суму квадратів залишків поточного розв’язку.
+     *
+     * @return {@code sum (P(x_i) - y_i)^2} (з урахуванням ваг)
+     */
+    public double residualSumOfSquares() {
+        return residual;
+    }
+
+    /**
+     * Розв’язує трикутну систему {@code R c = Q^T y} і повертає ряд Чебишова.
+     * Накопичувач не змінюється, тож додавати точки можна й далі.
+     *
+     * @return апроксимуючий ряд Чебишова на {@code [a, b]}
+     * @throws IllegalStateException якщо точок недостатньо для однозначного розв’язку
+     */
+    public ChebyshevSeries toChebyshev() {
+        int m = degree + 1;
+        double[] c = new double[m];
+        double scale = 0.0;
+        for (int i = 0; i < m; i++) {
+            scale = Math.max(scale, Math.abs(r[i * m + i]));
+        }
+        for (int i = m - 1; i >= 0; i--) {
+            double diag = r[i * m + i];
+            if (Math.abs(diag) <= scale * 1e-14) {
+                throw new IllegalStateException("Not enough distinct points for degree " + degree);
+            }
+            double s = z[i];
+            for (int j = i + 1; j < m; j++) {
+                s -= r[i * m + j] * c[j];
+            }
+            c[i] = s / diag;
+        }
+        return new ChebyshevSeries(c, a, b);
+    }
+
+    /**
+     * Повертає апроксимуючий поліном у мономіальному базисі.
+     *
+     * @return новий об’єкт {@link Polynome}
+     * @throws IllegalStateException якщо точок недостатньо для однозначного розв’язку
+     */
+    public Polynome toPolynome() {
+        return toChebyshev().toPolynome();
+    }
+
+    @Override
+    public String toString() {
+        return "LeastSquaresFitter{degree=" + degree + ", [" + a + ", " + b + "], count=" + count
+                + ", rss=" + residual + "}";
+    }
+
+    /**
+     * Вбудовує рядок {@code (v, value)} у {@code R} обертаннями Гівенса.
+     * Елементи рядка до {@code from} мають бути нульовими.
+     */
+    private void update(double[] v, double value, int from) {
+        int m = degree + 1;
+        for (int k = from; k < m; k++) {
+            double vk = v[k];
+            if (vk == 0.0) {
+                continue;
+            }
+            int base = k * m;
+            double rkk = r[base + k];
+            double h = Math.hypot(rkk, vk);
+            double c = rkk / h;
+            double s = vk / h;
+            r[base + k] = h;
+            for (int j = k + 1; j < m; j++) {
+                double rj = r[base + j];
+                double vj = v[j];
+                r[base + j] = c * rj + s * vj;
+                v[j] = c * vj - s * rj;
+            }
+            double zk = z[k];
+            z[k] = c * zk + s * value;
+            value = c * value - s * zk;
+        }
+        residual += value * value;
+    }
+
+    /**
+     * Задача паралельної апроксимації частини масиву.
+     */
+    private static final class FitTask extends RecursiveTask<LeastSquaresFitter> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] xs;
+        private final double[] ys;
+        private final int degree;
+        private final double a;
+        private final double b;
+        private final int from;
+        private final int to;
+
+        FitTask(double[] xs, double[] ys, int degree, double a, double b, int from, int to) {
+            this.xs = xs;
+            this.ys = ys;
+            this.degree = degree;
+            this.a = a;
+            this.b = b;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LeastSquaresFitter compute() {
+            if (to - from <= CHUNK) {
+                LeastSquaresFitter f = new LeastSquaresFitter(degree, a, b);
+                f.accept(xs, ys, from, to);
+                return f;
+            }
+            int mid = from + (to - from) / 2;
+            FitTask left = new FitTask(xs, ys, degree, a, b, from, mid);
+            FitTask right = new FitTask(xs, ys, degree, a, b, mid, to);
+            right.fork();
+            LeastSquaresFitter l = left.compute();
+            return l.merge(right.join());
+        }
+    }
+}
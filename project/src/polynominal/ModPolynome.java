@@ -0,0 +1,371 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 15:30
+ *
+ * Клас {@code ModPolynome} реалізує поліном над скінченним полем Z_p.
+ * Коефіцієнти зберігаються у масиві {@code long[]} у формі Монтгомері
+ * (див. {@link Montgomery}), тому множення коефіцієнтів не потребує ділення.
+ *
+ * Підтримуються додавання, віднімання, множення, ділення з остачею,
+ * похідна, зведення до унітарного вигляду та НСД за алгоритмом Евкліда.
+ * Модуль має бути простим, щоб Z_p було полем.
+ */
+
+package polynominal;
+
+import numbers.Montgomery;
+
+import java.util.Arrays;
+
+/**
+ * Незмінний поліном над Z_p з коефіцієнтами у формі Монтгомері.
+ *
+ * <p>Нульовий поліном має степінь {@code -1}.
+ */
+public class ModPolynome {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Montgomery field;
+
+    /** Коефіцієнти від {@code x^0} до {@code x^n} у формі Монтгомері, без старших нулів. */
+    private final long[] coeffs;
+
+    /**
+     * Створює поліном зі звичайних цілих коефіцієнтів, зводячи їх за модулем.
+     *
+     * @param coeffs коефіцієнти від {@code x^0} до {@code x^n} (можуть бути від’ємними)
+     * @param field  модуль
+     */
+    public ModPolynome(long[] coeffs, Montgomery field) {
+        this(field, toMontgomery(coeffs, field));
+    }
+
+    /**
+     * Приймає масив коефіцієнтів у формі Монтгомері без копіювання.
+     *
+     * @param field  модуль
+     * @param coeffs коефіцієнти у формі Монтгомері
+     */
+    ModPolynome(Montgomery field, long[] coeffs) {
+        this.field = field;
+        int n = coeffs.length;
+        while (n > 0 && coeffs[n - 1] == 0) {
+            n--;
+        }
+        this.coeffs = n == coeffs.length ? coeffs : Arrays.copyOf(coeffs, n);
+    }
+
+    /**
+     * Перетворює коефіцієнти у форму Монтгомері.
+     *
+     * @param coeffs звичайні коефіцієнти
+     * @param field  модуль
+     * @return новий масив
+     */
+    private static long[] toMontgomery(long[] coeffs, Montgomery field) {
+        long[] res = new long[coeffs.length];
+        for (int i = 0; i < coeffs.length; i++) {
+            res[i] = field.toMontgomery(coeffs[i]);
+        }
+        return res;
+    }
+
+    /**
+     * Повертає модуль.
+     *
+     * @return об’єкт {@link Montgomery}
+     */
+    public Montgomery getField() {
+        return field;
+    }
+
+    /**
+     * Повертає степінь полінома.
+     *
+     * @return степінь полінома або {@code -1} для нульового полінома
+     */
+    public int degree() {
+        return coeffs.length - 1;
+    }
+
+    /**
+     * Перевіряє, чи поліном нульовий.
+     *
+     * @return {@code true}, якщо всі коефіцієнти нульові
+     */
+    public boolean isZero() {
+        return coeffs.length == 0;
+    }
+
+    /**
+     * Повертає коефіцієнт при {@code x^i}.
+     *
+     * @param i степінь (може перевищувати степінь полінома)
+     * @return значення з діапазону {@code [0, p)}
+     */
+    public long coefficient(int i) {
+        return i < coeffs.length ? field.fromMontgomery(coeffs[i]) : 0;
+    }
+
+    /**
+     * Повертає копію коефіцієнтів у звичайному поданні.
+     *
+     * @return масив коефіцієнтів від {@code x^0} до {@code x^n} з діапазону {@code [0, p)}
+     */
+    public long[] getCoefficients() {
+        long[] res = new long[coeffs.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = field.fromMontgomery(coeffs[i]);
+        }
+        return res;
+    }
+
+    /**
+     * Обчислює значення полінома у точці за схемою Горнера.
+     *
+     * @param x значення аргумента
+     * @return значення з діапазону {@code [0, p)}
+     */
+    public long valueAt(long x) {
+        long mx = field.toMontgomery(x);
+        long r = 0;
+        for (int i = coeffs.length - 1; i >= 0; i--) {
+            r = field.add(field.multiply(r, mx), coeffs[i]);
+        }
+        return field.fromMontgomery(r);
+    }
+
+    /**
+     * Додає інший поліном до поточного.
+     *
+     * @param other доданок з тим самим модулем
+     * @return новий об’єкт {@link ModPolynome} – результат додавання
+     */
+    public ModPolynome add(ModPolynome other) {
+        checkField(other);
+        long[] res = Arrays.copyOf(coeffs, Math.max(coeffs.length, other.coeffs.length));
+        for (int i = 0; i < other.coeffs.length; i++) {
+            res[i] = field.add(res[i], other.coeffs[i]);
+        }
+        return new ModPolynome(field, res);
+    }
+
+    /**
+     * Віднімає інший поліном від поточного.
+     *
+     * @param other від’ємник з тим самим модулем
+     * @return новий об’єкт {@link ModPolynome} – результат віднімання
+     */
+    public ModPolynome subtract(ModPolynome other) {
+        checkField(other);
+        long[] res = Arrays.copyOf(coeffs, Math.max(coeffs.length, other.coeffs.length));
+        for (int i = 0; i < other.coeffs.length; i++) {
+            res[i] = field.subtract(res[i], other.coeffs[i]);
+        }
+        return new ModPolynome(field, res);
+    }
+
+    /**
+     * Множить поточний поліном на інший.
+     *
+     * @param other множник з тим самим модулем
+     * @return новий об’єкт {@link ModPolynome} – результат множення
+     */
+    public ModPolynome multiply(ModPolynome other) {
+        checkField(other);
+        if (isZero() || other.isZero()) {
+            return new ModPolynome(field, EMPTY);
+        }
+        long[] res = new long[coeffs.length + other.coeffs.length - 1];
+        for (int i = 0; i < coeffs.length; i++) {
+            long a = coeffs[i];
+            if (a == 0) {
+                continue;
+            }
+            for (int j = 0; j < other.coeffs.length; j++) {
+                res[i + j] = field.add(res[i + j], field.multiply(a, other.coeffs[j]));
+            }
+        }
+        return new ModPolynome(field, res);
+    }
+
+    /**
+     * Множить поліном на скаляр.
+     *
+     * @param c скаляр (звичайне ціле число)
+     * @return новий об’єкт {@link ModPolynome}
+     */
+    public ModPolynome multiply(long c) {
+        return scale(field.toMontgomery(c));
+    }
+
+    /**
+     * Множить поліном на скаляр у формі Монтгомері.
+     *
+     * @param mc скаляр у формі Монтгомері
+     * @return новий об’єкт {@link ModPolynome}
+     */
+    private ModPolynome scale(long mc) {
+        long[] res = new long[coeffs.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = field.multiply(coeffs[i], mc);
+        }
+        return new ModPolynome(field, res);
+    }
+
+    /**
+     * Обчислює похідну полінома.
+     *
+     * @return новий об’єкт {@link ModPolynome}, що є похідною
+     */
+    public ModPolynome derivative() {
+        if (coeffs.length <= 1) {
+            return new ModPolynome(field, EMPTY);
+        }
+        long[] res = new long[coeffs.length - 1];
+        for (int i = 1; i < coeffs.length; i++) {
+            res[i - 1] = field.multiply(coeffs[i], field.toMontgomery(i));
+        }
+        return new ModPolynome(field, res);
+    }
+
+    /**
+     * Ділить поліном на старший коефіцієнт.
+     *
+     * @return унітарний поліном (або нульовий, якщо поточний нульовий)
+     */
+    public ModPolynome monic() {
+        if (isZero() || coeffs[coeffs.length - 1] == field.one()) {
+            return this;
+        }
+        return scale(field.inverse(coeffs[coeffs.length - 1]));
+    }
+
+    /**
+     * Ділить поточний поліном на інший з остачею.
+     *
+     * @param divisor ненульовий дільник з тим самим модулем
+     * @return масив {@code {частка, остача}}
+     * @throws ArithmeticException якщо дільник нульовий
+     */
+    public ModPolynome[] divideAndRemainder(ModPolynome divisor) {
+        checkField(divisor);
+        if (divisor.isZero()) {
+            throw new ArithmeticException("Division by zero polynome");
+        }
+        int db = divisor.degree();
+        if (degree() < db) {
+            return new ModPolynome[]{new ModPolynome(field, EMPTY), this};
+        }
+        long[] r = coeffs.clone();
+        long[] q = new long[r.length - db];
+        long[] b = divisor.coeffs;
+        long inv = field.inverse(b[db]);
+        for (int i = r.length - 1; i >= db; i--) {
+            long c = field.multiply(r[i], inv);
+            q[i - db] = c;
+            if (c == 0) {
+                continue;
+            }
+            for (int j = 0; j <= db; j++) {
+                r[i - db + j] = field.subtract(r[i - db + j], field.multiply(c, b[j]));
+            }
+        }
+        return new ModPolynome[]{new ModPolynome(field, q), new ModPolynome(field, Arrays.copyOf(r, db))};
+    }
+
+    /**
+     * Обчислює остачу від ділення на інший поліном.
+     *
+     * @param divisor ненульовий дільник з тим самим модулем
+     * @return остача
+     * @throws ArithmeticException якщо дільник нульовий
+     */
+    public ModPolynome remainder(ModPolynome divisor) {
+        return divideAndRemainder(divisor)[1];
+    }
+
+    /**
+     * Обчислює унітарний найбільший спільний дільник за алгоритмом Евкліда.
+     *
+     * @param other другий поліном з тим самим модулем
+     * @return унітарний НСД (нульовий, якщо обидва поліноми нульові)
+     */
+    public ModPolynome gcd(ModPolynome other) {
+        checkField(other);
+        ModPolynome a = this;
+        ModPolynome b = other;
+        while (!b.isZero()) {
+            ModPolynome r = a.remainder(b);
+            a = b;
+            b = r;
+        }
+        return a.monic();
+    }
+
+    /**
+     * Перевіряє, що інший поліном має той самий модуль.
+     *
+     * @param other інший поліном
+     * @throws IllegalArgumentException якщо модулі різні
+     */
+    private void checkField(ModPolynome other) {
+        if (other.field != field && other.field.getModulus() != field.getModulus()) {
+            throw new IllegalArgumentException("Moduli differ: " + field.getModulus()
+                    + " and " + other.field.getModulus());
+        }
+    }
+
+    /**
+     * Перевіряє рівність модулів і коефіцієнтів.
+     *
+     * @param o об’єкт для порівняння
+     * @return {@code true}, якщо поліноми рівні
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ModPolynome m
+                && m.field.getModulus() == field.getModulus() && Arrays.equals(m.coeffs, coeffs);
+    }
+
+    /**
+     * Повертає хеш-код, узгоджений з {@link #equals(Object)}.
+     *
+     * @return хеш-код
+     */
+    @Override
+    public int hashCode() {
+        return 31 * field.getModulus() + Arrays.hashCode(coeffs);
+    }
+
+    /**
+     * Повертає рядкове представлення полінома у форматі {@code c_n x^n + ... + c_0 (mod p)}.
+     *
+     * @return рядок з поліномом
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = coeffs.length - 1; i >= 0; i--) {
+            long c = field.fromMontgomery(coeffs[i]);
+            if (c == 0) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(" + ");
+            }
+            if (c != 1 || i == 0) {
+                sb.append(c);
+            }
+            if (i > 0) {
+                sb.append(i == 1 ? "x" : "x^" + i);
+            }
+        }
+        if (sb.length() == 0) {
+            sb.append('0');
+        }
+        return sb.append(" (mod ").append(field.getModulus()).append(')').toString();
+    }
+}
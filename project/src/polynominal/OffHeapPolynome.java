@@ -0,0 +1,393 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 13:30
+ *
+ * Клас {@code OffHeapPolynome} реалізує поліном, коефіцієнти якого зберігаються
+ * поза купою Java у {@link MemorySegment} (Foreign Function &amp; Memory API).
+ * Поліноми з сотнями мільйонів коефіцієнтів не навантажують збирач сміття,
+ * а пам’ять звільняється явно методом {@link #close()}.
+ *
+ * Пам’ять може бути:
+ * <ul>
+ *   <li>виділена у власній арені ({@link #allocate(long)}, {@link #of(Polynome)});</li>
+ *   <li>виділена в арені, якою керує викликач ({@link #allocate(Arena, long)});</li>
+ *   <li>відображена з файлу ({@link #open(Path)}, {@link #create(Path, long)}) у форматі
+ *       little-endian {@code double}, як у файлі даних {@link PolynomeStore}.</li>
+ * </ul>
+ */
+
+package polynominal;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Поліном з коефіцієнтами поза купою.
+ *
+ * <p>Сегмент має {@link #size()} комірок для коефіцієнтів від {@code x^0};
+ * старші нульові комірки допускаються і не копіюються – степінь визначається
+ * переглядом сегмента від кінця. Результати операцій мають власні арени
+ * і мають бути закриті викликачем.
+ *
+ * <p>Пам’ять виділяється у спільній ({@code shared}) арені, тому читати
+ * поліном можна з кількох потоків; закривати – лише після завершення всіх читань.
+ */
+public class OffHeapPolynome implements AutoCloseable {
+
+    private static final ValueLayout.OfDouble LAYOUT =
+            ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final MemorySegment segment;
+    private final long size;
+
+    /** Арена, якою володіє поліном, або {@code null}, якщо нею керує викликач. */
+    private final Arena arena;
+
+    private OffHeapPolynome(MemorySegment segment, Arena arena) {
+        this.segment = segment;
+        this.size = segment.byteSize() / Double.BYTES;
+        this.arena = arena;
+    }
+
+    /**
+     * Виділяє поліном із заданою кількістю нульових коефіцієнтів у власній арені.
+     *
+     * @param size кількість коефіцієнтів (не менше 1)
+     * @return новий об’єкт {@link OffHeapPolynome}
+     * @throws IllegalArgumentException якщо {@code size < 1}
+     */
+    public static OffHeapPolynome allocate(long size) {
+        checkSize(size);
+        Arena arena = Arena.ofShared();
+        return new OffHeapPolynome(arena.allocate(size * Double.BYTES, Double.BYTES), arena);
+    }
+
+    /**
+     * Виділяє поліном у арені, якою керує викликач. {@link #close()} такого
+     * полінома не звільняє пам’ять – вона звільняється разом з ареною.
+     *
+     * @param arena арена для виділення
+     * @param size  кількість коефіцієнтів (не менше 1)
+     * @return новий об’єкт {@link OffHeapPolynome}
+     * @throws IllegalArgumentException якщо {@code size < 1}
+     */
+    public static OffHeapPolynome allocate(Arena arena, long size) {
+        checkSize(size);
+        return new OffHeapPolynome(arena.allocate(size * Double.BYTES, Double.BYTES), null);
+    }
+
+    /**
+     * Копіює коефіцієнти звичайного полінома поза купу.
+     *
+     * @param p поліном
+     * @return новий об’єкт {@link OffHeapPolynome}
+     */
+    public static OffHeapPolynome of(Polynome p) {
+        double[] c = p.rawCoefficients();
+        OffHeapPolynome res = allocate(c.length);
+        MemorySegment.copy(c, 0, res.segment, LAYOUT, 0, c.length);
+        return res;
+    }
+
+    /**
+     * Відображає існуючий файл коефіцієнтів у пам’ять лише для читання.
+     *
+     * @param path шлях до файлу (little-endian {@code double} від {@code x^0})
+     * @return новий об’єкт {@link OffHeapPolynome}
+     * @throws IOException              у разі помилки відкриття або відображення
+     * @throws IllegalArgumentException якщо розмір файлу не кратний 8 або файл порожній
+     */
+    public static OffHeapPolynome open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes == 0 || bytes % Double.BYTES != 0) {
+                throw new IllegalArgumentException("File size is not a positive multiple of 8: " + bytes);
+            }
+            Arena arena = Arena.ofShared();
+            try {
+                return new OffHeapPolynome(channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes, arena), arena);
+            } catch (IOException | RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Створює (або перезаписує) файл із заданою кількістю нульових коефіцієнтів
+     * і відображає його у пам’ять для читання і запису.
+     *
+     * @param path шлях до файлу
+     * @param size кількість коефіцієнтів (не менше 1)
+     * @return новий об’єкт {@link OffHeapPolynome}
+     * @throws IOException              у разі помилки створення або відображення
+     * @throws IllegalArgumentException якщо {@code size < 1}
+     */
+    public static OffHeapPolynome create(Path path, long size) throws IOException {
+        checkSize(size);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            Arena arena = Arena.ofShared();
+            try {
+                return new OffHeapPolynome(
+                        channel.map(FileChannel.MapMode.READ_WRITE, 0, size * Double.BYTES, arena), arena);
+            } catch (IOException | RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Перевіряє кількість коефіцієнтів.
+     *
+     * @param size кількість коефіцієнтів
+     * @throws IllegalArgumentException якщо {@code size < 1} або розмір у байтах переповнює {@code long}
+     */
+    private static void checkSize(long size) {
+        if (size < 1 || size > Long.MAX_VALUE / Double.BYTES) {
+            throw new IllegalArgumentException("Invalid coefficient count: " + size);
+        }
+    }
+
+    /**
+     * Повертає кількість комірок для коефіцієнтів.
+     *
+     * @return розмір сегмента у коефіцієнтах
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Повертає степінь полінома, пропускаючи старші нульові комірки.
+     *
+     * @return степінь полінома (0 для нульового полінома)
+     */
+    public long degree() {
+        long i = size - 1;
+        while (i > 0 && segment.getAtIndex(LAYOUT, i) == 0.0) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * Повертає коефіцієнт при {@code x^i}.
+     *
+     * @param i степінь
+     * @return коефіцієнт
+     * @throws IndexOutOfBoundsException якщо {@code i} поза межами сегмента
+     * @throws IllegalStateException     якщо пам’ять уже звільнена
+     */
+    public double get(long i) {
+        return segment.getAtIndex(LAYOUT, i);
+    }
+
+    /**
+     * Записує коефіцієнт при {@code x^i}.
+     *
+     * @param i     степінь
+     * @param value коефіцієнт
+     * @throws IndexOutOfBoundsException     якщо {@code i} поза межами сегмента
+     * @throws UnsupportedOperationException якщо файл відображено лише для читання
+     * @throws IllegalStateException         якщо пам’ять уже звільнена
+     */
+    public void set(long i, double value) {
+        segment.setAtIndex(LAYOUT, i, value);
+    }
+
+    /**
+     * Обчислює значення полінома у точці {@code x} за схемою Горнера.
+     *
+     * @param x значення аргумента
+     * @return значення полінома
+     */
+    public double valueAt(double x) {
+        double res = 0.0;
+        for (long i = degree(); i >= 0; i--) {
+            res = res * x + segment.getAtIndex(LAYOUT, i);
+        }
+        return res;
+    }
+
+    /**
+     * Обчислює значення полінома у багатьох точках за один прохід по коефіцієнтах.
+     * Кожен коефіцієнт читається з пам’яті один раз для всіх точок.
+     *
+     * @param xs  значення аргумента
+     * @param out масив для результатів (довжина не менша за {@code xs.length})
+     * @throws IllegalArgumentException якщо {@code out} коротший за {@code xs}
+     */
+    public void valueAt(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("out is shorter than xs");
+        }
+        int n = xs.length;
+        long deg = degree();
+        double top = segment.getAtIndex(LAYOUT, deg);
+        for (int j = 0; j < n; j++) {
+            out[j] = top;
+        }
+        for (long i = deg - 1; i >= 0; i--) {
+            double c = segment.getAtIndex(LAYOUT, i);
+            for (int j = 0; j < n; j++) {
+                out[j] = out[j] * xs[j] + c;
+            }
+        }
+    }
+
+    /**
+     * Обчислює похідну полінома.
+     *
+     * @return новий об’єкт {@link OffHeapPolynome} з власною ареною
+     */
+    public OffHeapPolynome derivative() {
+        long deg = degree();
+        OffHeapPolynome res = allocate(Math.max(deg, 1));
+        for (long i = 1; i <= deg; i++) {
+            res.segment.setAtIndex(LAYOUT, i - 1, segment.getAtIndex(LAYOUT, i) * i);
+        }
+        return res;
+    }
+
+    /**
+     * Обчислює невизначений інтеграл полінома з константою інтегрування 0.
+     *
+     * @return новий об’єкт {@link OffHeapPolynome} з власною ареною
+     */
+    public OffHeapPolynome integral() {
+        long deg = degree();
+        OffHeapPolynome res = allocate(deg + 2);
+        for (long i = 0; i <= deg; i++) {
+            res.segment.setAtIndex(LAYOUT, i + 1, segment.getAtIndex(LAYOUT, i) / (i + 1));
+        }
+        return res;
+    }
+
+    /**
+     * Обчислює визначений інтеграл на відрізку [{@code a}, {@code b}] без
+     * побудови первісної: обидва значення первісної накопичуються за один прохід.
+     *
+     * @param a ліва межа інтегрування
+     * @param b права межа інтегрування
+     * @return значення визначеного інтегралу
+     */
+    public double definiteIntegral(double a, double b) {
+        double fa = 0.0;
+        double fb = 0.0;
+        for (long i = degree(); i >= 0; i--) {
+            double c = segment.getAtIndex(LAYOUT, i) / (i + 1);
+            fa = (fa + c) * a;
+            fb = (fb + c) * b;
+        }
+        return fb - fa;
+    }
+
+    /**
+     * Додає інший поліном до поточного.
+     *
+     * @param other доданок
+     * @return новий об’єкт {@link OffHeapPolynome} з власною ареною
+     */
+    public OffHeapPolynome add(OffHeapPolynome other) {
+        long da = degree();
+        long db = other.degree();
+        OffHeapPolynome res = allocate(Math.max(da, db) + 1);
+        MemorySegment.copy(segment, 0, res.segment, 0, (da + 1) * Double.BYTES);
+        for (long i = 0; i <= db; i++) {
+            res.segment.setAtIndex(LAYOUT, i, res.segment.getAtIndex(LAYOUT, i) + other.segment.getAtIndex(LAYOUT, i));
+        }
+        return res;
+    }
+
+    /**
+     * Множить поточний поліном на інший.
+     *
+     * @param other множник
+     * @return новий об’єкт {@link OffHeapPolynome} з власною ареною
+     */
+    public OffHeapPolynome multiply(OffHeapPolynome other) {
+        long da = degree();
+        long db = other.degree();
+        OffHeapPolynome res = allocate(da + db + 1);
+        MemorySegment out = res.segment;
+        for (long i = 0; i <= da; i++) {
+            double a = segment.getAtIndex(LAYOUT, i);
+            if (a == 0.0) {
+                continue;
+            }
+            for (long j = 0; j <= db; j++) {
+                out.setAtIndex(LAYOUT, i + j, out.getAtIndex(LAYOUT, i + j) + a * other.segment.getAtIndex(LAYOUT, j));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Копіює коефіцієнти у звичайний {@link Polynome} у купі.
+     *
+     * @return новий об’єкт {@link Polynome}
+     * @throws IllegalStateException якщо степінь занадто великий для масиву Java
+     */
+    public Polynome toPolynome() {
+        long n = degree() + 1;
+        if (n > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Polynome is too large for the heap: " + n + " coefficients");
+        }
+        double[] c = new double[(int) n];
+        MemorySegment.copy(segment, LAYOUT, 0, c, 0, c.length);
+        return new Polynome(c);
+    }
+
+    /**
+     * Записує зміни відображеного у файл полінома на диск.
+     * Для пам’яті, не відображеної з файлу, нічого не робить.
+     */
+    public void force() {
+        if (segment.isMapped()) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Перевіряє, чи пам’ять полінома ще доступна.
+     *
+     * @return {@code false}, якщо арену вже закрито
+     */
+    public boolean isAlive() {
+        return segment.scope().isAlive();
+    }
+
+    /**
+     * Звільняє пам’ять (або знімає відображення файлу), якщо поліном володіє своєю ареною.
+     * Повторний виклик нічого не робить. Подальші звернення до коефіцієнтів
+     * кидають {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (arena != null && arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    /**
+     * Повертає короткий опис полінома (коефіцієнти не виводяться через їх можливу кількість).
+     *
+     * @return рядок з розміром і степенем
+     */
+    @Override
+    public String toString() {
+        if (!isAlive()) {
+            return "OffHeapPolynome{closed}";
+        }
+        return "OffHeapPolynome{size=" + size + ", degree=" + degree() + ", mapped=" + segment.isMapped() + "}";
+    }
+}
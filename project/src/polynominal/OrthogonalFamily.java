@@ -0,0 +1,207 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 17:40
+ *
+ * Перелік {@code OrthogonalFamily} описує класичні сімейства ортогональних
+ * многочленів через тричленне рекурентне співвідношення
+ * {@code P_{n+1}(x) = a_n·x·P_n(x) - c_n·P_{n-1}(x)}, {@code P_0 = 1}.
+ * Многочлени будуються за рекурентністю і кешуються для кожного степеня:
+ * повторний запит того самого або меншого степеня не виконує обчислень.
+ * Кеш розширюється під блокуванням, а читання відбувається без нього,
+ * тому сімейства можна використовувати з кількох потоків.
+ *
+ * Для великих степенів коефіцієнти у мономіальному базисі швидко зростають
+ * і погано обумовлені; значення в точці краще обчислювати методом
+ * {@link #valueAt(int, double)} безпосередньо за рекурентністю.
+ */
+
+package polynominal;
+
+import java.util.Arrays;
+
+/**
+ * Класичні сімейства ортогональних многочленів.
+ */
+public enum OrthogonalFamily {
+
+    /** Многочлени Лежандра на {@code [-1, 1]} з вагою 1. */
+    LEGENDRE(-1.0, 1.0, 2.0) {
+        @Override
+        double a(int n) {
+            return (2.0 * n + 1.0) / (n + 1.0);
+        }
+
+        @Override
+        double c(int n) {
+            return n / (n + 1.0);
+        }
+    },
+
+    /** Многочлени Чебишова першого роду на {@code [-1, 1]} з вагою {@code 1/sqrt(1-x^2)}. */
+    CHEBYSHEV_T(-1.0, 1.0, Math.PI) {
+        @Override
+        double a(int n) {
+            return n == 0 ? 1.0 : 2.0;
+        }
+
+        @Override
+        double c(int n) {
+            return 1.0;
+        }
+    },
+
+    /** Многочлени Чебишова другого роду на {@code [-1, 1]} з вагою {@code sqrt(1-x^2)}. */
+    CHEBYSHEV_U(-1.0, 1.0, Math.PI / 2.0) {
+        @Override
+        double a(int n) {
+            return 2.0;
+        }
+
+        @Override
+        double c(int n) {
+            return 1.0;
+        }
+    },
+
+    /** Многочлени Ерміта (фізичні) на {@code (-inf, inf)} з вагою {@code exp(-x^2)}. */
+    HERMITE(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Math.sqrt(Math.PI)) {
+        @Override
+        double a(int n) {
+            return 2.0;
+        }
+
+        @Override
+        double c(int n) {
+            return 2.0 * n;
+        }
+    };
+
+    private final double lower;
+    private final double upper;
+    private final double weightIntegral;
+
+    /** Побудовані многочлени за степенями; масив лише замінюється, але не змінюється. */
+    private volatile Polynome[] cache = {Polynome.adopt(new double[]{1.0})};
+
+    OrthogonalFamily(double lower, double upper, double weightIntegral) {
+        this.lower = lower;
+        this.upper = upper;
+        this.weightIntegral = weightIntegral;
+    }
+
+    /**
+     * Коефіцієнт {@code a_n} рекурентності.
+     *
+     * @param n степінь {@code P_n}
+     * @return множник при {@code x·P_n}
+     */
+    abstract double a(int n);
+
+    /**
+     * Коефіцієнт {@code c_n} рекурентності (при {@code n = 0} не використовується).
+     *
+     * @param n степінь {@code P_n}
+     * @return множник при {@code P_{n-1}}
+     */
+    abstract double c(int n);
+
+    /**
+     * Повертає ліву межу проміжку ортогональності.
+     *
+     * @return ліва межа (може бути {@code -inf})
+     */
+    public double lower() {
+        return lower;
+    }
+
+    /**
+     * Повертає праву межу проміжку ортогональності.
+     *
+     * @return права межа (може бути {@code +inf})
+     */
+    public double upper() {
+        return upper;
+    }
+
+    /**
+     * Повертає інтеграл вагової функції по проміжку ортогональності.
+     *
+     * @return {@code ∫ w(x) dx}
+     */
+    public double weightIntegral() {
+        return weightIntegral;
+    }
+
+    /**
+     * Повертає многочлен степеня {@code n}. Результат кешується разом з усіма
+     * многочленами меншого степеня.
+     *
+     * @param n степінь
+     * @return многочлен {@code P_n}
+     * @throws IllegalArgumentException якщо {@code n < 0}
+     */
+    public Polynome polynome(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("degree must be non-negative");
+        }
+        Polynome[] c = cache;
+        if (n < c.length) {
+            return c[n];
+        }
+        return extend(n)[n];
+    }
+
+    /**
+     * Обчислює {@code P_n(x)} безпосередньо за рекурентністю, без
+     * коефіцієнтів у мономіальному базисі.
+     *
+     * @param n степінь
+     * @param x точка
+     * @return значення {@code P_n(x)}
+     * @throws IllegalArgumentException якщо {@code n < 0}
+     */
+    public double valueAt(int n, double x) {
+        if (n < 0) {
+            throw new IllegalArgumentException("degree must be non-negative");
+        }
+        double prev = 0.0;
+        double cur = 1.0;
+        for (int k = 0; k < n; k++) {
+            double next = a(k) * x * cur - (k == 0 ? 0.0 : c(k) * prev);
+            prev = cur;
+            cur = next;
+        }
+        return cur;
+    }
+
+    /**
+     * Добудовує кеш щонайменше до степеня {@code n}.
+     */
+    private synchronized Polynome[] extend(int n) {
+        Polynome[] c = cache;
+        if (n < c.length) {
+            return c;
+        }
+        int size = Math.max(n + 1, c.length + (c.length >> 1));
+        Polynome[] grown = Arrays.copyOf(c, size);
+        double[] prev = c.length > 1 ? c[c.length - 2].rawCoefficients() : new double[0];
+        double[] cur = c[c.length - 1].rawCoefficients();
+        for (int k = c.length - 1; k < size - 1; k++) {
+            double ak = a(k);
+            double ck = k == 0 ? 0.0 : c(k);
+            double[] next = new double[k + 2];
+            for (int i = 0; i <= k; i++) {
+                next[i + 1] = ak * cur[i];
+            }
+            for (int i = 0; i < prev.length; i++) {
+                next[i] -= ck * prev[i];
+            }
+            grown[k + 1] = Polynome.adopt(next);
+            prev = cur;
+            cur = next;
+        }
+        cache = grown;
+        return grown;
+    }
+}
@@ -0,0 +1,402 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 14:50
+ *
+ * Клас {@code PiecewisePolynome} представляє кусково-поліноміальну функцію:
+ * на кожному відрізку [x_i, x_{i+1}) діє свій поліном від локальної змінної
+ * {@code t = x - x_i}. Коефіцієнти всіх відрізків зберігаються суцільно
+ * в одному масиві {@code double}, по {@code order} чисел на відрізок.
+ *
+ * Клас підтримує:
+ * <ul>
+ *   <li>побудову кубічних сплайнів (натуральних і з заданими похідними на кінцях);</li>
+ *   <li>побудову з набору {@code Polynome} у глобальній змінній x;</li>
+ *   <li>пошук відрізка двійковим пошуком або за рівномірною сіткою;</li>
+ *   <li>пакетне обчислення значень у відсортованих точках без виділення пам’яті;</li>
+ *   <li>похідну.</li>
+ * </ul>
+ */
+
+package polynominal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Кусково-поліноміальна функція з суцільним зберіганням коефіцієнтів.
+ *
+ * <p>Поза межами [x_0, x_n] використовуються крайні відрізки (екстраполяція).
+ */
+public class PiecewisePolynome implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double[] breaks;
+    private final double[] coeffs;
+    private final int order;
+    private final int segments;
+
+    /** Для рівномірної сітки – обернений крок, інакше 0. */
+    private final double invStep;
+
+    /**
+     * Створює функцію з точок розбиття і суцільного масиву коефіцієнтів.
+     *
+     * @param breaks точки розбиття {@code x_0 < x_1 < ... < x_n}
+     * @param coeffs коефіцієнти: для відрізка {@code i} – {@code coeffs[i * order + k]}
+     *               при {@code t^k}, де {@code t = x - x_i}
+     * @param order  кількість коефіцієнтів на відрізок (степінь + 1)
+     * @throws IllegalArgumentException якщо розміри не узгоджені або точки не зростають
+     */
+    public PiecewisePolynome(double[] breaks, double[] coeffs, int order) {
+        this(breaks.clone(), coeffs.clone(), order, true);
+    }
+
+    /**
+     * Створює функцію без копіювання масивів (лише для внутрішнього використання).
+     *
+     * @param breaks точки розбиття
+     * @param coeffs коефіцієнти
+     * @param order  кількість коефіцієнтів на відрізок
+     * @param unused ознака конструктора без копіювання
+     */
+    private PiecewisePolynome(double[] breaks, double[] coeffs, int order, boolean unused) {
+        if (breaks.length < 2 || order < 1 || coeffs.length != (breaks.length - 1) * order) {
+            throw new IllegalArgumentException("Inconsistent breaks/coeffs/order");
+        }
+        for (int i = 1; i < breaks.length; i++) {
+            if (!(breaks[i] > breaks[i - 1])) {
+                throw new IllegalArgumentException("Breaks must be strictly increasing");
+            }
+        }
+        this.breaks = breaks;
+        this.coeffs = coeffs;
+        this.order = order;
+        this.segments = breaks.length - 1;
+        this.invStep = uniformInverseStep(breaks);
+    }
+
+    /**
+     * Будує натуральний кубічний сплайн (друга похідна на кінцях дорівнює нулю).
+     *
+     * @param x вузли (строго зростають, не менше двох)
+     * @param y значення у вузлах
+     * @return кубічний сплайн
+     * @throws IllegalArgumentException якщо розміри не збігаються або вузли не зростають
+     */
+    public static PiecewisePolynome naturalSpline(double[] x, double[] y) {
+        return cubicSpline(x, y, false, 0.0, 0.0);
+    }
+
+    /**
+     * Будує кубічний сплайн із заданими першими похідними на кінцях.
+     *
+     * @param x      вузли (строго зростають, не менше двох)
+     * @param y      значення у вузлах
+     * @param dStart похідна в точці {@code x[0]}
+     * @param dEnd   похідна в точці {@code x[n]}
+     * @return кубічний сплайн
+     * @throws IllegalArgumentException якщо розміри не збігаються або вузли не зростають
+     */
+    public static PiecewisePolynome clampedSpline(double[] x, double[] y, double dStart, double dEnd) {
+        return cubicSpline(x, y, true, dStart, dEnd);
+    }
+
+    /**
+     * Будує функцію з поліномів, заданих у глобальній змінній {@code x}.
+     * Кожен поліном переводиться у локальну змінну {@code t = x - x_i}.
+     *
+     * @param breaks точки розбиття {@code x_0 < ... < x_n}
+     * @param pieces {@code n} поліномів, {@code pieces[i]} діє на [x_i, x_{i+1})
+     * @return кусково-поліноміальна функція
+     * @throws IllegalArgumentException якщо кількість поліномів не дорівнює кількості відрізків
+     */
+    public static PiecewisePolynome fromPieces(double[] breaks, Polynome[] pieces) {
+        if (pieces.length != breaks.length - 1) {
+            throw new IllegalArgumentException("Need exactly one piece per segment");
+        }
+        int order = 1;
+        for (Polynome p : pieces) {
+            order = Math.max(order, p.degree() + 1);
+        }
+        double[] c = new double[pieces.length * order];
+        for (int i = 0; i < pieces.length; i++) {
+            double[] local = pieces[i].getCoefficients();
+            taylorShift(local, breaks[i]);
+            System.arraycopy(local, 0, c, i * order, local.length);
+        }
+        return new PiecewisePolynome(breaks.clone(), c, order, true);
+    }
+
+    /**
+     * Повертає кількість відрізків.
+     *
+     * @return кількість відрізків
+     */
+    public int segments() {
+        return segments;
+    }
+
+    /**
+     * Повертає кількість коефіцієнтів на відрізок (степінь + 1).
+     *
+     * @return порядок
+     */
+    public int order() {
+        return order;
+    }
+
+    /**
+     * Повертає копію точок розбиття.
+     *
+     * @return масив точок розбиття
+     */
+    public double[] getBreaks() {
+        return breaks.clone();
+    }
+
+    /**
+     * Повертає поліном відрізка {@code i} у локальній змінній {@code t = x - x_i}.
+     *
+     * @param i номер відрізка
+     * @return поліном відрізка
+     * @throws IndexOutOfBoundsException якщо відрізка з таким номером немає
+     */
+    public Polynome piece(int i) {
+        if (i < 0 || i >= segments) {
+            throw new IndexOutOfBoundsException("No segment " + i);
+        }
+        return new Polynome(Arrays.copyOfRange(coeffs, i * order, (i + 1) * order));
+    }
+
+    /**
+     * Знаходить номер відрізка, що містить точку {@code x}. Для рівномірної сітки
+     * номер обчислюється за O(1), інакше – двійковим пошуком.
+     *
+     * @param x точка
+     * @return номер відрізка від 0 до {@code segments() - 1}
+     */
+    public int findSegment(double x) {
+        if (invStep != 0.0) {
+            int i = (int) ((x - breaks[0]) * invStep);
+            i = Math.max(0, Math.min(i, segments - 1));
+            // поправка на похибку округлення при діленні
+            if (i > 0 && x < breaks[i]) {
+                i--;
+            } else if (i < segments - 1 && x >= breaks[i + 1]) {
+                i++;
+            }
+            return i;
+        }
+        int lo = 0;
+        int hi = segments - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (breaks[mid] <= x) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Обчислює значення функції у точці {@code x}.
+     *
+     * @param x значення аргумента
+     * @return значення функції
+     */
+    public double valueAt(double x) {
+        int i = findSegment(x);
+        return evalSegment(i, x - breaks[i]);
+    }
+
+    /**
+     * Обчислює значення у точках, відсортованих за зростанням. Відрізок
+     * шукається один раз, далі покажчик лише рухається вперед, тому
+     * метод не виділяє пам’яті і не виконує пошуку для кожної точки.
+     * Якщо точки не відсортовані, для точки, меншої за попередню,
+     * відрізок шукається заново, тож результат залишається правильним.
+     *
+     * @param xs  точки, бажано відсортовані за зростанням
+     * @param out масив для результатів (довжина не менша за {@code xs.length})
+     * @throws IllegalArgumentException якщо {@code out} коротший за {@code xs}
+     */
+    public void valueAt(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("out is shorter than xs");
+        }
+        if (xs.length == 0) {
+            return;
+        }
+        int seg = findSegment(xs[0]);
+        double prev = xs[0];
+        int last = segments - 1;
+        for (int j = 0; j < xs.length; j++) {
+            double x = xs[j];
+            if (x < prev) {
+                seg = findSegment(x);
+            }
+            while (seg < last && x >= breaks[seg + 1]) {
+                seg++;
+            }
+            out[j] = evalSegment(seg, x - breaks[seg]);
+            prev = x;
+        }
+    }
+
+    /**
+     * Обчислює похідну функції.
+     *
+     * @return нова кусково-поліноміальна функція – похідна
+     */
+    public PiecewisePolynome derivative() {
+        if (order == 1) {
+            return new PiecewisePolynome(breaks, new double[segments], 1, true);
+        }
+        int dOrder = order - 1;
+        double[] d = new double[segments * dOrder];
+        for (int i = 0; i < segments; i++) {
+            for (int k = 1; k < order; k++) {
+                d[i * dOrder + k - 1] = coeffs[i * order + k] * k;
+            }
+        }
+        return new PiecewisePolynome(breaks, d, dOrder, true);
+    }
+
+    /**
+     * Повертає текстове подання функції.
+     *
+     * @return рядок з відрізками і їх поліномами
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < segments; i++) {
+            if (i > 0) {
+                sb.append("; ");
+            }
+            sb.append('[').append(breaks[i]).append(", ").append(breaks[i + 1]).append("): ")
+                    .append(piece(i)).append(" (t = x - ").append(breaks[i]).append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Обчислює поліном відрізка за схемою Горнера.
+     *
+     * @param i номер відрізка
+     * @param t локальна змінна
+     * @return значення полінома відрізка
+     */
+    private double evalSegment(int i, double t) {
+        int base = i * order;
+        double res = coeffs[base + order - 1];
+        for (int k = order - 2; k >= 0; k--) {
+            res = res * t + coeffs[base + k];
+        }
+        return res;
+    }
+
+    /**
+     * Будує кубічний сплайн розв’язанням тридіагональної системи
+     * для других похідних у вузлах (метод прогонки).
+     *
+     * @param x       вузли
+     * @param y       значення
+     * @param clamped чи задано похідні на кінцях
+     * @param d0      похідна на лівому кінці
+     * @param dn      похідна на правому кінці
+     * @return кубічний сплайн
+     */
+    private static PiecewisePolynome cubicSpline(double[] x, double[] y, boolean clamped, double d0, double dn) {
+        int n = x.length - 1;
+        if (n < 1 || y.length != x.length) {
+            throw new IllegalArgumentException("Need at least two nodes and equal x/y lengths");
+        }
+        double[] h = new double[n];
+        for (int i = 0; i < n; i++) {
+            h[i] = x[i + 1] - x[i];
+            if (!(h[i] > 0)) {
+                throw new IllegalArgumentException("Nodes must be strictly increasing");
+            }
+        }
+        // Система для других похідних m: sub[i] m[i-1] + diag[i] m[i] + sup[i] m[i+1] = rhs[i].
+        double[] sub = new double[n + 1];
+        double[] diag = new double[n + 1];
+        double[] sup = new double[n + 1];
+        double[] rhs = new double[n + 1];
+        if (clamped) {
+            diag[0] = 2 * h[0];
+            sup[0] = h[0];
+            rhs[0] = 6 * ((y[1] - y[0]) / h[0] - d0);
+            sub[n] = h[n - 1];
+            diag[n] = 2 * h[n - 1];
+            rhs[n] = 6 * (dn - (y[n] - y[n - 1]) / h[n - 1]);
+        } else {
+            diag[0] = 1;
+            diag[n] = 1;
+        }
+        for (int i = 1; i < n; i++) {
+            sub[i] = h[i - 1];
+            diag[i] = 2 * (h[i - 1] + h[i]);
+            sup[i] = h[i];
+            rhs[i] = 6 * ((y[i + 1] - y[i]) / h[i] - (y[i] - y[i - 1]) / h[i - 1]);
+        }
+        for (int i = 1; i <= n; i++) {
+            double w = sub[i] / diag[i - 1];
+            diag[i] -= w * sup[i - 1];
+            rhs[i] -= w * rhs[i - 1];
+        }
+        double[] m = new double[n + 1];
+        m[n] = rhs[n] / diag[n];
+        for (int i = n - 1; i >= 0; i--) {
+            m[i] = (rhs[i] - sup[i] * m[i + 1]) / diag[i];
+        }
+
+        double[] c = new double[n * 4];
+        for (int i = 0; i < n; i++) {
+            c[4 * i] = y[i];
+            c[4 * i + 1] = (y[i + 1] - y[i]) / h[i] - h[i] * (2 * m[i] + m[i + 1]) / 6;
+            c[4 * i + 2] = m[i] / 2;
+            c[4 * i + 3] = (m[i + 1] - m[i]) / (6 * h[i]);
+        }
+        return new PiecewisePolynome(x.clone(), c, 4, true);
+    }
+
+    /**
+     * Замінює коефіцієнти полінома {@code p(x)} на коефіцієнти {@code p(t + shift)}
+     * (зсув Тейлора повторним діленням за схемою Горнера).
+     *
+     * @param c     коефіцієнти, змінюються на місці
+     * @param shift зсув
+     */
+    private static void taylorShift(double[] c, double shift) {
+        int n = c.length - 1;
+        for (int i = 0; i < n; i++) {
+            for (int k = n - 1; k >= i; k--) {
+                c[k] += shift * c[k + 1];
+            }
+        }
+    }
+
+    /**
+     * Перевіряє, чи утворюють точки рівномірну сітку.
+     *
+     * @param breaks точки розбиття
+     * @return обернений крок для рівномірної сітки або 0
+     */
+    private static double uniformInverseStep(double[] breaks) {
+        int n = breaks.length - 1;
+        double step = (breaks[n] - breaks[0]) / n;
+        double tol = 1e-12 * (breaks[n] - breaks[0]);
+        for (int i = 1; i < n; i++) {
+            if (Math.abs(breaks[i] - (breaks[0] + i * step)) > tol) {
+                return 0.0;
+            }
+        }
+        return 1.0 / step;
+    }
+}
@@ -12,6 +12,7 @@
  *   <li>обчислення похідної;</li>
  *   <li>обчислення невизначеного та визначеного інтегралів;</li>
  *   <li>додавання, віднімання та множення поліномів;</li>
+ *   <li>знаходження дійсних коренів для степенів від 1 до 4;</li>
  *   <li>створення поліномів на основі {@code Rational}, {@code Unsigned},
  *       {@code BigUnsigned};</li>
  *   <li>запис та читання з текстового файлу.</li>
@@ -23,17 +24,28 @@
 
 package polynominal;
 
+import equations.EquationSolver;
+import metrics.Metrics;
+import metrics.Operation;
 import numbers.BigUnsigned;
+import numbers.BulkSerialization;
 import numbers.Numeric;
 import numbers.Rational;
 import numbers.Unsigned;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * Поліном однієї змінної з коефіцієнтами типу {@code double}.
@@ -46,6 +58,9 @@ public class Polynome implements Numeric, Serializable {
 
     private double[] coeffs;
 
+    /** Кешований {@link #contentHash()}; 0 означає «ще не обчислено». */
+    private transient volatile long hash;
+
     /**
      * Створює нульовий поліном {@code 0}.
      */
@@ -115,6 +130,20 @@ public class Polynome implements Numeric, Serializable {
         this.coeffs = trimTrailingZeros(c);
     }
 
+    /**
+     * Створює поліном, що використовує переданий масив без копіювання.
+     * Масив має бути вже обрізаним (старший коефіцієнт ненульовий або
+     * довжина 1), і після виклику його не можна змінювати.
+     *
+     * @param coeffs масив коефіцієнтів, що передається у володіння поліному
+     * @return новий поліном
+     */
+    static Polynome adopt(double[] coeffs) {
+        Polynome p = new Polynome();
+        p.coeffs = coeffs;
+        return p;
+    }
+
     /**
      * Обрізає нульові коефіцієнти з високих степенів.
      *
@@ -140,6 +169,25 @@ public class Polynome implements Numeric, Serializable {
         return coeffs.length - 1;
     }
 
+    /**
+     * Повертає копію масиву коефіцієнтів від {@code x^0} до {@code x^n}.
+     *
+     * @return новий масив коефіцієнтів
+     */
+    public double[] getCoefficients() {
+        return coeffs.clone();
+    }
+
+    /**
+     * Повертає внутрішній масив коефіцієнтів без копіювання.
+     * Призначений лише для класів пакета, які не змінюють масив.
+     *
+     * @return внутрішній масив коефіцієнтів
+     */
+    double[] rawCoefficients() {
+        return coeffs;
+    }
+
     /**
      * Обчислює значення полінома у точці {@code x}.
      *
@@ -156,6 +204,32 @@ public class Polynome implements Numeric, Serializable {
         return res;
     }
 
+    /**
+     * Обчислює значення полінома у багатьох точках за один прохід по коефіцієнтах.
+     * Схема Горнера виконується для всіх точок одночасно, тому внутрішній цикл
+     * не має залежностей між ітераціями і добре векторизується.
+     *
+     * @param xs  значення аргумента
+     * @param out масив для результатів (довжина не менша за {@code xs.length})
+     * @throws IllegalArgumentException якщо {@code out} коротший за {@code xs}
+     */
+    public void valueAt(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("out is shorter than xs");
+        }
+        int n = xs.length;
+        double top = coeffs[coeffs.length - 1];
+        for (int j = 0; j < n; j++) {
+            out[j] = top;
+        }
+        for (int i = coeffs.length - 2; i >= 0; i--) {
+            double c = coeffs[i];
+            for (int j = 0; j < n; j++) {
+                out[j] = out[j] * xs[j] + c;
+            }
+        }
+    }
+
     /**
      * Обчислює похідну полінома.
      *
@@ -165,11 +239,14 @@ public class Polynome implements Numeric, Serializable {
         if (coeffs.length == 1) {
             return new Polynome(new double[]{0.0});
         }
+        long start = Metrics.start();
         double[] d = new double[coeffs.length - 1];
         for (int i = 1; i < coeffs.length; i++) {
             d[i - 1] = coeffs[i] * i;
         }
-        return new Polynome(d);
+        Polynome res = new Polynome(d);
+        Metrics.record(Operation.POLYNOME_DERIVATIVE, degree(), start);
+        return res;
     }
 
     /**
@@ -178,12 +255,15 @@ public class Polynome implements Numeric, Serializable {
      * @return новий об’єкт {@link Polynome}, що є первісною
      */
     public Polynome integral() {
+        long start = Metrics.start();
         double[] in = new double[coeffs.length + 1];
         in[0] = 0.0;
         for (int i = 0; i < coeffs.length; i++) {
             in[i + 1] = coeffs[i] / (i + 1);
         }
-        return new Polynome(in);
+        Polynome res = new Polynome(in);
+        Metrics.record(Operation.POLYNOME_INTEGRAL, degree(), start);
+        return res;
     }
 
     /**
@@ -194,8 +274,71 @@ public class Polynome implements Numeric, Serializable {
      * @return значення визначеного інтегралу
      */
     public double definiteIntegral(double a, double b) {
+        long start = Metrics.start();
         Polynome F = integral();
-        return F.valueAt(b) - F.valueAt(a);
+        double res = F.valueAt(b) - F.valueAt(a);
+        Metrics.record(Operation.POLYNOME_DEFINITE_INTEGRAL, degree(), start);
+        return res;
+    }
+
+    /**
+     * Знаходить дійсні корені рівняння {@code P(x) = 0} за допомогою
+     * {@link EquationSolver}: лінійні та квадратні – за формулами, кубічні
+     * та четвертого степеня – у замкненому вигляді.
+     *
+     * @return дійсні корені (кратні – один раз)
+     * @throws IllegalArgumentException якщо степінь полінома не від 1 до 4
+     */
+    public double[] roots() {
+        double[] c = coeffs;
+        switch (degree()) {
+            case 1:
+                return EquationSolver.solveQuadratic(0.0, c[1], c[0]);
+            case 2:
+                return EquationSolver.solveQuadratic(c[2], c[1], c[0]);
+            case 3:
+                return EquationSolver.solveCubic(c[3], c[2], c[1], c[0]);
+            case 4:
+                return EquationSolver.solveQuartic(c[4], c[3], c[2], c[1], c[0]);
+            default:
+                throw new IllegalArgumentException("roots supports degree 1 to 4, got " + degree());
+        }
+    }
+
+    /**
+     * Створює підготовлений інтегратор з один раз обчисленою первісною.
+     * Його варто використовувати замість {@link #definiteIntegral(double, double)},
+     * коли для одного полінома потрібно багато визначених інтегралів.
+     *
+     * @return новий об’єкт {@link DefiniteIntegrator}
+     */
+    public DefiniteIntegrator integrator() {
+        return new DefiniteIntegrator(this);
+    }
+
+    /**
+     * Створює спеціалізований обчислювач значень цього полінома. Для степенів
+     * до {@value PolynomeCompiler#MAX_DEGREE} генерується прихований клас із
+     * повністю розгорнутою схемою Горнера на {@link Math#fma} і вбудованими
+     * коефіцієнтами; для вищих степенів повертається звичайний цикл.
+     * Генерація класу відносно дорога, тому результат варто зберігати
+     * і використовувати для поліномів, що обчислюються дуже часто.
+     *
+     * @return обчислювач {@code x -> P(x)}
+     */
+    public DoubleUnaryOperator compile() {
+        return PolynomeCompiler.compile(coeffs);
+    }
+
+    /**
+     * Повертає відкладений вираз для цього полінома. Операції над виразом
+     * не створюють проміжних поліномів, доки не буде викликано
+     * {@link PolynomeExpression#materialize()}.
+     *
+     * @return вираз-лист, що відповідає поліному
+     */
+    public PolynomeExpression lazy() {
+        return PolynomeExpression.of(this);
     }
 
     /**
@@ -205,6 +348,7 @@ public class Polynome implements Numeric, Serializable {
      * @return новий об’єкт {@link Polynome} – результат додавання
      */
     public Polynome add(Polynome other) {
+        long start = Metrics.start();
         int n = Math.max(this.coeffs.length, other.coeffs.length);
         double[] res = new double[n];
         for (int i = 0; i < n; i++) {
@@ -212,7 +356,9 @@ public class Polynome implements Numeric, Serializable {
             double c2 = i < other.coeffs.length ? other.coeffs[i] : 0.0;
             res[i] = c1 + c2;
         }
-        return new Polynome(res);
+        Polynome p = new Polynome(res);
+        Metrics.record(Operation.POLYNOME_ADD, n - 1, start);
+        return p;
     }
 
     /**
@@ -222,6 +368,7 @@ public class Polynome implements Numeric, Serializable {
      * @return новий об’єкт {@link Polynome} – результат віднімання
      */
     public Polynome subtract(Polynome other) {
+        long start = Metrics.start();
         int n = Math.max(this.coeffs.length, other.coeffs.length);
         double[] res = new double[n];
         for (int i = 0; i < n; i++) {
@@ -229,7 +376,9 @@ public class Polynome implements Numeric, Serializable {
             double c2 = i < other.coeffs.length ? other.coeffs[i] : 0.0;
             res[i] = c1 - c2;
         }
-        return new Polynome(res);
+        Polynome p = new Polynome(res);
+        Metrics.record(Operation.POLYNOME_SUBTRACT, n - 1, start);
+        return p;
     }
 
     /**
@@ -239,13 +388,105 @@ public class Polynome implements Numeric, Serializable {
      * @return новий об’єкт {@link Polynome} – результат множення
      */
     public Polynome multiply(Polynome other) {
+        long start = Metrics.start();
         double[] res = new double[this.coeffs.length + other.coeffs.length - 1];
         for (int i = 0; i < this.coeffs.length; i++) {
             for (int j = 0; j < other.coeffs.length; j++) {
                 res[i + j] += this.coeffs[i] * other.coeffs[j];
             }
         }
-        return new Polynome(res);
+        Polynome p = new Polynome(res);
+        Metrics.record(Operation.POLYNOME_MULTIPLY, Math.max(degree(), other.degree()), start);
+        return p;
+    }
+
+    /**
+     * Множить поліном на інший поліном паралельно у спільному пулі
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param other множник
+     * @return новий об’єкт {@link Polynome} – результат множення
+     * @see #multiplyParallel(Polynome, ForkJoinPool)
+     */
+    public Polynome multiplyParallel(Polynome other) {
+        return multiplyParallel(other, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Множить поліном на інший поліном паралельно у заданому пулі потоків.
+     * Для великих степенів використовується алгоритм Карацуби, для малих –
+     * блочне множення «у стовпчик», що збігається з {@link #multiply(Polynome)}
+     * біт у біт. Порядок підсумовування залежить лише від степенів множників,
+     * тому результат однаковий за будь-якої кількості потоків.
+     *
+     * @param other множник
+     * @param pool  пул потоків
+     * @return новий об’єкт {@link Polynome} – результат множення
+     */
+    public Polynome multiplyParallel(Polynome other, ForkJoinPool pool) {
+        long start = Metrics.start();
+        Polynome p = new Polynome(Karatsuba.multiply(this.coeffs, other.coeffs, pool));
+        Metrics.record(Operation.POLYNOME_MULTIPLY, Math.max(degree(), other.degree()), "karatsuba", start);
+        return p;
+    }
+
+    /**
+     * Будує поліном {@code (x - r_0)(x - r_1)...(x - r_{n-1})} за його коренями.
+     * Множники перемножуються збалансованим деревом паралельно у спільному пулі
+     * {@link ForkJoinPool#commonPool()}, а великі вузли – алгоритмом Карацуби,
+     * тому час побудови субквадратичний за кількістю коренів.
+     *
+     * @param roots корені (порожній масив дає сталу {@code 1})
+     * @return новий поліном степеня {@code roots.length}
+     */
+    public static Polynome fromRoots(double... roots) {
+        long start = Metrics.start();
+        Polynome p = new Polynome(ProductTree.fromRoots(roots, ForkJoinPool.commonPool()));
+        Metrics.record(Operation.POLYNOME_MULTIPLY, roots.length, "product-tree", start);
+        return p;
+    }
+
+    /**
+     * Обчислює добуток набору поліномів збалансованим деревом паралельно
+     * у спільному пулі {@link ForkJoinPool#commonPool()}.
+     *
+     * @param factors множники (порожній набір дає сталу {@code 1})
+     * @return новий поліном – добуток
+     */
+    public static Polynome product(Collection<? extends Polynome> factors) {
+        long start = Metrics.start();
+        double[][] c = new double[factors.size()][];
+        int i = 0;
+        int degree = 0;
+        for (Polynome f : factors) {
+            c[i++] = f.coeffs;
+            degree += f.degree();
+        }
+        Polynome p = new Polynome(ProductTree.product(c, ForkJoinPool.commonPool()));
+        Metrics.record(Operation.POLYNOME_MULTIPLY, degree, "product-tree", start);
+        return p;
+    }
+
+    /**
+     * Обчислює суму набору поліномів попарним деревом паралельно у спільному
+     * пулі {@link ForkJoinPool#commonPool()}. Попарне додавання також зменшує
+     * накопичення похибки округлення порівняно з послідовним.
+     *
+     * @param terms доданки (порожній набір дає нульовий поліном)
+     * @return новий поліном – сума
+     */
+    public static Polynome sum(Collection<? extends Polynome> terms) {
+        long start = Metrics.start();
+        double[][] c = new double[terms.size()][];
+        int i = 0;
+        int degree = 0;
+        for (Polynome t : terms) {
+            c[i++] = t.coeffs;
+            degree = Math.max(degree, t.degree());
+        }
+        Polynome p = new Polynome(ProductTree.sum(c, ForkJoinPool.commonPool()));
+        Metrics.record(Operation.POLYNOME_ADD, degree, "sum-tree", start);
+        return p;
     }
 
     /**
@@ -255,6 +496,7 @@ public class Polynome implements Numeric, Serializable {
      * @throws IOException у разі помилки запису у файл
      */
     public void saveToFile(String fileName) throws IOException {
+        long start = Metrics.start();
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName))) {
             for (int i = 0; i < coeffs.length; i++) {
                 writer.write(Double.toString(coeffs[i]));
@@ -264,6 +506,7 @@ public class Polynome implements Numeric, Serializable {
             }
             writer.newLine();
         }
+        Metrics.record(Operation.FILE_WRITE, degree(), fileName, start);
     }
 
     /**
@@ -276,18 +519,77 @@ public class Polynome implements Numeric, Serializable {
      * @throws NumberFormatException якщо формат коефіцієнтів некоректний
      */
     public static Polynome readFromFile(String fileName) throws IOException {
+        long start = Metrics.start();
+        Polynome res;
         try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
             String line = reader.readLine();
             if (line == null || line.trim().isEmpty()) {
-                return new Polynome();
+                res = new Polynome();
+            } else {
+                String[] parts = line.trim().split("\\s+");
+                double[] c = new double[parts.length];
+                for (int i = 0; i < parts.length; i++) {
+                    c[i] = Double.parseDouble(parts[i]);
+                }
+                res = new Polynome(c);
             }
-            String[] parts = line.trim().split("\\s+");
-            double[] c = new double[parts.length];
-            for (int i = 0; i < parts.length; i++) {
-                c[i] = Double.parseDouble(parts[i]);
+        }
+        Metrics.record(Operation.FILE_READ, res.degree(), fileName, start);
+        return res;
+    }
+
+    /**
+     * Записує масив поліномів суцільними серіями примітивних значень:
+     * кількість поліномів, довжини масивів коефіцієнтів, далі всі коефіцієнти підряд.
+     * Коефіцієнти кожного полінома записуються безпосередньо з його масиву,
+     * без спільного проміжного масиву.
+     *
+     * @param out       потік виведення
+     * @param polynomes масив поліномів
+     * @throws IOException у разі помилки запису
+     */
+    public static void writeArray(DataOutput out, Polynome[] polynomes) throws IOException {
+        out.writeInt(polynomes.length);
+        for (Polynome p : polynomes) {
+            out.writeInt(p.coeffs.length);
+        }
+        for (Polynome p : polynomes) {
+            BulkSerialization.writeDoubles(out, p.coeffs, 0, p.coeffs.length);
+        }
+    }
+
+    /**
+     * Зчитує масив поліномів, записаний {@link #writeArray(DataOutput, Polynome[])}.
+     *
+     * @param in потік введення
+     * @return масив поліномів
+     * @throws IOException у разі помилки читання або некоректних даних
+     */
+    public static Polynome[] readArray(DataInput in) throws IOException {
+        int n = BulkSerialization.readLength(in);
+        int[] lengths = new int[n];
+        for (int i = 0; i < n; i++) {
+            lengths[i] = BulkSerialization.readLength(in);
+            if (lengths[i] == 0) {
+                throw new StreamCorruptedException("Polynome must have at least one coefficient");
             }
-            return new Polynome(c);
         }
+        Polynome[] res = new Polynome[n];
+        for (int i = 0; i < n; i++) {
+            double[] c = new double[lengths[i]];
+            BulkSerialization.readDoubles(in, c, 0, c.length);
+            res[i] = new Polynome(c);
+        }
+        return res;
+    }
+
+    /**
+     * Замінює об’єкт компактною формою {@link PolynomeSerialForm} під час серіалізації.
+     *
+     * @return серіалізаційна форма
+     */
+    private Object writeReplace() {
+        return new PolynomeSerialForm(this);
     }
 
     /**
@@ -302,6 +604,92 @@ public class Polynome implements Numeric, Serializable {
         return valueAt(1.0);
     }
 
+    /**
+     * Порівнює поліноми за коефіцієнтами. Коефіцієнти {@code 0.0} та {@code -0.0}
+     * вважаються рівними, а {@code NaN} дорівнює {@code NaN}.
+     *
+     * @param o об’єкт для порівняння
+     * @return {@code true}, якщо поліноми мають однакові коефіцієнти
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Polynome)) {
+            return false;
+        }
+        Polynome other = (Polynome) o;
+        if (coeffs.length != other.coeffs.length) {
+            return false;
+        }
+        if (hash != 0 && other.hash != 0 && hash != other.hash) {
+            return false;
+        }
+        for (int i = 0; i < coeffs.length; i++) {
+            if (canonicalBits(coeffs[i]) != canonicalBits(other.coeffs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Повертає хеш-код, узгоджений з {@link #equals(Object)}.
+     *
+     * @return хеш-код полінома
+     */
+    @Override
+    public int hashCode() {
+        long h = contentHash();
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Повертає 64-бітний хеш вмісту полінома, придатний для дедуплікації
+     * та як ключ кешу. Однакові за {@link #equals(Object)} поліноми
+     * мають однаковий хеш незалежно від JVM і способу створення.
+     *
+     * @return 64-бітний хеш коефіцієнтів
+     */
+    public long contentHash() {
+        long h = hash;
+        if (h == 0) {
+            h = 0x9E3779B97F4A7C15L * coeffs.length;
+            for (double c : coeffs) {
+                h = mix(h ^ canonicalBits(c)) + 0x9E3779B97F4A7C15L;
+            }
+            if (h == 0) {
+                h = 1;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Повертає бітове подання коефіцієнта, у якому {@code -0.0} збігається з {@code 0.0},
+     * а всі {@code NaN} мають однакове подання.
+     *
+     * @param c коефіцієнт
+     * @return канонічні біти
+     */
+    private static long canonicalBits(double c) {
+        return Double.doubleToLongBits(c == 0.0 ? 0.0 : c);
+    }
+
+    /**
+     * Перемішує біти 64-бітного значення (фіналізатор SplitMix64).
+     *
+     * @param z вхідне значення
+     * @return перемішане значення
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
     /**
      * Повертає текстове подання полінома у звичному вигляді.
      *
@@ -309,38 +697,68 @@ public class Polynome implements Numeric, Serializable {
      */
     @Override
     public String toString() {
+        StringBuilder sb = new StringBuilder(coeffs.length * 8);
+        try {
+            writeTo(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder не кидає IOException
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Записує текстове подання полінома у {@link Appendable} член за членом,
+     * не будуючи проміжного рядка для всього полінома.
+     * Формат збігається з {@link #toString()} і розбирається {@link #parse(CharSequence)}.
+     *
+     * @param out приймач тексту (наприклад, {@link java.io.Writer} або {@link StringBuilder})
+     * @throws IOException у разі помилки запису
+     */
+    public void writeTo(Appendable out) throws IOException {
         if (coeffs.length == 1 && Math.abs(coeffs[0]) < 1e-12) {
-            return "0";
+            out.append('0');
+            return;
         }
-        StringBuilder sb = new StringBuilder();
+        boolean first = true;
         for (int i = coeffs.length - 1; i >= 0; i--) {
             double c = coeffs[i];
             if (Math.abs(c) < 1e-12) {
                 continue;
             }
-            if (sb.length() > 0) {
-                sb.append(c >= 0 ? " + " : " - ");
+            if (!first) {
+                out.append(c >= 0 ? " + " : " - ");
                 c = Math.abs(c);
             } else if (c < 0) {
-                sb.append("-");
+                out.append('-');
                 c = -c;
             }
+            first = false;
             if (i == 0) {
-                sb.append(c);
-            } else if (i == 1) {
-                if (Math.abs(c - 1.0) > 1e-12) {
-                    sb.append(c).append("x");
-                } else {
-                    sb.append("x");
-                }
-            } else {
-                if (Math.abs(c - 1.0) > 1e-12) {
-                    sb.append(c).append("x^").append(i);
-                } else {
-                    sb.append("x^").append(i);
-                }
+                out.append(Double.toString(c));
+                continue;
+            }
+            if (Math.abs(c - 1.0) > 1e-12) {
+                out.append(Double.toString(c));
+            }
+            out.append('x');
+            if (i > 1) {
+                out.append('^').append(Integer.toString(i));
             }
         }
-        return sb.toString();
+    }
+
+    /**
+     * Розбирає поліном з текстового подання у звичному вигляді,
+     * наприклад {@code "-32.0x^8 + 10.0x^7 - 9.0x + 2.0"}.
+     *
+     * <p>Члени можуть іти у довільному порядку та бути пропущеними,
+     * коефіцієнт 1 можна не писати, однакові степені додаються.
+     *
+     * @param s рядок з поліномом
+     * @return новий об’єкт {@link Polynome}
+     * @throws NumberFormatException якщо формат рядка некоректний
+     */
+    public static Polynome parse(CharSequence s) {
+        return new Polynome(PolynomeParser.parse(s));
     }
 }
@@ -0,0 +1,324 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 21:00
+ *
+ * Клас {@code PolynomeBuilder} – змінний накопичувач коефіцієнтів полінома.
+ * На відміну від операцій {@link Polynome}, кожна з яких створює новий масив,
+ * методи будівника змінюють один внутрішній масив на місці, а
+ * {@link #build()} передає його поліному без копіювання, якщо місткість
+ * збігається з довжиною результату.
+ */
+
+package polynominal;
+
+import java.util.Arrays;
+
+/**
+ * Будівник поліномів з операціями на місці.
+ */
+public final class PolynomeBuilder {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Коефіцієнти; елементи з індексами {@code >= size} завжди дорівнюють нулю. */
+    private double[] coeffs;
+
+    /** Кількість використаних коефіцієнтів (не менше 1). */
+    private int size;
+
+    /**
+     * Створює будівник нульового полінома з місткістю за замовчуванням.
+     */
+    public PolynomeBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Створює будівник нульового полінома із заданою місткістю.
+     *
+     * @param capacity початкова кількість коефіцієнтів
+     * @throws IllegalArgumentException якщо {@code capacity < 1}
+     */
+    public PolynomeBuilder(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.coeffs = new double[capacity];
+        this.size = 1;
+    }
+
+    /**
+     * Створює будівник з коефіцієнтами полінома.
+     *
+     * @param p початковий поліном
+     */
+    public PolynomeBuilder(Polynome p) {
+        this.coeffs = p.getCoefficients();
+        this.size = coeffs.length;
+    }
+
+    /**
+     * Повертає поточний степінь (без урахування можливих нульових старших коефіцієнтів).
+     *
+     * @return степінь
+     */
+    public int degree() {
+        return size - 1;
+    }
+
+    /**
+     * Повертає місткість внутрішнього масиву.
+     *
+     * @return кількість коефіцієнтів, що вміщуються без розширення
+     */
+    public int capacity() {
+        return coeffs.length;
+    }
+
+    /**
+     * Повертає коефіцієнт при {@code x^i}.
+     *
+     * @param i степінь
+     * @return коефіцієнт (0 для {@code i > degree()})
+     */
+    public double coefficient(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative power: " + i);
+        }
+        return i < size ? coeffs[i] : 0.0;
+    }
+
+    /**
+     * Розширює внутрішній масив щонайменше до {@code capacity} коефіцієнтів.
+     *
+     * @param capacity потрібна місткість
+     * @return цей будівник
+     */
+    public PolynomeBuilder ensureCapacity(int capacity) {
+        if (capacity > coeffs.length) {
+            int grown = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(capacity, 2L * coeffs.length));
+            coeffs = Arrays.copyOf(coeffs, grown);
+        }
+        return this;
+    }
+
+    /**
+     * Зменшує місткість до поточної кількості коефіцієнтів, щоб наступний
+     * {@link #build()} не копіював масив.
+     *
+     * @return цей будівник
+     */
+    public PolynomeBuilder trimToSize() {
+        int n = trimmedSize();
+        if (n != coeffs.length) {
+            coeffs = Arrays.copyOf(coeffs, n);
+        }
+        size = n;
+        return this;
+    }
+
+    /**
+     * Обнуляє будівник, зберігаючи місткість.
+     *
+     * @return цей будівник
+     */
+    public PolynomeBuilder clear() {
+        Arrays.fill(coeffs, 0, size, 0.0);
+        size = 1;
+        return this;
+    }
+
+    /**
+     * Встановлює коефіцієнт при {@code x^i}.
+     *
+     * @param i степінь
+     * @param c значення коефіцієнта
+     * @return цей будівник
+     */
+    public PolynomeBuilder setCoefficient(int i, double c) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative power: " + i);
+        }
+        grow(i + 1);
+        coeffs[i] = c;
+        return this;
+    }
+
+    /**
+     * Додає одночлен {@code c·x^power}.
+     *
+     * @param c     коефіцієнт
+     * @param power степінь
+     * @return цей будівник
+     */
+    public PolynomeBuilder addTerm(double c, int power) {
+        if (power < 0) {
+            throw new IndexOutOfBoundsException("Negative power: " + power);
+        }
+        grow(power + 1);
+        coeffs[power] += c;
+        return this;
+    }
+
+    /**
+     * Додає поліном.
+     *
+     * @param p доданок
+     * @return цей будівник
+     */
+    public PolynomeBuilder add(Polynome p) {
+        return addMultiple(p, 1.0, 0);
+    }
+
+    /**
+     * Додає поліном, помножений на число: {@code this += c·p}.
+     *
+     * @param p поліном
+     * @param c множник
+     * @return цей будівник
+     */
+    public PolynomeBuilder addScaled(Polynome p, double c) {
+        return addMultiple(p, c, 0);
+    }
+
+    /**
+     * Додає поліном, помножений на одночлен: {@code this += c·x^shift·p}.
+     *
+     * @param p     поліном
+     * @param c     множник
+     * @param shift степінь одночлена
+     * @return цей будівник
+     */
+    public PolynomeBuilder addMultiple(Polynome p, double c, int shift) {
+        if (shift < 0) {
+            throw new IllegalArgumentException("shift must be non-negative");
+        }
+        double[] src = p.rawCoefficients();
+        grow(shift + src.length);
+        for (int i = 0; i < src.length; i++) {
+            coeffs[shift + i] += c * src[i];
+        }
+        return this;
+    }
+
+    /**
+     * Множить на число на місці.
+     *
+     * @param c множник
+     * @return цей будівник
+     */
+    public PolynomeBuilder scale(double c) {
+        for (int i = 0; i < size; i++) {
+            coeffs[i] *= c;
+        }
+        return this;
+    }
+
+    /**
+     * Множить на поліном на місці: {@code this = this·p}. Коефіцієнти
+     * обчислюються від старшого до молодшого, тому окремий масив для
+     * результату не потрібен. Порядок підсумовування той самий, що й у
+     * {@link Polynome#multiply(Polynome)}, тому результат збігається з ним біт у біт.
+     *
+     * @param p множник
+     * @return цей будівник
+     */
+    public PolynomeBuilder multiplyInto(Polynome p) {
+        double[] b = p.rawCoefficients();
+        int n = size;
+        int m = b.length;
+        grow(n + m - 1);
+        double[] a = coeffs;
+        for (int k = n + m - 2; k >= 0; k--) {
+            double s = 0.0;
+            for (int i = Math.max(0, k - m + 1); i <= Math.min(k, n - 1); i++) {
+                s += a[i] * b[k - i];
+            }
+            a[k] = s;
+        }
+        return this;
+    }
+
+    /**
+     * Замінює поліном його похідною на місці.
+     *
+     * @return цей будівник
+     */
+    public PolynomeBuilder differentiateInPlace() {
+        if (size == 1) {
+            coeffs[0] = 0.0;
+            return this;
+        }
+        for (int i = 1; i < size; i++) {
+            coeffs[i - 1] = coeffs[i] * i;
+        }
+        coeffs[--size] = 0.0;
+        return this;
+    }
+
+    /**
+     * Замінює поліном його первісною з константою інтегрування 0 на місці.
+     *
+     * @return цей будівник
+     */
+    public PolynomeBuilder integrateInPlace() {
+        grow(size + 1);
+        for (int i = size - 1; i >= 1; i--) {
+            coeffs[i] = coeffs[i - 1] / i;
+        }
+        coeffs[0] = 0.0;
+        return this;
+    }
+
+    /**
+     * Створює копію поточного стану у вигляді полінома; будівник залишається без змін.
+     *
+     * @return новий поліном
+     */
+    public Polynome toPolynome() {
+        return Polynome.adopt(Arrays.copyOf(coeffs, trimmedSize()));
+    }
+
+    /**
+     * Передає накопичені коефіцієнти новому поліному. Якщо місткість
+     * збігається з довжиною результату (наприклад, після {@link #trimToSize()}
+     * або коли її задано точно у конструкторі), масив передається без копіювання.
+     * Після виклику будівник містить нульовий поліном з новим масивом.
+     *
+     * @return новий поліном
+     */
+    public Polynome build() {
+        int n = trimmedSize();
+        double[] result = n == coeffs.length ? coeffs : Arrays.copyOf(coeffs, n);
+        coeffs = new double[DEFAULT_CAPACITY];
+        size = 1;
+        return Polynome.adopt(result);
+    }
+
+    @Override
+    public String toString() {
+        return toPolynome().toString();
+    }
+
+    /**
+     * Гарантує, що використовуються щонайменше {@code n} коефіцієнтів.
+     */
+    private void grow(int n) {
+        if (n > size) {
+            ensureCapacity(n);
+            size = n;
+        }
+    }
+
+    /**
+     * Кількість коефіцієнтів без нульових старших (за тим самим правилом, що й у {@link Polynome}).
+     */
+    private int trimmedSize() {
+        int last = size - 1;
+        while (last > 0 && Math.abs(coeffs[last]) < 1e-12) {
+            last--;
+        }
+        return last + 1;
+    }
+}
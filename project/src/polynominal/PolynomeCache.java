@@ -0,0 +1,370 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 10:15
+ *
+ * Клас {@code PolynomeCache} – обмежений за розміром потокобезпечний кеш
+ * похідних результатів для поліномів: похідних, первісних, коренів
+ * та довільних «планів обчислення».
+ *
+ * Ключем є сам поліном (за {@code equals}/{@code hashCode}) і тип результату.
+ * Розмір кешу вимірюється у кількості збережених чисел {@code double}
+ * (коефіцієнти результату та полінома-ключа); межа спільна для всього
+ * кешу, і при її перевищенні видаляються найдавніше використані записи (LRU).
+ * Результат, важчий за всю межу, повертається без збереження.
+ */
+
+package polynominal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Потокобезпечний LRU-кеш похідних результатів для {@link Polynome}.
+ *
+ * <p>Кеш поділено на сегменти з окремими блокуваннями, тому потоки,
+ * що працюють з різними поліномами, рідко чекають один на одного.
+ * Сумарна вага обліковується спільним лічильником; для витіснення
+ * обирається сегмент, найдавніше використаний запис якого найстаріший,
+ * тож порядок витіснення близький до глобального LRU.
+ * Обчислення результату виконується поза блокуванням; якщо два потоки
+ * одночасно обчислили той самий результат, у кеші залишиться перший.
+ */
+public class PolynomeCache {
+
+    private static final String DERIVATIVE = "derivative";
+    private static final String INTEGRAL = "integral";
+    private static final String ROOTS = "roots";
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final long maxWeight;
+    private final AtomicLong totalWeight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Створює кеш.
+     *
+     * @param maxWeight найбільша сумарна кількість збережених чисел {@code double}
+     * @throws IllegalArgumentException якщо {@code maxWeight < 1}
+     */
+    public PolynomeCache(long maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("maxWeight must be >= 1");
+        }
+        this.maxWeight = maxWeight;
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Повертає похідну полінома з кешу або обчислює її.
+     *
+     * @param p поліном
+     * @return похідна
+     */
+    public Polynome derivative(Polynome p) {
+        return get(p, DERIVATIVE, Polynome::derivative, r -> r.degree() + 1);
+    }
+
+    /**
+     * Повертає первісну полінома з кешу або обчислює її.
+     *
+     * @param p поліном
+     * @return первісна з константою інтегрування 0
+     */
+    public Polynome integral(Polynome p) {
+        return get(p, INTEGRAL, Polynome::integral, r -> r.degree() + 1);
+    }
+
+    /**
+     * Обчислює визначений інтеграл, використовуючи закешовану первісну.
+     *
+     * @param p поліном
+     * @param a ліва межа інтегрування
+     * @param b права межа інтегрування
+     * @return значення визначеного інтегралу
+     */
+    public double definiteIntegral(Polynome p, double a, double b) {
+        Polynome f = integral(p);
+        return f.valueAt(b) - f.valueAt(a);
+    }
+
+    /**
+     * Повертає дійсні корені рівняння {@code P(x) = 0} з кешу або обчислює їх.
+     *
+     * @param p поліном степеня від 1 до 4
+     * @return новий масив коренів
+     * @throws IllegalArgumentException якщо степінь полінома не від 1 до 4
+     */
+    public double[] roots(Polynome p) {
+        return get(p, ROOTS, Polynome::roots, r -> r.length).clone();
+    }
+
+    /**
+     * Повертає довільний похідний результат (наприклад, план обчислення)
+     * з кешу або обчислює його.
+     *
+     * @param p        поліном
+     * @param artifact ідентифікатор типу результату (порівнюється через {@code equals})
+     * @param compute  функція обчислення результату
+     * @param weight   вага результату у числах {@code double}; результат, що разом
+     *                 з поліномом-ключем важчий за межу кешу, не зберігається
+     * @param <T>      тип результату
+     * @return результат
+     */
+    public <T> T computeIfAbsent(Polynome p, Object artifact,
+                                 Function<? super Polynome, ? extends T> compute, int weight) {
+        return get(p, artifact, compute, v -> weight);
+    }
+
+    /**
+     * Повертає кількість влучень у кеш.
+     *
+     * @return кількість влучень
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Повертає кількість промахів кешу.
+     *
+     * @return кількість промахів
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Повертає кількість витіснених записів.
+     *
+     * @return кількість витіснень
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Повертає поточну кількість записів у кеші.
+     *
+     * @return кількість записів
+     */
+    public int size() {
+        int n = 0;
+        for (Segment s : segments) {
+            synchronized (s) {
+                n += s.map.size();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Повертає поточну сумарну вагу записів у кеші.
+     *
+     * @return вага у числах {@code double}
+     */
+    public long weight() {
+        return totalWeight.get();
+    }
+
+    /**
+     * Очищає кеш. Статистика влучень і промахів зберігається.
+     */
+    public void clear() {
+        for (Segment s : segments) {
+            synchronized (s) {
+                s.map.clear();
+                totalWeight.addAndGet(-s.weight);
+                s.weight = 0;
+            }
+        }
+    }
+
+    /**
+     * Повертає статистику кешу у текстовому вигляді.
+     *
+     * @return рядок зі статистикою
+     */
+    @Override
+    public String toString() {
+        long h = getHits();
+        long m = getMisses();
+        return "PolynomeCache{size=" + size() + ", weight=" + weight() + "/" + maxWeight
+                + ", hits=" + h + ", misses=" + m + ", evictions=" + getEvictions()
+                + String.format(", hitRate=%.3f}", h + m == 0 ? 0.0 : (double) h / (h + m));
+    }
+
+    /**
+     * Шукає результат у кеші або обчислює і зберігає його.
+     *
+     * @param p        поліном
+     * @param artifact тип результату
+     * @param compute  функція обчислення
+     * @param weigher  функція ваги результату
+     * @param <T>      тип результату
+     * @return результат
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T get(Polynome p, Object artifact, Function<? super Polynome, ? extends T> compute,
+                      ToIntFunction<? super T> weigher) {
+        Key key = new Key(p, artifact);
+        Segment segment = segments[key.hash & (SEGMENTS - 1)];
+        synchronized (segment) {
+            Entry e = segment.map.get(key);
+            if (e != null) {
+                e.lastAccess = System.nanoTime();
+                hits.increment();
+                return (T) e.value;
+            }
+        }
+        misses.increment();
+        T value = compute.apply(p);
+        long w = Math.max(1, weigher.applyAsInt(value)) + p.degree() + 1L;
+        if (w > maxWeight) {
+            return value;
+        }
+        synchronized (segment) {
+            Entry e = segment.map.get(key);
+            if (e != null) {
+                return (T) e.value;
+            }
+            segment.map.put(key, new Entry(value, w));
+            segment.weight += w;
+        }
+        if (totalWeight.addAndGet(w) > maxWeight) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Видаляє найдавніше використані записи, доки сумарна вага не стане
+     * допустимою. Жертвою стає найстаріший запис серед голів усіх сегментів;
+     * блокування сегментів беруться по одному, тому між вибором сегмента
+     * і видаленням порядок може трохи змінитися.
+     */
+    private void evict() {
+        while (totalWeight.get() > maxWeight) {
+            Segment victim = null;
+            long oldest = Long.MAX_VALUE;
+            for (Segment s : segments) {
+                synchronized (s) {
+                    Entry head = s.eldest();
+                    if (head != null && (victim == null || head.lastAccess - oldest < 0)) {
+                        victim = s;
+                        oldest = head.lastAccess;
+                    }
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            long removed;
+            synchronized (victim) {
+                removed = victim.removeEldest();
+            }
+            if (removed > 0) {
+                totalWeight.addAndGet(-removed);
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Ключ кешу: поліном і тип результату.
+     */
+    private static final class Key {
+
+        private final Polynome polynome;
+        private final Object artifact;
+        private final int hash;
+
+        Key(Polynome polynome, Object artifact) {
+            this.polynome = polynome;
+            this.artifact = artifact;
+            int h = polynome.hashCode() * 31 + artifact.hashCode();
+            this.hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) o;
+            return hash == k.hash && artifact.equals(k.artifact) && polynome.equals(k.polynome);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Запис кешу: результат, його вага і час останнього доступу.
+     */
+    private static final class Entry {
+
+        private final Object value;
+        private final long weight;
+
+        /** {@link System#nanoTime()} останнього доступу; змінюється під блокуванням сегмента. */
+        private long lastAccess = System.nanoTime();
+
+        Entry(Object value, long weight) {
+            this.value = Objects.requireNonNull(value);
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Сегмент кешу з власним порядком доступу. Методи викликаються
+     * під блокуванням сегмента.
+     */
+    private static final class Segment {
+
+        private final LinkedHashMap<Key, Entry> map = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        /**
+         * Повертає найдавніше використаний запис сегмента.
+         *
+         * @return запис або {@code null}, якщо сегмент порожній
+         */
+        Entry eldest() {
+            Iterator<Entry> it = map.values().iterator();
+            return it.hasNext() ? it.next() : null;
+        }
+
+        /**
+         * Видаляє найдавніше використаний запис сегмента.
+         *
+         * @return вага видаленого запису або 0, якщо сегмент порожній
+         */
+        long removeEldest() {
+            Iterator<Map.Entry<Key, Entry>> it = map.entrySet().iterator();
+            if (!it.hasNext()) {
+                return 0;
+            }
+            long w = it.next().getValue().weight;
+            it.remove();
+            weight -= w;
+            return w;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 17:30
+ *
+ * Клас {@code PolynomeCompiler} генерує для конкретного полінома прихований клас
+ * ({@link MethodHandles.Lookup#defineHiddenClass}) з реалізацією
+ * {@link DoubleUnaryOperator}. Метод {@code applyAsDouble} містить повністю
+ * розгорнуту схему Горнера на {@link Math#fma}, а коефіцієнти записані у пул
+ * констант класу, тому JIT-компілятор бачить їх як константи.
+ * Байти класу формуються вручну, без сторонніх бібліотек.
+ */
+
+package polynominal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Генератор спеціалізованих обчислювачів поліномів.
+ */
+final class PolynomeCompiler {
+
+    /**
+     * Найбільший степінь, для якого генерується клас. Для вищих степенів
+     * метод перевищив би межу розміру, яку JIT-компілятор ще компілює,
+     * тому використовується звичайний цикл.
+     */
+    static final int MAX_DEGREE = 512;
+
+    private static final String CLASS_NAME = "polynominal/CompiledPolynome";
+
+    private static final int CLASS_FILE_VERSION = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int DLOAD_1 = 0x27;
+    private static final int DCONST_0 = 0x0e;
+    private static final int DCONST_1 = 0x0f;
+    private static final int LDC2_W = 0x14;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int DRETURN = 0xaf;
+    private static final int RETURN = 0xb1;
+
+    private PolynomeCompiler() {
+    }
+
+    /**
+     * Створює обчислювач для заданих коефіцієнтів.
+     *
+     * @param coeffs коефіцієнти (від молодшого до старшого)
+     * @return обчислювач {@code x -> P(x)}
+     */
+    static DoubleUnaryOperator compile(double[] coeffs) {
+        if (coeffs.length - 1 > MAX_DEGREE) {
+            double[] c = coeffs.clone();
+            return x -> horner(c, x);
+        }
+        byte[] bytes = generate(coeffs);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            return (DoubleUnaryOperator) lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot define compiled polynome", e);
+        }
+    }
+
+    /**
+     * Схема Горнера на {@link Math#fma} – та сама послідовність операцій,
+     * що й у згенерованому коді.
+     *
+     * @param c коефіцієнти
+     * @param x значення аргумента
+     * @return значення полінома
+     */
+    static double horner(double[] c, double x) {
+        double r = c[c.length - 1];
+        for (int i = c.length - 2; i >= 0; i--) {
+            r = Math.fma(r, x, c[i]);
+        }
+        return r;
+    }
+
+    /**
+     * Формує байти класу, що реалізує {@link DoubleUnaryOperator}.
+     *
+     * @param coeffs коефіцієнти
+     * @return вміст class-файлу
+     */
+    static byte[] generate(double[] coeffs) {
+        ConstantPool cp = new ConstantPool();
+        int thisClass = cp.classRef(CLASS_NAME);
+        int objectClass = cp.classRef("java/lang/Object");
+        int operator = cp.classRef("java/util/function/DoubleUnaryOperator");
+        int objectInit = cp.methodRef(objectClass, "<init>", "()V");
+        int fma = cp.methodRef(cp.classRef("java/lang/Math"), "fma", "(DDD)D");
+        int init = cp.utf8("<init>");
+        int initType = cp.utf8("()V");
+        int apply = cp.utf8("applyAsDouble");
+        int applyType = cp.utf8("(D)D");
+        int code = cp.utf8("Code");
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int top = coeffs.length - 1;
+        pushConstant(body, cp, coeffs[top]);
+        for (int i = top - 1; i >= 0; i--) {
+            body.write(DLOAD_1);
+            pushConstant(body, cp, coeffs[i]);
+            body.write(INVOKESTATIC);
+            body.write(fma >>> 8);
+            body.write(fma);
+        }
+        body.write(DRETURN);
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            cp.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(objectClass);
+            out.writeShort(1);
+            out.writeShort(operator);
+            out.writeShort(0);
+            out.writeShort(2);
+
+            // public CompiledPolynome() { super(); }
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(init);
+            out.writeShort(initType);
+            out.writeShort(1);
+            writeCode(out, code, 1, 1, new byte[]{
+                    (byte) ALOAD_0, (byte) INVOKESPECIAL, (byte) (objectInit >>> 8), (byte) objectInit,
+                    (byte) RETURN});
+
+            // public final double applyAsDouble(double x)
+            out.writeShort(ACC_PUBLIC | ACC_FINAL);
+            out.writeShort(apply);
+            out.writeShort(applyType);
+            out.writeShort(1);
+            writeCode(out, code, 6, 3, body.toByteArray());
+
+            out.writeShort(0);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Записує інструкцію завантаження константи на стек.
+     */
+    private static void pushConstant(ByteArrayOutputStream body, ConstantPool cp, double c) {
+        if (Double.doubleToRawLongBits(c) == 0L) {
+            body.write(DCONST_0);
+        } else if (c == 1.0) {
+            body.write(DCONST_1);
+        } else {
+            int index = cp.doubleConstant(c);
+            body.write(LDC2_W);
+            body.write(index >>> 8);
+            body.write(index);
+        }
+    }
+
+    /**
+     * Записує атрибут {@code Code} без таблиці винятків і вкладених атрибутів.
+     */
+    private static void writeCode(DataOutputStream out, int name, int maxStack, int maxLocals,
+                                  byte[] code) throws IOException {
+        out.writeShort(name);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    /**
+     * Пул констант класу з повторним використанням однакових записів.
+     */
+    private static final class ConstantPool {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int next = 1;
+
+        int utf8(String s) {
+            return entry("U" + s, 1, o -> {
+                o.writeByte(CONSTANT_UTF8);
+                o.writeUTF(s);
+            });
+        }
+
+        int classRef(String name) {
+            int n = utf8(name);
+            return entry("C" + name, 1, o -> {
+                o.writeByte(CONSTANT_CLASS);
+                o.writeShort(n);
+            });
+        }
+
+        int methodRef(int owner, String name, String type) {
+            int n = utf8(name);
+            int t = utf8(type);
+            int nameAndType = entry("N" + name + type, 1, o -> {
+                o.writeByte(CONSTANT_NAME_AND_TYPE);
+                o.writeShort(n);
+                o.writeShort(t);
+            });
+            return entry("M" + owner + "." + nameAndType, 1, o -> {
+                o.writeByte(CONSTANT_METHODREF);
+                o.writeShort(owner);
+                o.writeShort(nameAndType);
+            });
+        }
+
+        int doubleConstant(double c) {
+            long bits = Double.doubleToRawLongBits(c);
+            return entry("D" + bits, 2, o -> {
+                o.writeByte(CONSTANT_DOUBLE);
+                o.writeLong(bits);
+            });
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(next);
+            bytes.writeTo(target);
+        }
+
+        private int entry(String key, int slots, Entry entry) {
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                entry.write(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int result = next;
+            next += slots;
+            entries.put(key, result);
+            return result;
+        }
+    }
+
+    /**
+     * Запис одного елемента пулу констант.
+     */
+    @FunctionalInterface
+    private interface Entry {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,525 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 19:20
+ *
+ * Клас {@code PolynomeExpression} – відкладений (лінивий) вираз над поліномами.
+ * Операції {@code add}, {@code subtract}, {@code multiply}, {@code scale},
+ * {@code derivative} та {@code integral} лише записують вузол у граф виразу,
+ * а обчислення значення у точці виконується одним проходом по графу без
+ * створення проміжних об’єктів {@link Polynome}. Для похідних кожен вузол
+ * обчислює у точці відрізок ряду Тейлора потрібної довжини.
+ * Однакові підвирази зберігаються в одному екземплярі (hash-consing),
+ * тому спільні частини обчислюються один раз.
+ */
+
+package polynominal;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Незмінний відкладений вираз над поліномами.
+ */
+public final class PolynomeExpression {
+
+    private enum Kind { LEAF, ADD, SUBTRACT, MULTIPLY, SCALE, DERIVATIVE, INTEGRAL }
+
+    /** Таблиця вже створених вузлів для повторного використання однакових підвиразів. */
+    private static final Map<PolynomeExpression, WeakReference<PolynomeExpression>> INTERNED = new WeakHashMap<>();
+
+    private final Kind kind;
+    private final PolynomeExpression left;
+    private final PolynomeExpression right;
+    private final Polynome polynome;
+    private final double scalar;
+    private final int degree;
+    private final int hash;
+
+    /** Підготовлена програма обчислення (створюється під час першого виклику). */
+    private volatile Program program;
+
+    /** Первісна підвиразу для вузла {@code INTEGRAL}. */
+    private volatile Polynome antiderivative;
+
+    private PolynomeExpression(Kind kind, PolynomeExpression left, PolynomeExpression right,
+                               Polynome polynome, double scalar, int degree) {
+        this.kind = kind;
+        this.left = left;
+        this.right = right;
+        this.polynome = polynome;
+        this.scalar = scalar;
+        this.degree = degree;
+        int h = kind.ordinal();
+        h = 31 * h + System.identityHashCode(left);
+        h = 31 * h + System.identityHashCode(right);
+        h = 31 * h + System.identityHashCode(polynome);
+        h = 31 * h + Double.hashCode(scalar);
+        this.hash = h;
+    }
+
+    /**
+     * Створює вираз-лист для полінома.
+     *
+     * @param p поліном
+     * @return вираз, що відповідає {@code p}
+     */
+    public static PolynomeExpression of(Polynome p) {
+        return intern(new PolynomeExpression(Kind.LEAF, null, null, p, 0.0, p.degree()));
+    }
+
+    /**
+     * Створює сталий вираз.
+     *
+     * @param c значення сталої
+     * @return вираз, що дорівнює {@code c}
+     */
+    public static PolynomeExpression constant(double c) {
+        return of(new Polynome(new double[]{c}));
+    }
+
+    /**
+     * Записує додавання.
+     *
+     * @param other доданок
+     * @return вираз {@code this + other}
+     */
+    public PolynomeExpression add(PolynomeExpression other) {
+        return intern(new PolynomeExpression(Kind.ADD, this, other, null, 0.0, Math.max(degree, other.degree)));
+    }
+
+    /**
+     * Записує віднімання.
+     *
+     * @param other від’ємник
+     * @return вираз {@code this - other}
+     */
+    public PolynomeExpression subtract(PolynomeExpression other) {
+        return intern(new PolynomeExpression(Kind.SUBTRACT, this, other, null, 0.0, Math.max(degree, other.degree)));
+    }
+
+    /**
+     * Записує множення.
+     *
+     * @param other множник
+     * @return вираз {@code this * other}
+     */
+    public PolynomeExpression multiply(PolynomeExpression other) {
+        return intern(new PolynomeExpression(Kind.MULTIPLY, this, other, null, 0.0, degree + other.degree));
+    }
+
+    /**
+     * Записує множення на число.
+     *
+     * @param c множник
+     * @return вираз {@code c * this}
+     */
+    public PolynomeExpression scale(double c) {
+        if (c == 1.0) {
+            return this;
+        }
+        return intern(new PolynomeExpression(Kind.SCALE, this, null, null, c, degree));
+    }
+
+    /**
+     * Записує похідну.
+     *
+     * @return вираз {@code d/dx this}
+     */
+    public PolynomeExpression derivative() {
+        if (kind == Kind.INTEGRAL) {
+            return left;
+        }
+        return intern(new PolynomeExpression(Kind.DERIVATIVE, this, null, null, 0.0, Math.max(degree - 1, 0)));
+    }
+
+    /**
+     * Записує невизначений інтеграл з константою інтегрування 0.
+     * Під час першого обчислення підвираз під інтегралом матеріалізується
+     * один раз, і далі використовується його первісна.
+     *
+     * @return вираз {@code ∫ this dx}
+     */
+    public PolynomeExpression integral() {
+        return intern(new PolynomeExpression(Kind.INTEGRAL, this, null, null, 0.0, degree + 1));
+    }
+
+    /**
+     * Повертає верхню оцінку степеня виразу (старші коефіцієнти можуть скоротитися).
+     *
+     * @return оцінка степеня
+     */
+    public int degree() {
+        return degree;
+    }
+
+    /**
+     * Обчислює значення виразу у точці без створення проміжних поліномів.
+     *
+     * @param x значення аргумента
+     * @return значення виразу
+     */
+    public double valueAt(double x) {
+        return program().valueAt(x);
+    }
+
+    /**
+     * Обчислює значення виразу у багатьох точках.
+     *
+     * @param xs  значення аргумента
+     * @param out масив для результатів (довжина не менша за {@code xs.length})
+     * @throws IllegalArgumentException якщо {@code out} коротший за {@code xs}
+     */
+    public void valueAt(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("out is shorter than xs");
+        }
+        program().valueAt(xs, out);
+    }
+
+    /**
+     * Обчислює коефіцієнти виразу. Кожен спільний підвираз матеріалізується один раз.
+     *
+     * @return новий об’єкт {@link Polynome}
+     */
+    public Polynome materialize() {
+        if (kind == Kind.LEAF) {
+            return polynome;
+        }
+        if (kind == Kind.INTEGRAL) {
+            return antiderivative();
+        }
+        List<PolynomeExpression> order = postOrder(this);
+        Map<PolynomeExpression, Polynome> done = new IdentityHashMap<>();
+        for (PolynomeExpression e : order) {
+            Polynome p = switch (e.kind) {
+                case LEAF -> e.polynome;
+                case ADD -> done.get(e.left).add(done.get(e.right));
+                case SUBTRACT -> done.get(e.left).subtract(done.get(e.right));
+                case MULTIPLY -> done.get(e.left).multiply(done.get(e.right));
+                case SCALE -> scaled(done.get(e.left), e.scalar);
+                case DERIVATIVE -> done.get(e.left).derivative();
+                case INTEGRAL -> e.antiderivative();
+            };
+            done.put(e, p);
+        }
+        return done.get(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PolynomeExpression e)) {
+            return false;
+        }
+        return kind == e.kind && left == e.left && right == e.right && polynome == e.polynome
+                && Double.doubleToLongBits(scalar) == Double.doubleToLongBits(e.scalar);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case LEAF -> "(" + polynome + ")";
+            case ADD -> "(" + left + " + " + right + ")";
+            case SUBTRACT -> "(" + left + " - " + right + ")";
+            case MULTIPLY -> left + " * " + right;
+            case SCALE -> scalar + " * " + left;
+            case DERIVATIVE -> "d/dx" + left;
+            case INTEGRAL -> "∫" + left;
+        };
+    }
+
+    /**
+     * Повертає вже створений однаковий вузол або реєструє новий.
+     */
+    private static PolynomeExpression intern(PolynomeExpression e) {
+        synchronized (INTERNED) {
+            WeakReference<PolynomeExpression> ref = INTERNED.get(e);
+            PolynomeExpression existing = ref == null ? null : ref.get();
+            if (existing != null) {
+                return existing;
+            }
+            INTERNED.put(e, new WeakReference<>(e));
+            return e;
+        }
+    }
+
+    private static Polynome scaled(Polynome p, double c) {
+        double[] src = p.rawCoefficients();
+        double[] res = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            res[i] = src[i] * c;
+        }
+        return new Polynome(res);
+    }
+
+    private Polynome antiderivative() {
+        Polynome a = antiderivative;
+        if (a == null) {
+            a = left.materialize().integral();
+            antiderivative = a;
+        }
+        return a;
+    }
+
+    private Program program() {
+        Program p = program;
+        if (p == null) {
+            p = new Program(this);
+            program = p;
+        }
+        return p;
+    }
+
+    /**
+     * Обходить граф у порядку «діти перед батьками», кожен вузол – один раз.
+     * Вузли {@code INTEGRAL} вважаються листками: вони використовують
+     * збережену первісну свого підвиразу.
+     *
+     * @param root корінь
+     * @return вузли у топологічному порядку (корінь останній)
+     */
+    private static List<PolynomeExpression> postOrder(PolynomeExpression root) {
+        List<PolynomeExpression> order = new ArrayList<>();
+        Map<PolynomeExpression, Boolean> seen = new IdentityHashMap<>();
+        Deque<PolynomeExpression> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            PolynomeExpression e = stack.peek();
+            if (seen.containsKey(e)) {
+                stack.pop();
+                if (!seen.get(e)) {
+                    seen.put(e, true);
+                    order.add(e);
+                }
+                continue;
+            }
+            seen.put(e, false);
+            if (e.kind != Kind.LEAF && e.kind != Kind.INTEGRAL) {
+                if (e.right != null && !seen.containsKey(e.right)) {
+                    stack.push(e.right);
+                }
+                if (!seen.containsKey(e.left)) {
+                    stack.push(e.left);
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Плоске подання графа для обчислення у точках. Для кожного вузла
+     * визначено порядок відрізка ряду Тейлора, який він має обчислити:
+     * вузол похідної потребує від дочірнього на один член більше.
+     */
+    private static final class Program {
+
+        private final Kind[] kinds;
+        private final int[] left;
+        private final int[] right;
+        private final int[] order;
+        private final Polynome[] leaves;
+        private final double[] scalars;
+        private final int maxOrder;
+
+        Program(PolynomeExpression root) {
+            List<PolynomeExpression> nodes = postOrder(root);
+            int n = nodes.size();
+            Map<PolynomeExpression, Integer> index = new IdentityHashMap<>();
+            for (int i = 0; i < n; i++) {
+                index.put(nodes.get(i), i);
+            }
+            kinds = new Kind[n];
+            left = new int[n];
+            right = new int[n];
+            order = new int[n];
+            leaves = new Polynome[n];
+            scalars = new double[n];
+            for (int i = 0; i < n; i++) {
+                PolynomeExpression e = nodes.get(i);
+                kinds[i] = e.kind;
+                scalars[i] = e.scalar;
+                if (e.kind == Kind.LEAF) {
+                    leaves[i] = e.polynome;
+                } else if (e.kind == Kind.INTEGRAL) {
+                    kinds[i] = Kind.LEAF;
+                    leaves[i] = e.antiderivative();
+                } else {
+                    left[i] = index.get(e.left);
+                    right[i] = e.right == null ? -1 : index.get(e.right);
+                }
+            }
+            int max = 0;
+            for (int i = n - 1; i >= 0; i--) {
+                order[i] = Math.min(order[i], nodes.get(i).degree);
+                max = Math.max(max, order[i]);
+                if (kinds[i] == Kind.LEAF) {
+                    continue;
+                }
+                int need = kinds[i] == Kind.DERIVATIVE ? order[i] + 1 : order[i];
+                order[left[i]] = Math.max(order[left[i]], need);
+                if (right[i] >= 0) {
+                    order[right[i]] = Math.max(order[right[i]], need);
+                }
+            }
+            maxOrder = max;
+        }
+
+        double valueAt(double x) {
+            if (maxOrder == 0) {
+                double[] v = new double[kinds.length];
+                for (int i = 0; i < v.length; i++) {
+                    v[i] = switch (kinds[i]) {
+                        case LEAF -> horner(leaves[i].rawCoefficients(), x);
+                        case ADD -> v[left[i]] + v[right[i]];
+                        case SUBTRACT -> v[left[i]] - v[right[i]];
+                        case MULTIPLY -> v[left[i]] * v[right[i]];
+                        case SCALE -> scalars[i] * v[left[i]];
+                        default -> throw new IllegalStateException("Unexpected node " + kinds[i]);
+                    };
+                }
+                return v[v.length - 1];
+            }
+            double[][] jets = new double[kinds.length][];
+            for (int i = 0; i < jets.length; i++) {
+                int k = order[i];
+                double[] t = new double[k + 1];
+                switch (kinds[i]) {
+                    case LEAF -> taylor(leaves[i].rawCoefficients(), x, t);
+                    case ADD -> {
+                        double[] a = jets[left[i]];
+                        double[] b = jets[right[i]];
+                        for (int j = 0; j <= k; j++) {
+                            t[j] = at(a, j) + at(b, j);
+                        }
+                    }
+                    case SUBTRACT -> {
+                        double[] a = jets[left[i]];
+                        double[] b = jets[right[i]];
+                        for (int j = 0; j <= k; j++) {
+                            t[j] = at(a, j) - at(b, j);
+                        }
+                    }
+                    case MULTIPLY -> {
+                        double[] a = jets[left[i]];
+                        double[] b = jets[right[i]];
+                        for (int j = 0; j <= k; j++) {
+                            double s = 0.0;
+                            for (int l = Math.max(0, j - b.length + 1); l <= Math.min(j, a.length - 1); l++) {
+                                s += a[l] * b[j - l];
+                            }
+                            t[j] = s;
+                        }
+                    }
+                    case SCALE -> {
+                        double[] a = jets[left[i]];
+                        for (int j = 0; j <= k; j++) {
+                            t[j] = scalars[i] * at(a, j);
+                        }
+                    }
+                    case DERIVATIVE -> {
+                        double[] a = jets[left[i]];
+                        for (int j = 0; j <= k; j++) {
+                            t[j] = (j + 1) * at(a, j + 1);
+                        }
+                    }
+                    default -> throw new IllegalStateException("Unexpected node " + kinds[i]);
+                }
+                jets[i] = t;
+            }
+            return jets[jets.length - 1][0];
+        }
+
+        void valueAt(double[] xs, double[] out) {
+            if (maxOrder > 0) {
+                for (int j = 0; j < xs.length; j++) {
+                    out[j] = valueAt(xs[j]);
+                }
+                return;
+            }
+            int m = xs.length;
+            double[][] v = new double[kinds.length][];
+            for (int i = 0; i < v.length; i++) {
+                double[] r = i == v.length - 1 ? out : new double[m];
+                switch (kinds[i]) {
+                    case LEAF -> leaves[i].valueAt(xs, r);
+                    case ADD -> {
+                        double[] a = v[left[i]];
+                        double[] b = v[right[i]];
+                        for (int j = 0; j < m; j++) {
+                            r[j] = a[j] + b[j];
+                        }
+                    }
+                    case SUBTRACT -> {
+                        double[] a = v[left[i]];
+                        double[] b = v[right[i]];
+                        for (int j = 0; j < m; j++) {
+                            r[j] = a[j] - b[j];
+                        }
+                    }
+                    case MULTIPLY -> {
+                        double[] a = v[left[i]];
+                        double[] b = v[right[i]];
+                        for (int j = 0; j < m; j++) {
+                            r[j] = a[j] * b[j];
+                        }
+                    }
+                    case SCALE -> {
+                        double[] a = v[left[i]];
+                        double c = scalars[i];
+                        for (int j = 0; j < m; j++) {
+                            r[j] = c * a[j];
+                        }
+                    }
+                    default -> throw new IllegalStateException("Unexpected node " + kinds[i]);
+                }
+                v[i] = r;
+            }
+        }
+
+        private static double at(double[] t, int j) {
+            return j < t.length ? t[j] : 0.0;
+        }
+
+        private static double horner(double[] c, double x) {
+            double r = c[c.length - 1];
+            for (int i = c.length - 2; i >= 0; i--) {
+                r = r * x + c[i];
+            }
+            return r;
+        }
+
+        /**
+         * Обчислює перші {@code t.length} коефіцієнтів ряду Тейлора полінома
+         * у точці {@code x} (тобто {@code P⁽ʲ⁾(x) / j!}) повторним діленням на {@code (t - x)}.
+         */
+        private static void taylor(double[] c, double x, double[] t) {
+            int n = c.length - 1;
+            if (t.length == 1) {
+                t[0] = horner(c, x);
+                return;
+            }
+            double[] b = c.clone();
+            int k = Math.min(t.length - 1, n);
+            for (int j = 0; j <= k; j++) {
+                for (int i = n - 1; i >= j; i--) {
+                    b[i] += x * b[i + 1];
+                }
+                t[j] = b[j];
+            }
+        }
+    }
+}
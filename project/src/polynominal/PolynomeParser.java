@@ -0,0 +1,263 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 12:10
+ *
+ * Клас {@code PolynomeParser} виконує розбір полінома з текстового подання,
+ * яке формує {@link Polynome#toString()}, за один прохід по рядку.
+ *
+ * Підтримується:
+ * <ul>
+ *   <li>довільний порядок і пропуски членів;</li>
+ *   <li>неявний коефіцієнт 1 ({@code x^3}, {@code -x});</li>
+ *   <li>експоненціальний запис коефіцієнтів ({@code 1.5E-7x^2});</li>
+ *   <li>необов’язковий знак множення ({@code 3*x^2}) та довільні пробіли.</li>
+ * </ul>
+ */
+
+package polynominal;
+
+import java.util.Arrays;
+
+/**
+ * Однопрохідний розбирач текстового подання полінома.
+ *
+ * <p>Числа з не більше ніж 15 значущими цифрами та невеликим десятковим
+ * порядком перетворюються без створення проміжних рядків (точне множення
+ * або ділення на степінь 10). Решта чисел передається
+ * {@link Double#parseDouble(String)}, що гарантує коректне округлення.
+ */
+final class PolynomeParser {
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final CharSequence s;
+    private final int end;
+    private int pos;
+
+    private double[] coeffs = new double[8];
+
+    private PolynomeParser(CharSequence s) {
+        this.s = s;
+        this.end = s.length();
+    }
+
+    /**
+     * Розбирає рядок і повертає масив коефіцієнтів від {@code x^0} до {@code x^n}.
+     *
+     * @param s рядок з поліномом
+     * @return масив коефіцієнтів (може містити нулі у старших степенях)
+     * @throws NumberFormatException якщо формат рядка некоректний
+     */
+    static double[] parse(CharSequence s) {
+        PolynomeParser p = new PolynomeParser(s);
+        int maxExp = p.parseAll();
+        return p.coeffs.length == maxExp + 1 ? p.coeffs : Arrays.copyOf(p.coeffs, maxExp + 1);
+    }
+
+    /**
+     * Розбирає всі члени рядка.
+     *
+     * @return найбільший степінь, що зустрівся
+     */
+    private int parseAll() {
+        skipSpaces();
+        if (pos == end) {
+            throw error("Empty polynome");
+        }
+        int maxExp = 0;
+        boolean first = true;
+        while (pos < end) {
+            boolean negative = false;
+            char ch = s.charAt(pos);
+            if (ch == '+' || ch == '-') {
+                negative = ch == '-';
+                pos++;
+                skipSpaces();
+            } else if (!first) {
+                throw error("Expected '+' or '-'");
+            }
+            first = false;
+
+            double c = 1.0;
+            boolean hasCoeff = false;
+            if (pos < end && s.charAt(pos) != 'x' && s.charAt(pos) != 'X') {
+                c = parseNumber();
+                hasCoeff = true;
+                skipSpaces();
+                if (pos < end && s.charAt(pos) == '*') {
+                    pos++;
+                    skipSpaces();
+                    if (pos == end || (s.charAt(pos) != 'x' && s.charAt(pos) != 'X')) {
+                        throw error("Expected 'x' after '*'");
+                    }
+                }
+            }
+
+            int exp = 0;
+            if (pos < end && (s.charAt(pos) == 'x' || s.charAt(pos) == 'X')) {
+                pos++;
+                exp = 1;
+                skipSpaces();
+                if (pos < end && s.charAt(pos) == '^') {
+                    pos++;
+                    skipSpaces();
+                    exp = parseExponent();
+                }
+            } else if (!hasCoeff) {
+                throw error("Expected coefficient or 'x'");
+            }
+
+            if (exp >= coeffs.length) {
+                coeffs = Arrays.copyOf(coeffs, Math.max(exp + 1, coeffs.length * 2));
+            }
+            coeffs[exp] += negative ? -c : c;
+            maxExp = Math.max(maxExp, exp);
+            skipSpaces();
+        }
+        return maxExp;
+    }
+
+    /**
+     * Розбирає невід’ємне дійсне число у поточній позиції.
+     *
+     * @return значення числа
+     */
+    private double parseNumber() {
+        int start = pos;
+        if (matches("Infinity")) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (matches("NaN")) {
+            return Double.NaN;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean any = false;
+        boolean dot = false;
+        for (; pos < end; pos++) {
+            char ch = s.charAt(pos);
+            if (ch >= '0' && ch <= '9') {
+                any = true;
+                if (mantissa == 0 && ch == '0') {
+                    if (dot) {
+                        scale--;
+                    }
+                    continue;
+                }
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (ch - '0');
+                    if (dot) {
+                        scale--;
+                    }
+                } else if (!dot) {
+                    scale++;
+                }
+                digits++;
+            } else if (ch == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (!any) {
+            throw error("Expected number");
+        }
+
+        int exp10 = 0;
+        if (pos < end && (s.charAt(pos) == 'e' || s.charAt(pos) == 'E')) {
+            pos++;
+            boolean negExp = false;
+            if (pos < end && (s.charAt(pos) == '+' || s.charAt(pos) == '-')) {
+                negExp = s.charAt(pos) == '-';
+                pos++;
+            }
+            int expStart = pos;
+            while (pos < end && s.charAt(pos) >= '0' && s.charAt(pos) <= '9') {
+                if (exp10 < 100000) {
+                    exp10 = exp10 * 10 + (s.charAt(pos) - '0');
+                }
+                pos++;
+            }
+            if (pos == expStart) {
+                throw error("Expected exponent digits");
+            }
+            if (negExp) {
+                exp10 = -exp10;
+            }
+        }
+
+        if (mantissa == 0) {
+            return 0.0;
+        }
+        int e = scale + exp10;
+        if (digits <= 15 && e >= -22 && e <= 22) {
+            return e >= 0 ? mantissa * POW10[e] : mantissa / POW10[-e];
+        }
+        return Double.parseDouble(s.subSequence(start, pos).toString());
+    }
+
+    /**
+     * Розбирає цілий невід’ємний показник степеня після {@code ^}.
+     *
+     * @return показник степеня
+     */
+    private int parseExponent() {
+        int start = pos;
+        int exp = 0;
+        while (pos < end && s.charAt(pos) >= '0' && s.charAt(pos) <= '9') {
+            exp = exp * 10 + (s.charAt(pos) - '0');
+            if (exp > Integer.MAX_VALUE / 16) {
+                throw error("Exponent is too large");
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw error("Expected exponent after '^'");
+        }
+        return exp;
+    }
+
+    /**
+     * Перевіряє, чи починається з поточної позиції заданий рядок, і пропускає його.
+     *
+     * @param word очікуваний рядок
+     * @return {@code true}, якщо рядок знайдено
+     */
+    private boolean matches(String word) {
+        if (end - pos < word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (s.charAt(pos + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        pos += word.length();
+        return true;
+    }
+
+    /**
+     * Пропускає пробільні символи.
+     */
+    private void skipSpaces() {
+        while (pos < end && Character.isWhitespace(s.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    /**
+     * Створює виняток з описом помилки та позицією у рядку.
+     *
+     * @param message опис помилки
+     * @return виняток для кидання
+     */
+    private NumberFormatException error(String message) {
+        return new NumberFormatException(message + " at position " + pos + " in \"" + s + "\"");
+    }
+}
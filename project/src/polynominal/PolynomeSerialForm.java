@@ -0,0 +1,84 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 14:10
+ *
+ * Клас {@code PolynomeSerialForm} – компактна серіалізаційна форма для
+ * {@code Polynome}: кількість коефіцієнтів і суцільна серія {@code double}.
+ * Дані, записані раніше стандартною серіалізацією ({@code serialVersionUID = 1}),
+ * і далі читаються без змін.
+ */
+
+package polynominal;
+
+import numbers.BulkSerialization;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * Серіалізаційна форма полінома.
+ */
+final class PolynomeSerialForm implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Polynome polynome;
+
+    /**
+     * Конструктор для механізму серіалізації.
+     */
+    public PolynomeSerialForm() {
+    }
+
+    /**
+     * Створює форму для запису полінома.
+     *
+     * @param polynome поліном, що записується
+     */
+    PolynomeSerialForm(Polynome polynome) {
+        this.polynome = polynome;
+    }
+
+    /**
+     * Записує кількість коефіцієнтів і самі коефіцієнти.
+     *
+     * @param out потік виведення
+     * @throws IOException у разі помилки запису
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        double[] c = polynome.rawCoefficients();
+        out.writeInt(c.length);
+        BulkSerialization.writeDoubles(out, c, 0, c.length);
+    }
+
+    /**
+     * Зчитує коефіцієнти полінома.
+     *
+     * @param in потік введення
+     * @throws IOException у разі помилки читання або некоректних даних
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        int n = BulkSerialization.readLength(in);
+        if (n == 0) {
+            throw new StreamCorruptedException("Polynome must have at least one coefficient");
+        }
+        double[] c = new double[n];
+        BulkSerialization.readDoubles(in, c, 0, n);
+        polynome = new Polynome(c);
+    }
+
+    /**
+     * Повертає відновлений поліном замість форми.
+     *
+     * @return відновлений поліном
+     */
+    private Object readResolve() {
+        return polynome;
+    }
+}
@@ -0,0 +1,317 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 10:05
+ *
+ * Клас {@code PolynomeStore} реалізує індексоване сховище поліномів
+ * на основі файлів, відображених у пам’ять. Сховище складається з двох файлів:
+ * <ul>
+ *   <li>{@code <name>.dat} – коефіцієнти всіх поліномів підряд
+ *       (little-endian {@code double});</li>
+ *   <li>{@code <name>.idx} – заголовок і записи фіксованої довжини
+ *       (зсув у файлі даних та кількість коефіцієнтів) для кожного id.</li>
+ * </ul>
+ *
+ * Пошук полінома за id виконується за O(1): адреса запису в індексі
+ * обчислюється безпосередньо з id. Запис лише дописується в кінець,
+ * а читання з багатьох потоків відбувається без блокувань.
+ */
+
+package polynominal;
+
+import metrics.Metrics;
+import metrics.Operation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Сховище поліномів з доступом за id, відображене у пам’ять.
+ *
+ * <p>Файли відображаються блоками фіксованого розміру. Поліном ніколи
+ * не перетинає межу блоку, тому його коефіцієнти можна читати
+ * з одного {@link MappedByteBuffer} без копіювання.
+ *
+ * <p>Методи {@link #get(long)}, {@link #view(long)} та {@link #size()}
+ * не використовують блокувань і можуть викликатися з будь-якої кількості
+ * потоків одночасно з {@link #append(Polynome)}.
+ */
+public class PolynomeStore implements Closeable {
+
+    private static final int MAGIC = 0x504F4C59; // "POLY"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 16;
+
+    private static final int DATA_CHUNK_SHIFT = 24;  // 16 MiB
+    private static final int INDEX_CHUNK_SHIFT = 20; // 1 MiB = 65536 записів
+    private static final long DATA_CHUNK_SIZE = 1L << DATA_CHUNK_SHIFT;
+    private static final long INDEX_CHUNK_SIZE = 1L << INDEX_CHUNK_SHIFT;
+
+    private final RandomAccessFile dataFile;
+    private final RandomAccessFile indexFile;
+
+    private volatile MappedByteBuffer[] dataChunks;
+    private volatile MappedByteBuffer[] indexChunks;
+
+    /**
+     * Кількість опублікованих поліномів. Запис цього поля є точкою публікації:
+     * усе, що записав {@link #append(Polynome)} до нього, видно читачам.
+     */
+    private volatile long count;
+
+    /** Зсув у файлі даних, з якого буде записано наступний поліном. */
+    private long dataEnd;
+
+    private boolean closed;
+
+    private PolynomeStore(RandomAccessFile dataFile, RandomAccessFile indexFile) {
+        this.dataFile = dataFile;
+        this.indexFile = indexFile;
+        this.dataChunks = new MappedByteBuffer[0];
+        this.indexChunks = new MappedByteBuffer[0];
+    }
+
+    /**
+     * Відкриває сховище або створює нове, якщо файлів ще немає.
+     *
+     * @param baseName шлях до файлів без розширення
+     * @return відкрите сховище
+     * @throws IOException у разі помилки роботи з файлами або
+     *                     якщо індексний файл пошкоджений
+     */
+    public static PolynomeStore open(String baseName) throws IOException {
+        RandomAccessFile data = new RandomAccessFile(baseName + ".dat", "rw");
+        RandomAccessFile index;
+        try {
+            index = new RandomAccessFile(baseName + ".idx", "rw");
+        } catch (IOException e) {
+            data.close();
+            throw e;
+        }
+        PolynomeStore store = new PolynomeStore(data, index);
+        try {
+            store.init();
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            index.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Зчитує заголовок індексу (або створює його) та відновлює стан сховища.
+     *
+     * @throws IOException у разі помилки читання або некоректного заголовка
+     */
+    private void init() throws IOException {
+        MappedByteBuffer first = ensureIndexChunk(0);
+        if (first.getInt(0) == 0) {
+            first.putInt(0, MAGIC);
+            first.putInt(4, VERSION);
+            first.putLong(8, 0L);
+        } else if (first.getInt(0) != MAGIC || first.getInt(4) != VERSION) {
+            throw new IOException("Unsupported PolynomeStore index format");
+        }
+        long n = first.getLong(8);
+        long end = 0;
+        if (n > 0) {
+            long pos = recordPosition(n - 1);
+            MappedByteBuffer chunk = ensureIndexChunk((int) (pos >>> INDEX_CHUNK_SHIFT));
+            int at = (int) (pos & (INDEX_CHUNK_SIZE - 1));
+            end = chunk.getLong(at) + chunk.getLong(at + 8) * Double.BYTES;
+            ensureDataChunk((int) ((end - 1) >>> DATA_CHUNK_SHIFT));
+        }
+        this.dataEnd = end;
+        this.count = n;
+    }
+
+    /**
+     * Повертає кількість поліномів у сховищі.
+     *
+     * @return кількість збережених поліномів
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Дописує поліном у кінець сховища.
+     *
+     * @param p поліном для запису
+     * @return id, за яким поліном можна отримати
+     * @throws IOException              у разі помилки запису
+     * @throws IllegalArgumentException якщо поліном не вміщується в один блок даних
+     * @throws IllegalStateException    якщо сховище закрите
+     */
+    public synchronized long append(Polynome p) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("PolynomeStore is closed");
+        }
+        long start = Metrics.start();
+        double[] c = p.rawCoefficients();
+        long bytes = (long) c.length * Double.BYTES;
+        if (bytes > DATA_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Polynome is too large for PolynomeStore");
+        }
+
+        long offset = dataEnd;
+        if ((offset >>> DATA_CHUNK_SHIFT) != ((offset + bytes - 1) >>> DATA_CHUNK_SHIFT)) {
+            offset = ((offset >>> DATA_CHUNK_SHIFT) + 1) << DATA_CHUNK_SHIFT;
+        }
+        MappedByteBuffer data = ensureDataChunk((int) (offset >>> DATA_CHUNK_SHIFT));
+        int at = (int) (offset & (DATA_CHUNK_SIZE - 1));
+        data.slice(at, (int) bytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().put(c);
+
+        long id = count;
+        long pos = recordPosition(id);
+        MappedByteBuffer index = ensureIndexChunk((int) (pos >>> INDEX_CHUNK_SHIFT));
+        int rec = (int) (pos & (INDEX_CHUNK_SIZE - 1));
+        index.putLong(rec, offset);
+        index.putLong(rec + 8, c.length);
+
+        dataEnd = offset + bytes;
+        indexChunks[0].putLong(8, id + 1);
+        count = id + 1;
+        Metrics.record(Operation.FILE_WRITE, p.degree(), "PolynomeStore", start);
+        return id;
+    }
+
+    /**
+     * Повертає поліном за його id. Коефіцієнти копіюються у новий об’єкт.
+     *
+     * @param id ідентифікатор, отриманий з {@link #append(Polynome)}
+     * @return новий об’єкт {@link Polynome}
+     * @throws IndexOutOfBoundsException якщо полінома з таким id немає
+     */
+    public Polynome get(long id) {
+        return view(id).toPolynome();
+    }
+
+    /**
+     * Повертає представлення полінома без копіювання коефіцієнтів.
+     *
+     * @param id ідентифікатор, отриманий з {@link #append(Polynome)}
+     * @return представлення тільки для читання
+     * @throws IndexOutOfBoundsException якщо полінома з таким id немає
+     */
+    public PolynomeView view(long id) {
+        if (id < 0 || id >= count) {
+            throw new IndexOutOfBoundsException("No polynome with id " + id);
+        }
+        long pos = recordPosition(id);
+        MappedByteBuffer index = indexChunks[(int) (pos >>> INDEX_CHUNK_SHIFT)];
+        int rec = (int) (pos & (INDEX_CHUNK_SIZE - 1));
+        long offset = index.getLong(rec);
+        int length = (int) index.getLong(rec + 8);
+
+        MappedByteBuffer data = dataChunks[(int) (offset >>> DATA_CHUNK_SHIFT)];
+        int at = (int) (offset & (DATA_CHUNK_SIZE - 1));
+        return new PolynomeView(data.slice(at, length * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer());
+    }
+
+    /**
+     * Примусово записує змінені сторінки на диск.
+     */
+    public synchronized void force() {
+        for (MappedByteBuffer b : dataChunks) {
+            b.force();
+        }
+        for (MappedByteBuffer b : indexChunks) {
+            b.force();
+        }
+    }
+
+    /**
+     * Закриває файли сховища. Уже видані {@link PolynomeView} лишаються
+     * придатними, доки відображення не буде звільнене збирачем сміття.
+     *
+     * @throws IOException у разі помилки закриття файлів
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        force();
+        try {
+            dataFile.close();
+        } finally {
+            indexFile.close();
+        }
+    }
+
+    /**
+     * Обчислює зсув запису індексу для заданого id.
+     *
+     * @param id ідентифікатор полінома
+     * @return зсув у індексному файлі
+     */
+    private static long recordPosition(long id) {
+        return HEADER_SIZE + id * RECORD_SIZE;
+    }
+
+    /**
+     * Повертає блок файлу даних, за потреби відображаючи нові блоки.
+     *
+     * @param chunk номер блоку
+     * @return відображений блок
+     * @throws IOException у разі помилки відображення
+     */
+    private MappedByteBuffer ensureDataChunk(int chunk) throws IOException {
+        MappedByteBuffer[] chunks = dataChunks;
+        if (chunk < chunks.length) {
+            return chunks[chunk];
+        }
+        chunks = grow(dataFile.getChannel(), chunks, chunk, DATA_CHUNK_SIZE);
+        dataChunks = chunks;
+        return chunks[chunk];
+    }
+
+    /**
+     * Повертає блок індексного файлу, за потреби відображаючи нові блоки.
+     *
+     * @param chunk номер блоку
+     * @return відображений блок
+     * @throws IOException у разі помилки відображення
+     */
+    private MappedByteBuffer ensureIndexChunk(int chunk) throws IOException {
+        MappedByteBuffer[] chunks = indexChunks;
+        if (chunk < chunks.length) {
+            return chunks[chunk];
+        }
+        chunks = grow(indexFile.getChannel(), chunks, chunk, INDEX_CHUNK_SIZE);
+        indexChunks = chunks;
+        return chunks[chunk];
+    }
+
+    /**
+     * Створює новий масив блоків, доповнений відображеннями до {@code chunk} включно.
+     * Старий масив не змінюється, тому читачі, що його вже отримали, не бачать
+     * частково заповненого стану.
+     *
+     * @param channel   канал файлу
+     * @param chunks    поточні відображені блоки
+     * @param chunk     номер блоку, який має бути доступним
+     * @param chunkSize розмір блоку в байтах
+     * @return новий масив блоків
+     * @throws IOException у разі помилки відображення
+     */
+    private static MappedByteBuffer[] grow(FileChannel channel, MappedByteBuffer[] chunks,
+                                           int chunk, long chunkSize) throws IOException {
+        MappedByteBuffer[] res = Arrays.copyOf(chunks, chunk + 1);
+        for (int i = chunks.length; i <= chunk; i++) {
+            res[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * chunkSize, chunkSize);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 10:40
+ *
+ * Клас {@code PolynomeView} – представлення полінома тільки для читання,
+ * яке посилається на коефіцієнти у відображеному у пам’ять файлі
+ * {@link PolynomeStore} без їх копіювання.
+ */
+
+package polynominal;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Представлення полінома без копіювання коефіцієнтів.
+ *
+ * <p>Об’єкт незмінний і може використовуватися з кількох потоків.
+ */
+public class PolynomeView {
+
+    private final DoubleBuffer coeffs;
+
+    /**
+     * Створює представлення над буфером коефіцієнтів.
+     *
+     * @param coeffs буфер коефіцієнтів від {@code x^0} до {@code x^n}
+     */
+    PolynomeView(DoubleBuffer coeffs) {
+        this.coeffs = coeffs;
+    }
+
+    /**
+     * Повертає степінь полінома.
+     *
+     * @return степінь полінома
+     */
+    public int degree() {
+        return coeffs.limit() - 1;
+    }
+
+    /**
+     * Повертає коефіцієнт при {@code x^i}.
+     *
+     * @param i степінь члена
+     * @return коефіцієнт
+     * @throws IndexOutOfBoundsException якщо {@code i} поза межами {@code [0, degree()]}
+     */
+    public double coefficient(int i) {
+        return coeffs.get(i);
+    }
+
+    /**
+     * Обчислює значення полінома у точці {@code x} за схемою Горнера.
+     *
+     * @param x значення аргумента
+     * @return значення {@code P(x)}
+     */
+    public double valueAt(double x) {
+        double res = 0.0;
+        for (int i = coeffs.limit() - 1; i >= 0; i--) {
+            res = res * x + coeffs.get(i);
+        }
+        return res;
+    }
+
+    /**
+     * Копіює коефіцієнти у звичайний об’єкт {@link Polynome}.
+     *
+     * @return новий об’єкт {@link Polynome}
+     */
+    public Polynome toPolynome() {
+        double[] c = new double[coeffs.limit()];
+        coeffs.get(0, c);
+        return new Polynome(c);
+    }
+
+    /**
+     * Повертає текстове подання полінома у звичному вигляді.
+     *
+     * @return рядкове представлення полінома
+     */
+    @Override
+    public String toString() {
+        return toPolynome().toString();
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 14:40
+ *
+ * Клас {@code ProductTree} містить збалансовані дерева добутку та суми
+ * для наборів поліномів. Набір ділиться навпіл до невеликих блоків, блоки
+ * обробляються послідовно, а вузли дерева – паралельно у {@link ForkJoinPool}.
+ * Великі добутки на верхніх рівнях виконуються алгоритмом Карацуби
+ * ({@link Karatsuba}), тому побудова полінома з {@code n} коренів займає
+ * субквадратичний час. Форма дерева залежить лише від кількості елементів,
+ * тож результат не залежить від кількості потоків.
+ */
+
+package polynominal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Паралельні збалансовані дерева добутку та суми.
+ */
+final class ProductTree {
+
+    /** Кількість множників, які перемножуються послідовно в одному листку. */
+    private static final int PRODUCT_LEAF = 32;
+
+    /** Кількість доданків, які додаються послідовно в одному листку. */
+    private static final int SUM_LEAF = 64;
+
+    private ProductTree() {
+    }
+
+    /**
+     * Обчислює добуток {@code (x - r_0)(x - r_1)...(x - r_{n-1})}.
+     *
+     * @param roots корені
+     * @param pool  пул потоків
+     * @return коефіцієнти добутку (довжина {@code n + 1})
+     */
+    static double[] fromRoots(double[] roots, ForkJoinPool pool) {
+        if (roots.length == 0) {
+            return new double[]{1.0};
+        }
+        return pool.invoke(new RootsTask(roots, 0, roots.length));
+    }
+
+    /**
+     * Обчислює добуток масивів коефіцієнтів.
+     *
+     * @param factors множники
+     * @param pool    пул потоків
+     * @return коефіцієнти добутку
+     */
+    static double[] product(double[][] factors, ForkJoinPool pool) {
+        if (factors.length == 0) {
+            return new double[]{1.0};
+        }
+        return pool.invoke(new ProductTask(factors, 0, factors.length));
+    }
+
+    /**
+     * Обчислює суму масивів коефіцієнтів.
+     *
+     * @param terms доданки
+     * @param pool  пул потоків
+     * @return коефіцієнти суми
+     */
+    static double[] sum(double[][] terms, ForkJoinPool pool) {
+        if (terms.length == 0) {
+            return new double[]{0.0};
+        }
+        return pool.invoke(new SumTask(terms, 0, terms.length));
+    }
+
+    /**
+     * Множить масив коефіцієнтів на {@code (x - r)} на місці; масив має мати
+     * вільний елемент у кінці.
+     *
+     * @param p      коефіцієнти
+     * @param degree поточний степінь
+     * @param r      корінь
+     */
+    private static void multiplyLinear(double[] p, int degree, double r) {
+        p[degree + 1] = p[degree];
+        for (int i = degree; i > 0; i--) {
+            p[i] = p[i - 1] - r * p[i];
+        }
+        p[0] = -r * p[0];
+    }
+
+    /**
+     * Задача добутку лінійних множників для коренів {@code roots[from..to)}.
+     */
+    private static final class RootsTask extends RecursiveTask<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] roots;
+        private final int from;
+        private final int to;
+
+        RootsTask(double[] roots, int from, int to) {
+            this.roots = roots;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= PRODUCT_LEAF) {
+                double[] p = new double[to - from + 1];
+                p[0] = 1.0;
+                for (int i = from; i < to; i++) {
+                    multiplyLinear(p, i - from, roots[i]);
+                }
+                return p;
+            }
+            int mid = from + (to - from) / 2;
+            RootsTask right = new RootsTask(roots, mid, to);
+            right.fork();
+            double[] left = new RootsTask(roots, from, mid).compute();
+            return Karatsuba.multiply(left, right.join(), getPool());
+        }
+    }
+
+    /**
+     * Задача добутку поліномів {@code factors[from..to)}.
+     */
+    private static final class ProductTask extends RecursiveTask<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] factors;
+        private final int from;
+        private final int to;
+
+        ProductTask(double[][] factors, int from, int to) {
+            this.factors = factors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from == 1) {
+                return factors[from];
+            }
+            int mid = from + (to - from) / 2;
+            ProductTask right = new ProductTask(factors, mid, to);
+            right.fork();
+            double[] left = new ProductTask(factors, from, mid).compute();
+            return Karatsuba.multiply(left, right.join(), getPool());
+        }
+    }
+
+    /**
+     * Задача суми поліномів {@code terms[from..to)}.
+     */
+    private static final class SumTask extends RecursiveTask<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] terms;
+        private final int from;
+        private final int to;
+
+        SumTask(double[][] terms, int from, int to) {
+            this.terms = terms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= SUM_LEAF) {
+                int n = 0;
+                for (int i = from; i < to; i++) {
+                    n = Math.max(n, terms[i].length);
+                }
+                double[] res = new double[n];
+                for (int i = from; i < to; i++) {
+                    double[] t = terms[i];
+                    for (int k = 0; k < t.length; k++) {
+                        res[k] += t[k];
+                    }
+                }
+                return res;
+            }
+            int mid = from + (to - from) / 2;
+            SumTask right = new SumTask(terms, mid, to);
+            right.fork();
+            double[] left = new SumTask(terms, from, mid).compute();
+            double[] r = right.join();
+            // додавання комутативне біт у біт, тому доповнюється довший масив
+            double[] res = left.length >= r.length ? left : r;
+            double[] other = res == left ? r : left;
+            for (int k = 0; k < other.length; k++) {
+                res[k] += other[k];
+            }
+            return res;
+        }
+    }
+}
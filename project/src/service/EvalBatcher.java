@@ -0,0 +1,185 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 19:05
+ *
+ * Клас {@code EvalBatcher} об’єднує одночасні запити на обчислення значення
+ * одного й того самого полінома в одну пакетну операцію
+ * {@code Polynome.valueAt(double[], double[])}.
+ */
+
+package service;
+
+import polynominal.Polynome;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Об’єднувач запитів на обчислення значень полінома.
+ *
+ * <p>Перший запит для полінома відкриває пакет і стає його «лідером»:
+ * він чекає не довше за вікно збору (або доки пакет не заповниться),
+ * закриває пакет, обчислює всі точки за один прохід і завершує
+ * майбутні результати інших запитів. Решта запитів лише додають свою
+ * точку до відкритого пакета. Очікування лідера дешеве, бо кожен запит
+ * обробляється у власному віртуальному потоці.
+ */
+public class EvalBatcher {
+
+    private final long windowNanos;
+    private final int maxBatch;
+    private final ConcurrentHashMap<Polynome, Batch> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder points = new LongAdder();
+
+    /**
+     * Створює об’єднувач.
+     *
+     * @param windowMicros тривалість вікна збору в мікросекундах
+     * @param maxBatch     найбільша кількість точок у пакеті
+     * @throws IllegalArgumentException якщо параметри недодатні
+     */
+    public EvalBatcher(long windowMicros, int maxBatch) {
+        if (windowMicros < 0 || maxBatch < 1) {
+            throw new IllegalArgumentException("Invalid batching parameters");
+        }
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatch = maxBatch;
+    }
+
+    /**
+     * Обчислює значення полінома у точці, об’єднуючи запит з іншими
+     * одночасними запитами для того самого полінома.
+     *
+     * @param p поліном
+     * @param x значення аргумента
+     * @return значення {@code P(x)}
+     */
+    public double evaluate(Polynome p, double x) {
+        CompletableFuture<Double> result = new CompletableFuture<>();
+        while (true) {
+            Batch batch = pending.computeIfAbsent(p, k -> new Batch(p, maxBatch));
+            int slot = batch.add(x, result);
+            if (slot < 0) {
+                pending.remove(p, batch); // пакет уже закритий – відкриваємо новий
+                continue;
+            }
+            if (slot == 0) {
+                lead(p, batch);
+            }
+            return result.join();
+        }
+    }
+
+    /**
+     * Повертає кількість виконаних пакетних обчислень.
+     *
+     * @return кількість пакетів
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Повертає кількість обчислених точок.
+     *
+     * @return кількість точок
+     */
+    public long getPoints() {
+        return points.sum();
+    }
+
+    /**
+     * Виконує роль лідера пакета: чекає на вікно збору, закриває пакет
+     * і обчислює всі зібрані точки.
+     *
+     * @param key   поліном, для якого відкрито пакет
+     * @param batch пакет
+     */
+    private void lead(Polynome key, Batch batch) {
+        long deadline = System.nanoTime() + windowNanos;
+        while (!batch.isFull()) {
+            long left = deadline - System.nanoTime();
+            if (left <= 0) {
+                break;
+            }
+            LockSupport.parkNanos(left);
+        }
+        pending.remove(key, batch);
+        int n = batch.close();
+        batches.increment();
+        points.add(n);
+        try {
+            double[] out = new double[n];
+            batch.polynome.valueAt(Arrays.copyOf(batch.xs, n), out);
+            for (int i = 0; i < n; i++) {
+                batch.results[i].complete(out[i]);
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < n; i++) {
+                batch.results[i].completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Відкритий пакет точок для одного полінома.
+     */
+    private static final class Batch {
+
+        private final Polynome polynome;
+        private final double[] xs;
+        private final CompletableFuture<Double>[] results;
+        private Thread leader;
+        private int size;
+        private boolean closed;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Batch(Polynome polynome, int capacity) {
+            this.polynome = polynome;
+            this.xs = new double[capacity];
+            this.results = new CompletableFuture[capacity];
+        }
+
+        /**
+         * Додає точку до пакета.
+         *
+         * @param x      значення аргумента
+         * @param result майбутній результат
+         * @return номер точки в пакеті або {@code -1}, якщо пакет закритий чи заповнений
+         */
+        synchronized int add(double x, CompletableFuture<Double> result) {
+            if (closed || size == xs.length) {
+                return -1;
+            }
+            xs[size] = x;
+            results[size] = result;
+            if (size == 0) {
+                leader = Thread.currentThread();
+            } else if (size == xs.length - 1) {
+                LockSupport.unpark(leader);
+            }
+            return size++;
+        }
+
+        synchronized boolean isFull() {
+            return size == xs.length;
+        }
+
+        /**
+         * Закриває пакет для нових точок.
+         *
+         * @return кількість зібраних точок
+         */
+        synchronized int close() {
+            closed = true;
+            return size;
+        }
+    }
+}
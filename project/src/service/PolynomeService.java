@@ -0,0 +1,236 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 19:40
+ *
+ * Клас {@code PolynomeService} – невеликий вбудований HTTP-сервіс на основі
+ * {@code com.sun.net.httpserver}, який дозволяє іншим процесам на тому ж
+ * комп’ютері користуватися бібліотекою без запуску окремої JVM.
+ *
+ * Кожен запит обробляється у власному віртуальному потоці. Параметр {@code p}
+ * задає поліном: коефіцієнти від x^0 до x^n через кому або звичний вигляд
+ * ({@code 2x^2-3x+1}, закодований у URL). Кінцеві точки (метод GET):
+ * <ul>
+ *   <li>{@code /eval?p=...&x=...} – значення P(x), запити об’єднуються в пакети;</li>
+ *   <li>{@code /derivative?p=...} – похідна;</li>
+ *   <li>{@code /integral?p=...} – невизначений інтеграл;</li>
+ *   <li>{@code /definite?p=...&a=...&b=...} – визначений інтеграл;</li>
+ *   <li>{@code /solve?p=...} – корені рівняння P(x) = 0 (степінь від 1 до 4);</li>
+ *   <li>{@code /stats} – кількість пакетів і обчислених точок.</li>
+ * </ul>
+ */
+
+package service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import polynominal.Polynome;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Локальний HTTP-сервіс обчислень над поліномами.
+ */
+public class PolynomeService implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final EvalBatcher batcher;
+
+    /**
+     * Створює та запускає сервіс на локальній адресі.
+     *
+     * @param port         порт (0 – вибрати вільний)
+     * @param windowMicros вікно збору пакетів для {@code /eval} у мікросекундах
+     * @param maxBatch     найбільша кількість точок у пакеті
+     * @throws IOException у разі помилки відкриття порту
+     */
+    public PolynomeService(int port, long windowMicros, int maxBatch) throws IOException {
+        this.batcher = new EvalBatcher(windowMicros, maxBatch);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Запускає сервіс з командного рядка.
+     *
+     * @param args {@code [порт] [вікно в мкс] [розмір пакета]}
+     * @throws IOException у разі помилки відкриття порту
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        long window = args.length > 1 ? Long.parseLong(args[1]) : 200;
+        int maxBatch = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+        PolynomeService service = new PolynomeService(port, window, maxBatch);
+        System.out.println("PolynomeService слухає порт " + service.getPort());
+    }
+
+    /**
+     * Повертає порт, на якому працює сервіс.
+     *
+     * @return номер порту
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Повертає об’єднувач запитів {@code /eval}.
+     *
+     * @return об’єднувач запитів
+     */
+    public EvalBatcher getBatcher() {
+        return batcher;
+    }
+
+    /**
+     * Зупиняє сервіс і звільняє потоки.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    /**
+     * Обробляє один HTTP-запит.
+     *
+     * @param exchange обмін запит-відповідь
+     * @throws IOException у разі помилки запису відповіді
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "Only GET is supported");
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> q = query(exchange.getRequestURI().getRawQuery());
+            try {
+                respond(exchange, 200, dispatch(path, q));
+            } catch (UnsupportedOperationException e) {
+                respond(exchange, 404, e.getMessage());
+            } catch (RuntimeException e) {
+                respond(exchange, 400, String.valueOf(e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Виконує операцію, що відповідає шляху запиту.
+     *
+     * @param path шлях запиту
+     * @param q    параметри запиту
+     * @return текст відповіді
+     * @throws UnsupportedOperationException якщо шлях невідомий
+     * @throws IllegalArgumentException      якщо параметри некоректні
+     */
+    private String dispatch(String path, Map<String, String> q) {
+        switch (path) {
+            case "/eval":
+                return Double.toString(batcher.evaluate(polynome(q), number(q, "x")));
+            case "/derivative":
+                return polynome(q).derivative().toString();
+            case "/integral":
+                return polynome(q).integral().toString();
+            case "/definite":
+                return Double.toString(polynome(q).definiteIntegral(number(q, "a"), number(q, "b")));
+            case "/solve":
+                return Arrays.toString(polynome(q).roots());
+            case "/stats":
+                return "batches=" + batcher.getBatches() + " points=" + batcher.getPoints();
+            default:
+                throw new UnsupportedOperationException("Unknown endpoint " + path);
+        }
+    }
+
+    /**
+     * Розбирає поліном з параметра {@code p}.
+     *
+     * @param q параметри запиту
+     * @return поліном
+     * @throws IllegalArgumentException якщо параметра немає або формат некоректний
+     */
+    private static Polynome polynome(Map<String, String> q) {
+        String s = q.get("p");
+        if (s == null) {
+            throw new IllegalArgumentException("Missing parameter p");
+        }
+        if (s.indexOf('x') >= 0 || s.indexOf('X') >= 0) {
+            return Polynome.parse(s);
+        }
+        String[] parts = s.split(",");
+        double[] c = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            c[i] = Double.parseDouble(parts[i].trim());
+        }
+        return new Polynome(c);
+    }
+
+    /**
+     * Повертає числовий параметр запиту.
+     *
+     * @param q    параметри запиту
+     * @param name ім’я параметра
+     * @return значення параметра
+     * @throws IllegalArgumentException якщо параметра немає або формат некоректний
+     */
+    private static double number(Map<String, String> q, String name) {
+        String s = q.get(name);
+        if (s == null) {
+            throw new IllegalArgumentException("Missing parameter " + name);
+        }
+        return Double.parseDouble(s.trim());
+    }
+
+    /**
+     * Розбирає рядок параметрів запиту.
+     *
+     * @param raw закодований рядок параметрів або {@code null}
+     * @return параметри запиту
+     */
+    private static Map<String, String> query(String raw) {
+        Map<String, String> res = new HashMap<>();
+        if (raw == null) {
+            return res;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                res.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Надсилає текстову відповідь.
+     *
+     * @param exchange обмін запит-відповідь
+     * @param status   HTTP-код
+     * @param body     текст відповіді
+     * @throws IOException у разі помилки запису
+     */
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 18:40
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <AdaptiveEvaluator>}.
+ * Порівнює звичайне обчислення погано обумовленого полінома {@code (x - 1)^n}
+ * біля кореня з адаптивним обчисленням.
+ */
+package tests;
+
+import polynominal.AdaptiveEvaluator;
+import polynominal.Polynome;
+
+/**
+ * Тестові приклади для класу {@link AdaptiveEvaluator}.
+ */
+public class AdaptiveEvaluatorTest {
+
+    /**
+     * Точка входу для тестування {@link AdaptiveEvaluator}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        int n = 9;
+        double[] c = new double[n + 1];
+        double binom = 1;
+        for (int k = 0; k <= n; k++) {
+            c[k] = ((n - k) % 2 == 0 ? 1 : -1) * binom;
+            binom = binom * (n - k) / (k + 1);
+        }
+        Polynome p = new Polynome(c);
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(p);
+        System.out.println("p = " + p);
+
+        double[] xs = {0.5, 0.99, 1.001, 1.01, 1.1, 2.0, 3.0};
+        double[] out = new double[xs.length];
+        evaluator.valueAt(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            System.out.println("x = " + xs[i] + ": valueAt = " + p.valueAt(xs[i])
+                    + ", адаптивно = " + out[i] + ", (x-1)^" + n + " = " + Math.pow(xs[i] - 1, n));
+        }
+        System.out.println("компенсованих обчислень: " + evaluator.getCompensatedCount()
+                + ", точних: " + evaluator.getExactCount());
+
+        int m = 1_000_000;
+        double[] many = new double[m];
+        double[] res = new double[m];
+        for (int i = 0; i < m; i++) {
+            many[i] = 5.0 + i * 1e-6;
+        }
+        evaluator.valueAt(many, res);
+        System.out.println("після " + m + " добре обумовлених точок: компенсованих "
+                + evaluator.getCompensatedCount() + ", точних " + evaluator.getExactCount());
+    }
+}
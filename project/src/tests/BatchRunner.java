@@ -0,0 +1,199 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 18:20
+ *
+ * Клас {@code BatchRunner} реалізує неінтерактивний пакетний режим програми.
+ * Зчитує файл завдань, обробляє їх паралельно і потоково записує результати
+ * у вихідний файл у порядку завдань.
+ *
+ * Формат рядка завдання: {@code <операція> [аргументи] ; <поліном>}, де поліном
+ * задається коефіцієнтами від x^0 до x^n через пробіл або у звичному вигляді
+ * ({@code 2.0x^2 - 3.0x + 1.0}). Підтримувані операції:
+ * <ul>
+ *   <li>{@code eval x} – значення P(x);</li>
+ *   <li>{@code derivative} – похідна;</li>
+ *   <li>{@code integral} – невизначений інтеграл;</li>
+ *   <li>{@code definite a b} – визначений інтеграл на [a, b];</li>
+ *   <li>{@code solve} – корені рівняння P(x) = 0 (степінь від 1 до 4).</li>
+ * </ul>
+ * Порожні рядки та рядки, що починаються з {@code #}, пропускаються.
+ */
+
+package tests;
+
+import polynominal.Polynome;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Пакетна обробка завдань з обмеженим паралельним конвеєром.
+ *
+ * <p>Одночасно в роботі перебуває не більше {@code threads * 4} завдань.
+ * Коли вікно заповнене, читання файлу призупиняється, доки найстаріше
+ * завдання не буде завершене і записане. Тому пам’ять не залежить
+ * від розміру вхідного файлу, а порядок результатів збігається з порядком завдань.
+ */
+public class BatchRunner {
+
+    private final int threads;
+    private final int window;
+
+    /**
+     * Створює пакетний обробник.
+     *
+     * @param threads кількість робочих потоків
+     * @throws IllegalArgumentException якщо {@code threads < 1}
+     */
+    public BatchRunner(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be >= 1");
+        }
+        this.threads = threads;
+        this.window = threads * 4;
+    }
+
+    /**
+     * Обробляє всі завдання з файлу і записує результати.
+     *
+     * @param jobFile    шлях до файлу завдань
+     * @param resultFile шлях до файлу результатів
+     * @return кількість оброблених завдань
+     * @throws IOException          у разі помилки роботи з файлами або
+     *                              якщо файл завдань збігається з файлом результатів
+     * @throws InterruptedException якщо потік перервано під час очікування
+     */
+    public long run(String jobFile, String resultFile) throws IOException, InterruptedException {
+        if (new File(jobFile).getCanonicalPath().equals(new File(resultFile).getCanonicalPath())) {
+            throw new IOException("Job file and result file must differ");
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ArrayDeque<Future<String>> inFlight = new ArrayDeque<>(window);
+        long jobs = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(jobFile));
+             BufferedWriter writer = new BufferedWriter(new FileWriter(resultFile))) {
+            String line;
+            long lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                String job = line.trim();
+                if (job.isEmpty() || job.startsWith("#")) {
+                    continue;
+                }
+                if (inFlight.size() == window) {
+                    writeResult(writer, inFlight.poll());
+                }
+                long n = lineNo;
+                inFlight.add(pool.submit(() -> n + ": " + process(job)));
+                jobs++;
+            }
+            while (!inFlight.isEmpty()) {
+                writeResult(writer, inFlight.poll());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return jobs;
+    }
+
+    /**
+     * Дочікується результату завдання і записує його у файл.
+     *
+     * @param writer потік запису
+     * @param result результат завдання
+     * @throws IOException          у разі помилки запису
+     * @throws InterruptedException якщо потік перервано під час очікування
+     */
+    private static void writeResult(BufferedWriter writer, Future<String> result)
+            throws IOException, InterruptedException {
+        try {
+            writer.write(result.get());
+        } catch (ExecutionException e) {
+            writer.write("ERROR " + e.getCause());
+        }
+        writer.newLine();
+    }
+
+    /**
+     * Виконує одне завдання.
+     *
+     * @param job рядок завдання
+     * @return рядок результату
+     */
+    static String process(String job) {
+        int sep = job.indexOf(';');
+        if (sep < 0) {
+            return "ERROR missing ';' between operation and polynome";
+        }
+        String[] op = job.substring(0, sep).trim().split("\\s+");
+        try {
+            Polynome p = parsePolynome(job.substring(sep + 1).trim());
+            switch (op[0]) {
+                case "eval": {
+                    double x = argument(op, 1);
+                    return "P(" + x + ") = " + p.valueAt(x);
+                }
+                case "derivative":
+                    return "P'(x) = " + p.derivative();
+                case "integral":
+                    return "∫P(x)dx = " + p.integral() + " + C";
+                case "definite": {
+                    double a = argument(op, 1);
+                    double b = argument(op, 2);
+                    return "∫[" + a + "," + b + "] P(x) dx = " + p.definiteIntegral(a, b);
+                }
+                case "solve":
+                    return "P(x) = 0, корені = " + Arrays.toString(p.roots());
+                default:
+                    return "ERROR unknown operation '" + op[0] + "'";
+            }
+        } catch (RuntimeException e) {
+            return "ERROR " + e.getMessage();
+        }
+    }
+
+    /**
+     * Розбирає поліном у форматі коефіцієнтів або у звичному вигляді.
+     *
+     * @param s текст полінома
+     * @return поліном
+     * @throws NumberFormatException якщо формат некоректний
+     */
+    private static Polynome parsePolynome(String s) {
+        if (s.indexOf('x') >= 0 || s.indexOf('X') >= 0) {
+            return Polynome.parse(s);
+        }
+        String[] parts = s.split("\\s+");
+        double[] c = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            c[i] = Double.parseDouble(parts[i]);
+        }
+        return new Polynome(c);
+    }
+
+    /**
+     * Повертає числовий аргумент операції.
+     *
+     * @param op    операція та її аргументи
+     * @param index номер аргументу
+     * @return значення аргументу
+     * @throws IllegalArgumentException якщо аргументу немає
+     */
+    private static double argument(String[] op, int index) {
+        if (index >= op.length) {
+            throw new IllegalArgumentException(op[0] + " expects " + index + " argument(s)");
+        }
+        return Double.parseDouble(op[index]);
+    }
+}
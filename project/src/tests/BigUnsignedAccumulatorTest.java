@@ -0,0 +1,94 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 16:30
+ *
+ * Тестовий клас, що демонструє роботу змінного накопичувача
+ * {@code <BigUnsignedAccumulator>}: операції на місці, порівняння з
+ * {@code <BigUnsigned>} та час обчислення факторіала і суми.
+ */
+package tests;
+
+import numbers.BigUnsigned;
+import numbers.BigUnsignedAccumulator;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Тестові приклади для класу {@link BigUnsignedAccumulator}.
+ */
+public class BigUnsignedAccumulatorTest {
+
+    /**
+     * Точка входу для тестування {@link BigUnsignedAccumulator}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        BigUnsignedAccumulator acc = new BigUnsignedAccumulator(new BigUnsigned("10000000000000000000"));
+        System.out.println("acc = " + acc);
+        System.out.println("acc + 2 = " + acc.add(2));
+        System.out.println("acc * 3 = " + acc.multiply(3));
+        System.out.println("acc << 70 = " + acc.shiftLeft(70));
+        System.out.println("acc >> 70 = " + acc.shiftRight(70));
+        System.out.println("acc * 10 + 7 = " + acc.multiplyAdd(10, 7));
+        System.out.println("bitLength = " + acc.bitLength());
+        System.out.println("compareTo(1e20) = " + acc.compareTo(new BigUnsigned("100000000000000000000")));
+        System.out.println("clear: isZero = " + acc.clear().isZero());
+
+        Random random = new Random(7);
+        boolean ok = true;
+        for (int t = 0; t < 2000 && ok; t++) {
+            BigInteger x = new BigInteger(1 + random.nextInt(600), random);
+            BigInteger y = new BigInteger(1 + random.nextInt(600), random);
+            long small = random.nextLong() & 0xFFFFFFFFL;
+            int shift = random.nextInt(200);
+            BigUnsignedAccumulator a = new BigUnsignedAccumulator(new BigUnsigned(x));
+            a.add(new BigUnsigned(y)).multiply(small).shiftLeft(shift).add(Long.MAX_VALUE).shiftRight(shift / 2);
+            BigInteger expected = x.add(y).multiply(BigInteger.valueOf(small)).shiftLeft(shift)
+                    .add(BigInteger.valueOf(Long.MAX_VALUE)).shiftRight(shift / 2);
+            ok = a.toBigInteger().equals(expected)
+                    && a.compareTo(new BigUnsigned(expected)) == 0
+                    && a.bitLength() == expected.bitLength();
+        }
+        System.out.println("random checks vs BigInteger: " + (ok ? "OK" : "MISMATCH"));
+
+        BigInteger[] edges = {
+                BigInteger.ONE, BigInteger.ONE.shiftLeft(32), BigInteger.valueOf(Long.MAX_VALUE),
+                BigInteger.ONE.shiftLeft(63), BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE)
+        };
+        boolean edgesOk = true;
+        for (BigInteger e : edges) {
+            edgesOk &= new BigUnsignedAccumulator(new BigUnsigned(e)).toBigInteger().equals(e);
+        }
+        System.out.println("word-boundary values: " + (edgesOk ? "OK" : "MISMATCH"));
+
+        int n = 20000;
+        for (int round = 0; round < 3; round++) {
+            long t0 = System.nanoTime();
+            BigUnsigned f = new BigUnsigned(BigInteger.ONE);
+            for (int i = 2; i <= n; i++) {
+                f = f.multiply(new BigUnsigned(BigInteger.valueOf(i)));
+            }
+            long t1 = System.nanoTime();
+            BigUnsignedAccumulator g = new BigUnsignedAccumulator(1);
+            for (int i = 2; i <= n; i++) {
+                g.multiply(i);
+            }
+            BigUnsigned h = g.toBigUnsigned();
+            long t2 = System.nanoTime();
+            System.out.printf("%d!: BigUnsigned %.1f ms, accumulator %.1f ms, equal = %b%n",
+                    n, (t1 - t0) / 1e6, (t2 - t1) / 1e6, f.getValue().equals(h.getValue()));
+        }
+
+        BigUnsignedAccumulator sum = new BigUnsignedAccumulator();
+        BigUnsignedAccumulator term = new BigUnsignedAccumulator(1);
+        for (int i = 0; i < 1000; i++) {
+            sum.add(term);
+            term.multiply(3);
+        }
+        BigInteger expectedSum = BigInteger.valueOf(3).pow(1000).subtract(BigInteger.ONE).shiftRight(1);
+        System.out.println("sum 3^i, i < 1000: equal = " + sum.toBigInteger().equals(expectedSum));
+    }
+}
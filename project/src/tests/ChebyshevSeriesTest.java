@@ -0,0 +1,51 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 13:40
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <ChebyshevSeries>}.
+ * Містить приклади перетворення полінома у ряд Чебишова і назад,
+ * обчислення значень, похідної, інтегралу та адаптивного наближення функції.
+ */
+package tests;
+
+import polynominal.ChebyshevSeries;
+import polynominal.Polynome;
+
+/**
+ * Тестові приклади для класу {@link ChebyshevSeries}.
+ */
+public class ChebyshevSeriesTest {
+
+    /**
+     * Точка входу для тестування {@link ChebyshevSeries}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome p = new Polynome(new double[]{2, -9, 0, 3, 13, 0, -19, 10, -32});
+        ChebyshevSeries s = ChebyshevSeries.fromPolynome(p, -1, 2);
+        System.out.println("p(x) = " + p);
+        System.out.println("ряд Чебишова: " + s);
+        System.out.println("назад у поліном: " + s.toPolynome());
+        System.out.println("p(0.3) = " + p.valueAt(0.3) + ", s(0.3) = " + s.valueAt(0.3));
+        System.out.println("p'(0.3) = " + p.derivative().valueAt(0.3) + ", s'(0.3) = " + s.derivative().valueAt(0.3));
+        System.out.println("∫[-1,2] p = " + p.definiteIntegral(-1, 2) + ", ∫[-1,2] s = " + s.definiteIntegral(-1, 2));
+
+        double[] xs = {-1, 0, 0.5, 2};
+        double[] out = new double[xs.length];
+        s.valueAt(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            System.out.println("s(" + xs[i] + ") = " + out[i] + ", p(" + xs[i] + ") = " + p.valueAt(xs[i]));
+        }
+
+        ChebyshevSeries exp = ChebyshevSeries.adaptive(Math::exp, 0, 1, 1e-13, 1024);
+        System.out.println("exp на [0,1]: степінь " + exp.degree()
+                + ", похибка у 0.7 = " + Math.abs(exp.valueAt(0.7) - Math.exp(0.7)));
+
+        // |x| не наближається з такою точністю: степінь обмежується maxDegree = 100, а не 128
+        ChebyshevSeries abs = ChebyshevSeries.adaptive(Math::abs, -1, 1, 1e-13, 100);
+        System.out.println("|x| на [-1,1] з maxDegree = 100: степінь " + abs.degree()
+                + (abs.degree() == 100 ? " (OK)" : " (ПОМИЛКА)"));
+    }
+}
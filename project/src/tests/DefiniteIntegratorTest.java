@@ -0,0 +1,57 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 16:55
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <DefiniteIntegrator>}.
+ * Містить приклади одиночних і пакетних запитів визначених інтегралів
+ * та точного обчислення з раціональними межами.
+ */
+package tests;
+
+import numbers.Rational;
+import polynominal.DefiniteIntegrator;
+import polynominal.Polynome;
+
+import java.math.MathContext;
+
+/**
+ * Тестові приклади для класу {@link DefiniteIntegrator}.
+ */
+public class DefiniteIntegratorTest {
+
+    /**
+     * Точка входу для тестування {@link DefiniteIntegrator}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome p = new Polynome(new double[]{1, -2, 0, 4});
+        DefiniteIntegrator integrator = p.integrator();
+        System.out.println("p = " + p);
+        System.out.println("первісна = " + integrator.antiderivative());
+        System.out.println("інтеграл на [0, 2] = " + integrator.integrate(0, 2)
+                + " (definiteIntegral: " + p.definiteIntegral(0, 2) + ")");
+
+        int n = 1000;
+        double[] a = new double[n];
+        double[] b = new double[n];
+        double[] out = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = -1.0 + i * 0.001;
+            b[i] = a[i] + 0.5;
+        }
+        integrator.integrate(a, b, out);
+        double maxDiff = 0;
+        for (int i = 0; i < n; i++) {
+            maxDiff = Math.max(maxDiff, Math.abs(out[i] - p.definiteIntegral(a[i], b[i])));
+        }
+        System.out.println("пакет з " + n + " запитів, найбільша розбіжність = " + maxDiff);
+
+        Rational ra = new Rational(1, 3);
+        Rational rb = new Rational(7, 5);
+        System.out.println("точно на [1/3, 7/5] = "
+                + integrator.integrateExact(ra, rb, MathContext.DECIMAL128));
+        System.out.println("у double = " + integrator.integrate(1.0 / 3, 7.0 / 5));
+    }
+}
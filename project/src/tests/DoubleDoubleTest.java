@@ -0,0 +1,74 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 11:40
+ *
+ * Тестовий клас, що демонструє роботу класів {@code <DoubleDouble>}
+ * та {@code <DoubleDoublePolynome>}: арифметику подвійно-подвійної точності,
+ * обчислення погано обумовленого полінома та серіалізацію.
+ */
+package tests;
+
+import numbers.DoubleDouble;
+import polynominal.DoubleDoublePolynome;
+import polynominal.Polynome;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Тестові приклади для класів {@link DoubleDouble} та {@link DoubleDoublePolynome}.
+ */
+public class DoubleDoubleTest {
+
+    /**
+     * Точка входу для тестування {@link DoubleDouble}.
+     *
+     * @param args не використовується
+     * @throws IOException            у разі помилки серіалізації
+     * @throws ClassNotFoundException у разі помилки десеріалізації
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        DoubleDouble third = DoubleDouble.ONE.divide(DoubleDouble.valueOf(3));
+        System.out.println("1/3 = " + third);
+        System.out.println("sqrt(2) = " + DoubleDouble.valueOf(2).sqrt());
+        DoubleDouble tenth = DoubleDouble.parse("0.1");
+        System.out.println("0.1 = " + tenth + " (hi = " + tenth.getHi() + ", lo = " + tenth.getLo() + ")");
+        DoubleDouble sum = DoubleDouble.ZERO;
+        for (int i = 0; i < 10; i++) {
+            sum = sum.add(tenth);
+        }
+        System.out.println("10 * 0.1 = " + sum + ", у double: " + (0.1 + 0.1 + 0.1 + 0.1 + 0.1
+                + 0.1 + 0.1 + 0.1 + 0.1 + 0.1));
+
+        Polynome p = new Polynome(new double[]{-1, 9, -36, 84, -126, 126, -84, 36, -9, 1});
+        DoubleDoublePolynome dd = new DoubleDoublePolynome(p);
+        double x = 1.01;
+        System.out.println("p = " + p);
+        System.out.println("p(1.01): double = " + p.valueAt(x) + ", double-double = "
+                + dd.valueAt(x) + ", (x-1)^9 = " + Math.pow(x - 1, 9));
+
+        DoubleDoublePolynome sq = dd.multiply(dd);
+        System.out.println("p^2 має степінь " + sq.degree() + ", p^2(3) = " + sq.valueAt(3) + " (очікується 262144)");
+
+        double[] xs = {0.99, 1.001, 1.1};
+        double[] hi = new double[xs.length];
+        double[] lo = new double[xs.length];
+        dd.valueAt(xs, hi, lo);
+        for (int i = 0; i < xs.length; i++) {
+            System.out.println("p(" + xs[i] + ") = " + (hi[i] + lo[i]));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(third);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            DoubleDouble read = (DoubleDouble) in.readObject();
+            System.out.println("після серіалізації: " + read + ", рівні: " + read.equals(third));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 10:30
+ *
+ * Тестовий клас, що демонструє розв’язання кубічних рівнянь та рівнянь
+ * четвертого степеня у {@code <EquationSolver>}: дійсні та комплексні корені,
+ * кратні корені та пакетне розв’язання.
+ */
+package tests;
+
+import equations.EquationSolver;
+import polynominal.Polynome;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Тестові приклади для кубічних рівнянь та рівнянь четвертого степеня.
+ */
+public class EquationSolverTest {
+
+    /**
+     * Точка входу для тестування {@link EquationSolver}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        System.out.println("(x-1)(x-2)(x-3): " + Arrays.toString(EquationSolver.solveCubic(1, -6, 11, -6)));
+        System.out.println("x^3 - 1: " + Arrays.toString(EquationSolver.solveCubic(1, 0, 0, -1)));
+        print("x^3 - 1, комплексні", EquationSolver.solveCubicComplex(1, 0, 0, -1));
+        System.out.println("(x-1)^2 (x+2): " + Arrays.toString(EquationSolver.solveCubic(1, 0, -3, 2)));
+        System.out.println("(x-1)(x-2)(x-3)(x-4): "
+                + Arrays.toString(EquationSolver.solveQuartic(1, -10, 35, -50, 24)));
+        print("x^4 + 1", EquationSolver.solveQuarticComplex(1, 0, 0, 0, 1));
+        System.out.println("(x^2-2)^2: " + Arrays.toString(EquationSolver.solveQuartic(1, 0, -4, 0, 4)));
+        System.out.println("(x-1)^2 (x^2+1): " + Arrays.toString(EquationSolver.solveQuartic(1, -2, 2, -2, 1)));
+        System.out.println("0·x^4 + (x^2 - 3x + 2): " + Arrays.toString(EquationSolver.solveQuartic(0, 0, 1, -3, 2)));
+        System.out.println("(x-0.1)^2 (x-0.7): " + Arrays.toString(EquationSolver.solveCubic(1, -0.9, 0.15, -0.007)));
+        double[] m = expand(1, new double[]{-0.018, -0.018, -5.965});
+        System.out.println("(x+0.018)^2 (x+5.965): " + Arrays.toString(EquationSolver.solveCubic(m[0], m[1], m[2], m[3])));
+        m = expand(1, new double[]{0.3, 0.3, 0.3});
+        System.out.println("(x-0.3)^3: " + Arrays.toString(EquationSolver.solveCubic(m[0], m[1], m[2], m[3])));
+        m = expand(1, new double[]{0.2, 0.2, -1.5, 4});
+        System.out.println("(x-0.2)^2 (x+1.5)(x-4): "
+                + Arrays.toString(EquationSolver.solveQuartic(m[0], m[1], m[2], m[3], m[4])));
+        m = expand(1, new double[]{0.7, 0.7, 0.7, -2});
+        System.out.println("(x-0.7)^3 (x+2): "
+                + Arrays.toString(EquationSolver.solveQuartic(m[0], m[1], m[2], m[3], m[4])));
+        // пара ±1e-5 i не є дійсним коренем, близькі прості корені не об’єднуються
+        System.out.println("(x-1)(x^2+1e-10): " + Arrays.toString(EquationSolver.solveCubic(1, -1, 1e-10, -1e-10)));
+        m = expand(1, new double[]{1, 1.00005, 3});
+        System.out.println("(x-1)(x-1.00005)(x-3): " + Arrays.toString(EquationSolver.solveCubic(m[0], m[1], m[2], m[3])));
+        System.out.println("(x-1e-5)(x-2e-5)(x-3e-5): " + Arrays.toString(Polynome.fromRoots(1e-5, 2e-5, 3e-5).roots()));
+        multipleRoots();
+
+        Random random = new Random(5);
+        double worstCubic = 0;
+        double worstQuartic = 0;
+        for (int t = 0; t < 100_000; t++) {
+            double[] r = new double[4];
+            for (int k = 0; k < 4; k++) {
+                r[k] = random.nextDouble() * 20 - 10;
+            }
+            double s = random.nextDouble() * 4 - 2;
+            // (x - r0)(x - r1)(x - r2)
+            double[] cubic = {s, -s * (r[0] + r[1] + r[2]), s * (r[0] * r[1] + r[0] * r[2] + r[1] * r[2]),
+                    -s * r[0] * r[1] * r[2]};
+            worstCubic = Math.max(worstCubic, worstError(Arrays.copyOf(r, 3),
+                    EquationSolver.solveCubicComplex(cubic[0], cubic[1], cubic[2], cubic[3])));
+            double[] quartic = expand(s, r);
+            worstQuartic = Math.max(worstQuartic, worstError(r,
+                    EquationSolver.solveQuarticComplex(quartic[0], quartic[1], quartic[2], quartic[3], quartic[4])));
+        }
+        System.out.printf("100000 випадкових рівнянь: max похибка коренів cubic = %.3e, quartic = %.3e%n",
+                worstCubic, worstQuartic);
+
+        int n = 5;
+        double[] a = {1, 1, 1, 2, 0};
+        double[] b = {-6, 0, 0, -4, 1};
+        double[] c = {11, 0, 1, 2, -3};
+        double[] d = {-6, -1, 0, 0, 2};
+        double[][] roots = new double[3][n];
+        EquationSolver.solveCubic(a, b, c, d, roots);
+        for (int i = 0; i < n; i++) {
+            System.out.println("пакет cubic " + i + ": " + roots[0][i] + ", " + roots[1][i] + ", " + roots[2][i]
+                    + " (" + Arrays.toString(EquationSolver.solveCubic(a[i], b[i], c[i], d[i])) + ")");
+        }
+        double[] e = {24, 1, 4, 1, 5};
+        double[] qa = {1, 1, 1, 1, 1};
+        double[] qb = {-10, 0, 0, -2, 0};
+        double[] qc = {35, 0, -4, 2, -6};
+        double[] qd = {-50, 0, 0, -2, 0};
+        double[][] quarticRoots = new double[4][n];
+        EquationSolver.solveQuartic(qa, qb, qc, qd, e, quarticRoots);
+        for (int i = 0; i < n; i++) {
+            System.out.println("пакет quartic " + i + ": " + quarticRoots[0][i] + ", " + quarticRoots[1][i] + ", "
+                    + quarticRoots[2][i] + ", " + quarticRoots[3][i]);
+        }
+    }
+
+    /**
+     * Перевіряє кількість різних дійсних коренів для випадкових рівнянь з
+     * подвійними та потрійними коренями – поодинці та пакетом.
+     */
+    private static void multipleRoots() {
+        Random random = new Random(11);
+        int n = 10_000;
+        int[][] shapes = {{0, 0, 1}, {0, 0, 0}, {0, 0, 1, 2}, {0, 0, 0, 1}, {0, 0, 1, 1}};
+        for (int[] shape : shapes) {
+            int degree = shape.length;
+            int expected = shape[degree - 1] + 1;
+            double[][] coeffs = new double[degree + 1][n];
+            int wrong = 0;
+            for (int i = 0; i < n; i++) {
+                double[] distinct = new double[3];
+                do {
+                    for (int k = 0; k < 3; k++) {
+                        distinct[k] = random.nextDouble() * 20 - 10;
+                    }
+                    // різні корені розносяться, щоб перевірялася саме кратність, а не зближені корені
+                } while (Math.abs(distinct[0] - distinct[1]) < 0.1 || Math.abs(distinct[0] - distinct[2]) < 0.1
+                        || Math.abs(distinct[1] - distinct[2]) < 0.1);
+                double[] r = new double[degree];
+                for (int k = 0; k < degree; k++) {
+                    r[k] = distinct[shape[k]];
+                }
+                double[] p = expand(random.nextDouble() * 4 - 2, r);
+                for (int k = 0; k <= degree; k++) {
+                    coeffs[k][i] = p[k];
+                }
+                double[] roots = degree == 3 ? EquationSolver.solveCubic(p[0], p[1], p[2], p[3])
+                        : EquationSolver.solveQuartic(p[0], p[1], p[2], p[3], p[4]);
+                if (roots.length != expected) {
+                    wrong++;
+                }
+            }
+            double[][] batch = new double[degree][n];
+            if (degree == 3) {
+                EquationSolver.solveCubic(coeffs[0], coeffs[1], coeffs[2], coeffs[3], batch);
+            } else {
+                EquationSolver.solveQuartic(coeffs[0], coeffs[1], coeffs[2], coeffs[3], coeffs[4], batch);
+            }
+            int wrongBatch = 0;
+            for (int i = 0; i < n; i++) {
+                int count = 0;
+                for (int k = 0; k < degree; k++) {
+                    if (!Double.isNaN(batch[k][i])) {
+                        count++;
+                    }
+                }
+                if (count != expected) {
+                    wrongBatch++;
+                }
+            }
+            System.out.println("кратні корені " + Arrays.toString(shape) + ": неправильна кількість коренів у "
+                    + wrong + " з " + n + ", пакетом – у " + wrongBatch);
+        }
+    }
+
+    private static void print(String name, double[][] roots) {
+        StringBuilder sb = new StringBuilder(name).append(": ");
+        for (int k = 0; k < roots[0].length; k++) {
+            sb.append(roots[0][k]).append(roots[1][k] < 0 ? " - " : " + ").append(Math.abs(roots[1][k])).append("i  ");
+        }
+        System.out.println(sb);
+    }
+
+    private static double[] expand(double s, double[] r) {
+        double[] p = {s};
+        for (double root : r) {
+            double[] next = new double[p.length + 1];
+            for (int i = 0; i < p.length; i++) {
+                next[i] += p[i];
+                next[i + 1] -= p[i] * root;
+            }
+            p = next;
+        }
+        return p;
+    }
+
+    /**
+     * Найбільша відстань від очікуваного кореня до найближчого знайденого,
+     * віднесена до масштабу коренів.
+     */
+    private static double worstError(double[] expected, double[][] found) {
+        double worst = 0;
+        for (double x : expected) {
+            double best = Double.POSITIVE_INFINITY;
+            for (int k = 0; k < found[0].length; k++) {
+                best = Math.min(best, Math.hypot(found[0][k] - x, found[1][k]));
+            }
+            worst = Math.max(worst, best / (1 + Math.abs(x)));
+        }
+        return worst;
+    }
+}
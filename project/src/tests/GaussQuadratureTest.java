@@ -0,0 +1,85 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 17:40
+ *
+ * Тестовий клас, що демонструє сімейства ортогональних многочленів
+ * ({@code <OrthogonalFamily>}) та квадратурні формули Гаусса
+ * ({@code <GaussQuadrature>}) з кешованими вузлами і вагами.
+ */
+package tests;
+
+import polynominal.GaussQuadrature;
+import polynominal.OrthogonalFamily;
+import polynominal.Polynome;
+
+/**
+ * Тестові приклади для ортогональних многочленів і квадратур Гаусса.
+ */
+public class GaussQuadratureTest {
+
+    /**
+     * Точка входу для тестування ортогональних многочленів і квадратур Гаусса.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        for (OrthogonalFamily f : OrthogonalFamily.values()) {
+            System.out.println(f + ": P_3 = " + f.polynome(3) + ", P_4 = " + f.polynome(4));
+        }
+        System.out.println("cached P_10 same object: "
+                + (OrthogonalFamily.LEGENDRE.polynome(10) == OrthogonalFamily.LEGENDRE.polynome(10)));
+        System.out.printf("P_10(0.3): polynome %.15f, recurrence %.15f%n",
+                OrthogonalFamily.LEGENDRE.polynome(10).valueAt(0.3), OrthogonalFamily.LEGENDRE.valueAt(10, 0.3));
+
+        // ортогональність: ∫ w P_m P_n = 0 для m != n
+        for (OrthogonalFamily f : OrthogonalFamily.values()) {
+            GaussQuadrature q = GaussQuadrature.of(f, 12);
+            double maxOff = 0.0;
+            for (int m = 0; m < 8; m++) {
+                for (int n = 0; n < m; n++) {
+                    Polynome pm = f.polynome(m);
+                    Polynome pn = f.polynome(n);
+                    double norm = Math.sqrt(q.integrate(x -> pm.valueAt(x) * pm.valueAt(x))
+                            * q.integrate(x -> pn.valueAt(x) * pn.valueAt(x)));
+                    maxOff = Math.max(maxOff, Math.abs(q.integrate(pm.multiply(pn))) / norm);
+                }
+            }
+            System.out.printf("%s: sum of weights %.15f (expected %.15f), max |<P_m, P_n>| = %.2e%n",
+                    f, sum(q.weights()), f.weightIntegral(), maxOff);
+        }
+
+        GaussQuadrature gl = GaussQuadrature.legendre(5);
+        System.out.println("Gauss-Legendre n = 5 nodes: " + java.util.Arrays.toString(gl.nodes()));
+        System.out.println("Gauss-Legendre n = 5 weights: " + java.util.Arrays.toString(gl.weights()));
+        System.out.printf("∫_0^π sin x dx (n = 10) = %.15f (2)%n", GaussQuadrature.legendre(10).integrate(Math::sin, 0, Math.PI));
+        System.out.printf("∫ exp(-x^2) cos x dx (n = 20) = %.15f (%.15f)%n",
+                GaussQuadrature.hermite(20).integrate(Math::cos), Math.sqrt(Math.PI) * Math.exp(-0.25));
+        System.out.printf("∫ exp(-x^2) x^10 dx (n = 6) = %.10f (%.10f)%n",
+                GaussQuadrature.hermite(6).integrate(new Polynome(new double[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1})),
+                945.0 / 32.0 * Math.sqrt(Math.PI));
+
+        int n = 200;
+        for (int round = 0; round < 3; round++) {
+            long t0 = System.nanoTime();
+            GaussQuadrature q = GaussQuadrature.legendre(n + round);
+            long t1 = System.nanoTime();
+            GaussQuadrature cached = GaussQuadrature.legendre(n + round);
+            long t2 = System.nanoTime();
+            double v = cached.integrate(x -> Math.exp(x), -1, 1);
+            System.out.printf("legendre(%d): build %.2f ms, cached lookup %.3f ms, same = %b, ∫e^x = %.15f%n",
+                    n + round, (t1 - t0) / 1e6, (t2 - t1) / 1e6, q == cached, v);
+        }
+        GaussQuadrature h = GaussQuadrature.hermite(100);
+        System.out.printf("hermite(100): sum of weights %.15f, ∫ exp(-x^2) x^2 = %.15f (%.15f)%n",
+                sum(h.weights()), h.integrate(x -> x * x), Math.sqrt(Math.PI) / 2);
+    }
+
+    private static double sum(double[] a) {
+        double s = 0.0;
+        for (double v : a) {
+            s += v;
+        }
+        return s;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 21.10.2026
+ * Час виконання: 17:30
+ *
+ * Тестовий клас, що демонструє роботу класів {@code <ModInt>},
+ * {@code <ModPolynome>} та {@code <IntegerPolynome>}: арифметику Монтгомері,
+ * НСД над Z_p, багатомодульний НСД цілочисельних поліномів і розклад
+ * на множники без квадратів.
+ */
+package tests;
+
+import numbers.ModInt;
+import numbers.Montgomery;
+import polynominal.IntegerPolynome;
+import polynominal.ModPolynome;
+import polynominal.Polynome;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Тестові приклади для модульної арифметики та цілочисельних поліномів.
+ */
+public class IntegerPolynomeTest {
+
+    /**
+     * Точка входу для тестування {@link IntegerPolynome}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Montgomery field = new Montgomery(1_000_000_007);
+        ModInt a = new ModInt(123_456_789, field);
+        ModInt b = new ModInt(987_654_321, field);
+        System.out.println("a * b = " + a.multiply(b) + ", a / b * b = " + a.divide(b).multiply(b));
+        System.out.println("2^100 = " + new ModInt(2, field).pow(100));
+
+        ModPolynome p = new ModPolynome(new long[]{-1, 0, 1}, field);
+        ModPolynome q = new ModPolynome(new long[]{1, 2, 1}, field);
+        System.out.println("gcd(x^2 - 1, x^2 + 2x + 1) = " + p.gcd(q));
+
+        IntegerPolynome g = IntegerPolynome.valueOf(3, -7, 2);
+        IntegerPolynome u = IntegerPolynome.valueOf(5, 0, 11, 1);
+        IntegerPolynome v = IntegerPolynome.valueOf(-4, 9, 13);
+        BigInteger big = BigInteger.TEN.pow(30).add(BigInteger.valueOf(7));
+        IntegerPolynome x = g.multiply(u).multiply(big);
+        IntegerPolynome y = g.multiply(v).multiply(BigInteger.valueOf(6));
+        System.out.println("gcd((" + g + ")(" + u + ")·(10^30+7), (" + g + ")(" + v + ")·6) = " + x.gcd(y));
+
+        IntegerPolynome f = IntegerPolynome.valueOf(-1, 1).multiply(IntegerPolynome.valueOf(-1, 1))
+                .multiply(IntegerPolynome.valueOf(-1, 1))
+                .multiply(IntegerPolynome.valueOf(2, 1)).multiply(IntegerPolynome.valueOf(2, 1))
+                .multiply(IntegerPolynome.valueOf(3, 2))
+                .multiply(BigInteger.valueOf(-4));
+        System.out.println("f = " + f);
+        List<IntegerPolynome> factors = f.squareFreeDecomposition();
+        for (int i = 0; i < factors.size(); i++) {
+            System.out.println("  кратність " + (i + 1) + ": " + factors.get(i));
+        }
+
+        Polynome d = new Polynome(new double[]{4, -4, 1});
+        System.out.println("з Polynome: " + IntegerPolynome.fromPolynome(d).squareFreeDecomposition());
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 16:45
+ *
+ * Тестовий клас, що демонструє паралельне множення поліномів
+ * {@code <Polynome.multiplyParallel>}: відтворюваність результату
+ * біт у біт за різної кількості потоків та точність порівняно
+ * з множенням «у стовпчик».
+ */
+package tests;
+
+import polynominal.Polynome;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Тестові приклади для методу {@link Polynome#multiplyParallel(Polynome, ForkJoinPool)}.
+ */
+public class KaratsubaTest {
+
+    /**
+     * Точка входу для тестування паралельного множення.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome a = new Polynome(new double[]{1, 2, 3});
+        Polynome b = new Polynome(new double[]{-1, 0, 1});
+        System.out.println("(" + a + ") * (" + b + ") = " + a.multiplyParallel(b));
+
+        Random random = new Random(7);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(8);
+        int[][] sizes = {{30, 30}, {200, 200}, {3000, 3000}, {5000, 700}, {700, 5000}, {5, 40}, {40, 3000}, {4097, 4095}};
+        for (int[] size : sizes) {
+            Polynome p = random(random, size[0]);
+            Polynome q = random(random, size[1]);
+            double[] expected = p.multiply(q).getCoefficients();
+            double[] one = p.multiplyParallel(q, single).getCoefficients();
+            double[] eight = p.multiplyParallel(q, many).getCoefficients();
+            double[] common = p.multiplyParallel(q).getCoefficients();
+            boolean same = Arrays.equals(one, eight) && Arrays.equals(one, common);
+            double maxError = 0;
+            for (int i = 0; i < expected.length; i++) {
+                maxError = Math.max(maxError, Math.abs(one[i] - expected[i]));
+            }
+            System.out.printf("deg %d × deg %d: 1 потік == 8 потоків == commonPool: %b, "
+                    + "max |Δ| від multiply = %.3e%n", size[0], size[1], same, maxError);
+        }
+        single.shutdown();
+        many.shutdown();
+
+        Polynome p = random(random, 20000);
+        Polynome q = random(random, 20000);
+        long t0 = System.nanoTime();
+        p.multiply(q);
+        long t1 = System.nanoTime();
+        p.multiplyParallel(q);
+        long t2 = System.nanoTime();
+        System.out.printf("deg 20000: multiply %d мс, multiplyParallel %d мс%n",
+                (t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000);
+    }
+
+    private static Polynome random(Random random, int degree) {
+        double[] c = new double[degree + 1];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = random.nextDouble() * 2 - 1;
+        }
+        c[degree] = 1.0;
+        return new Polynome(c);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 13:05
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <LeastSquaresFitter>}:
+ * потокову апроксимацію без збереження точок, об’єднання часткових
+ * накопичувачів та паралельну апроксимацію масиву.
+ */
+package tests;
+
+import polynominal.LeastSquaresFitter;
+import polynominal.Polynome;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Тестові приклади для класу {@link LeastSquaresFitter}.
+ */
+public class LeastSquaresFitterTest {
+
+    /**
+     * Точка входу для тестування {@link LeastSquaresFitter}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome exact = new Polynome(new double[]{1, -3, 0.5, 2});
+        System.out.println("точний поліном: " + exact);
+
+        LeastSquaresFitter exactFit = new LeastSquaresFitter(3, -1, 1);
+        for (double x = -1; x <= 1; x += 0.25) {
+            exactFit.accept(x, exact.valueAt(x));
+        }
+        System.out.println("за 9 точними точками: " + exactFit.toPolynome() + ", rss = "
+                + exactFit.residualSumOfSquares());
+
+        Random random = new Random(1);
+        LeastSquaresFitter stream = new LeastSquaresFitter(3, -2, 2);
+        LeastSquaresFitter first = new LeastSquaresFitter(3, -2, 2);
+        LeastSquaresFitter second = new LeastSquaresFitter(3, -2, 2);
+        double[] xs = new double[4096];
+        double[] ys = new double[4096];
+        long n = 0;
+        for (int chunk = 0; chunk < 1000; chunk++) {
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = random.nextDouble() * 4 - 2;
+                ys[i] = exact.valueAt(xs[i]) + random.nextGaussian() * 0.1;
+            }
+            stream.accept(xs, ys);
+            (chunk % 2 == 0 ? first : second).accept(xs, ys);
+            n += xs.length;
+            if (chunk == 0 || chunk == 999) {
+                System.out.println("після " + n + " точок: " + stream.toPolynome()
+                        + ", rss / n = " + stream.residualSumOfSquares() / n);
+            }
+        }
+        System.out.println("об’єднання двох половин: " + first.merge(second).toPolynome()
+                + ", точок " + first.getCount());
+
+        int m = 2_000_000;
+        double[] px = new double[m];
+        double[] py = new double[m];
+        for (int i = 0; i < m; i++) {
+            px[i] = random.nextDouble() * 4 - 2;
+            py[i] = exact.valueAt(px[i]) + random.nextGaussian() * 0.1;
+        }
+        ForkJoinPool single = new ForkJoinPool(1);
+        double[] one = LeastSquaresFitter.fit(px, py, 3, -2, 2, single).toChebyshev().getCoefficients();
+        double[] many = LeastSquaresFitter.fit(px, py, 3, -2, 2).toChebyshev().getCoefficients();
+        single.shutdown();
+        System.out.println("паралельно: " + LeastSquaresFitter.fit(px, py, 3, -2, 2).toPolynome()
+                + ", 1 потік == commonPool: " + Arrays.equals(one, many));
+
+        LeastSquaresFitter few = new LeastSquaresFitter(3, 0, 1);
+        few.accept(0.1, 1);
+        few.accept(0.5, 2);
+        try {
+            few.toPolynome();
+        } catch (IllegalStateException e) {
+            System.out.println("мало точок: " + e.getMessage());
+        }
+    }
+}
@@ -12,7 +12,8 @@
  *   <li>демонстрацію роботи класів {@code Rational}, {@code Unsigned},
  *       {@code BigUnsigned};</li>
  *   <li>розв’язання лінійних і квадратних рівнянь;</li>
- *   <li>виведення усіх результатів у файл {@code resources/result.txt}.</li>
+ *   <li>виведення усіх результатів у файл {@code resources/result.txt};</li>
+ *   <li>неінтерактивний пакетний режим ({@code --batch}) для файлу завдань.</li>
  * </ul>
  *
  * Клас є точкою входу у програму та використовується для тестування
@@ -41,15 +42,23 @@ import java.util.Scanner;
  *     <li>введення даних з консолі;</li>
  *     <li>введення даних з тестового файлу {@code resources/NZ_test.txt}.</li>
  * </ul>
+ *
+ * <p>Запуск з аргументами {@code --batch <файл завдань> <файл результатів> [потоки]}
+ * виконує пакетну обробку без діалогу з користувачем (див. {@link BatchRunner}).
  */
 public class Main {
 
     /**
      * Точка входу в програму.
      *
-     * @param args не використовується
+     * @param args порожній масив для інтерактивного режиму або
+     *             {@code --batch <файл завдань> <файл результатів> [потоки]}
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
         Scanner scanner = new Scanner(System.in);
         Polynome p;
 
@@ -90,6 +99,39 @@ public class Main {
         }
     }
 
+    /**
+     * Виконує пакетний режим з аргументів командного рядка.
+     *
+     * @param args {@code --batch <файл завдань> <файл результатів> [потоки]}
+     */
+    private static void runBatch(String[] args) {
+        if (!args[0].equals("--batch") || args.length < 3) {
+            System.err.println("Використання: Main --batch <файл завдань> <файл результатів> [потоки]");
+            return;
+        }
+        try {
+            int threads = args.length > 3
+                    ? Integer.parseInt(args[3])
+                    : Runtime.getRuntime().availableProcessors();
+            if (threads < 1) {
+                System.err.println("Кількість потоків має бути додатною: " + threads);
+                System.err.println("Використання: Main --batch <файл завдань> <файл результатів> [потоки]");
+                return;
+            }
+            long start = System.nanoTime();
+            long jobs = new BatchRunner(threads).run(args[1], args[2]);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("Оброблено завдань: " + jobs + " за " + millis + " мс, результати у файлі: " + args[2]);
+        } catch (IOException e) {
+            System.err.println("Помилка роботи з файлом: " + e.getMessage());
+        } catch (NumberFormatException e) {
+            System.err.println("Помилка формату даних: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Пакетну обробку перервано");
+        }
+    }
+
     /**
      * Зчитує поліном з консолі у форматі:
      * коефіцієнти від x^0 до x^n через пробіл в одному рядку.
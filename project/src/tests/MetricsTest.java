@@ -0,0 +1,69 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 17:45
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <Metrics>}.
+ * Вмикає збір метрик і запис JFR, виконує операції над поліномами
+ * та рівняннями і виводить зібрану статистику у консоль.
+ */
+package tests;
+
+import equations.EquationSolver;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import metrics.Metrics;
+import metrics.OperationStats;
+import polynominal.Polynome;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Тестові приклади для класу {@link Metrics}.
+ */
+public class MetricsTest {
+
+    /**
+     * Точка входу для тестування {@link Metrics}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Metrics.enable();
+        try (Recording recording = new Recording()) {
+            recording.enable("polynome.Operation");
+            recording.start();
+
+            Polynome p = new Polynome(new double[]{1, -3, 2});
+            Polynome q = p;
+            for (int i = 0; i < 6; i++) {
+                q = q.multiply(p);
+                q.derivative();
+                q.definiteIntegral(0, 1);
+            }
+            EquationSolver.solveQuadratic(1, -3, 2);
+
+            recording.stop();
+            Path jfr = Files.createTempFile("metrics", ".jfr");
+            recording.dump(jfr);
+            int events = 0;
+            for (RecordedEvent e : RecordingFile.readAllEvents(jfr)) {
+                if (e.getEventType().getName().equals("polynome.Operation")) {
+                    events++;
+                }
+            }
+            Files.delete(jfr);
+            System.out.println("Подій JFR polynome.Operation: " + events);
+        } catch (IOException e) {
+            System.err.println("Помилка роботи з файлом: " + e.getMessage());
+        }
+
+        for (OperationStats s : Metrics.snapshot()) {
+            System.out.println(s);
+        }
+        Metrics.disable();
+    }
+}
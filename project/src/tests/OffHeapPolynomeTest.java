@@ -0,0 +1,73 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 14:20
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <OffHeapPolynome>}:
+ * операції над поліномом поза купою, відображення у файл та явне
+ * звільнення пам’яті.
+ */
+package tests;
+
+import polynominal.OffHeapPolynome;
+import polynominal.Polynome;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Тестові приклади для класу {@link OffHeapPolynome}.
+ */
+public class OffHeapPolynomeTest {
+
+    /**
+     * Точка входу для тестування {@link OffHeapPolynome}.
+     *
+     * @param args не використовується
+     * @throws IOException у разі помилки роботи з файлом
+     */
+    public static void main(String[] args) throws IOException {
+        Polynome p = new Polynome(new double[]{1, -3, 0, 2});
+        try (OffHeapPolynome a = OffHeapPolynome.of(p);
+             OffHeapPolynome d = a.derivative();
+             OffHeapPolynome in = a.integral();
+             OffHeapPolynome sum = a.add(d);
+             OffHeapPolynome prod = a.multiply(d)) {
+            System.out.println("p = " + a.toPolynome() + ", p(2) = " + a.valueAt(2) + " (" + p.valueAt(2) + ")");
+            System.out.println("p' = " + d.toPolynome());
+            System.out.println("∫p = " + in.toPolynome());
+            System.out.println("p + p' = " + sum.toPolynome());
+            System.out.println("p * p' = " + prod.toPolynome() + " (" + p.multiply(p.derivative()) + ")");
+            System.out.println("∫[0, 1] p = " + a.definiteIntegral(0, 1) + " (" + p.definiteIntegral(0, 1) + ")");
+        }
+
+        long n = 10_000_000;
+        OffHeapPolynome big = OffHeapPolynome.allocate(n);
+        for (long i = 0; i < n; i++) {
+            big.set(i, 1.0 / (i + 1));
+        }
+        double[] xs = {0.5, -0.5, 0.9};
+        double[] out = new double[xs.length];
+        big.valueAt(xs, out);
+        System.out.println(big + ": f(0.5) = " + out[0] + ", 2·ln 2 = " + 2 * Math.log(2));
+        big.close();
+        System.out.println("після close: " + big);
+        try {
+            big.valueAt(0.5);
+        } catch (IllegalStateException e) {
+            System.out.println("доступ після close заборонено: " + e.getMessage());
+        }
+
+        Path file = Files.createTempFile("polynome", ".dat");
+        try (OffHeapPolynome mapped = OffHeapPolynome.create(file, 4)) {
+            mapped.set(0, 5);
+            mapped.set(2, -1);
+            mapped.force();
+        }
+        try (OffHeapPolynome read = OffHeapPolynome.open(file)) {
+            System.out.println("з файлу: " + read.toPolynome() + ", " + read);
+        }
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 15:40
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <PiecewisePolynome>}.
+ * Містить приклади побудови кубічних сплайнів, кусково-поліноміальної
+ * функції з поліномів та пакетного обчислення значень.
+ */
+package tests;
+
+import polynominal.PiecewisePolynome;
+import polynominal.Polynome;
+
+/**
+ * Тестові приклади для класу {@link PiecewisePolynome}.
+ */
+public class PiecewisePolynomeTest {
+
+    /**
+     * Точка входу для тестування {@link PiecewisePolynome}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        int n = 16;
+        double[] x = new double[n + 1];
+        double[] y = new double[n + 1];
+        for (int i = 0; i <= n; i++) {
+            x[i] = Math.PI * i / n;
+            y[i] = Math.sin(x[i]);
+        }
+        PiecewisePolynome natural = PiecewisePolynome.naturalSpline(x, y);
+        PiecewisePolynome clamped = PiecewisePolynome.clampedSpline(x, y, 1.0, -1.0);
+        System.out.println("натуральний сплайн sin(1) = " + natural.valueAt(1) + ", sin(1) = " + Math.sin(1));
+        System.out.println("сплайн з похідними sin(1) = " + clamped.valueAt(1));
+        System.out.println("похідна сплайна у 1 = " + clamped.derivative().valueAt(1) + ", cos(1) = " + Math.cos(1));
+
+        double[] xs = {0.1, 0.5, 1.0, 2.0, 3.0};
+        double[] out = new double[xs.length];
+        clamped.valueAt(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            System.out.println("s(" + xs[i] + ") = " + out[i] + ", sin = " + Math.sin(xs[i]));
+        }
+
+        Polynome left = new Polynome(new double[]{0, 1});
+        Polynome right = new Polynome(new double[]{1, -1, 1});
+        PiecewisePolynome pw = PiecewisePolynome.fromPieces(new double[]{0, 1, 3},
+                new Polynome[]{left, right});
+        System.out.println("f = " + pw);
+        System.out.println("f(0.5) = " + pw.valueAt(0.5) + ", f(2) = " + pw.valueAt(2) + " (очікується " + right.valueAt(2) + ")");
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 21:40
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <PolynomeBuilder>}:
+ * накопичення доданків на місці, множення, диференціювання та інтегрування
+ * без проміжних масивів і передачу масиву у {@code build()}.
+ */
+package tests;
+
+import polynominal.Polynome;
+import polynominal.PolynomeBuilder;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Тестові приклади для класу {@link PolynomeBuilder}.
+ */
+public class PolynomeBuilderTest {
+
+    /**
+     * Точка входу для тестування {@link PolynomeBuilder}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome p = new Polynome(new double[]{1, -3, 0, 2});
+        Polynome q = new Polynome(new double[]{0, 1, 1});
+
+        PolynomeBuilder b = new PolynomeBuilder(p);
+        b.addScaled(q, 2).addMultiple(q, -1, 3).addTerm(5, 0);
+        Polynome eager = p.add(q.multiply(new Polynome(new double[]{2})))
+                .subtract(q.multiply(new Polynome(new double[]{0, 0, 0, 1})))
+                .add(new Polynome(new double[]{5}));
+        System.out.println("p + 2q - x³q + 5 = " + b + " (" + eager + ")");
+
+        b.multiplyInto(q);
+        eager = eager.multiply(q);
+        System.out.println("· q = " + b + " (" + eager + ")");
+        b.differentiateInPlace();
+        System.out.println("d/dx = " + b + " (" + eager.derivative() + ")");
+        b.integrateInPlace();
+        System.out.println("∫ = " + b + " (" + eager.derivative().integral() + ")");
+        System.out.println("build: " + b.build() + ", після build: " + b + ", місткість " + b.capacity());
+
+        Random random = new Random(11);
+        double[] c = new double[40];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = random.nextDouble() * 2 - 1;
+        }
+        Polynome r = new Polynome(c);
+        Polynome s = new Polynome(Arrays.copyOf(c, 25));
+        PolynomeBuilder m = new PolynomeBuilder(r);
+        m.multiplyInto(s).multiplyInto(r);
+        System.out.println("multiplyInto == multiply біт у біт: "
+                + Arrays.equals(m.build().getCoefficients(), r.multiply(s).multiply(r).getCoefficients()));
+
+        int terms = 5000;
+        PolynomeBuilder acc = new PolynomeBuilder(terms + q.degree());
+        Polynome sum = new Polynome();
+        for (int i = 0; i < terms; i++) {
+            acc.addMultiple(q, 1.0 / (i + 1), i);
+            sum = sum.add(q.multiply(new Polynome(new double[]{1.0 / (i + 1)}))
+                    .multiply(monomial(i)));
+        }
+        System.out.println("накопичено " + terms + " доданків: степінь " + acc.degree()
+                + ", місткість == довжина: " + (acc.capacity() == acc.degree() + 1)
+                + ", збігається з поелементними операціями: " + acc.build().equals(sum));
+    }
+
+    private static Polynome monomial(int power) {
+        double[] c = new double[power + 1];
+        c[power] = 1;
+        return new Polynome(c);
+    }
+}
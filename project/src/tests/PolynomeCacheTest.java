@@ -0,0 +1,64 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 20.10.2026
+ * Час виконання: 11:00
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <PolynomeCache>}
+ * та порівняння поліномів через {@code equals}/{@code hashCode}.
+ * Виводить результати і статистику кешу у консоль.
+ */
+package tests;
+
+import polynominal.Polynome;
+import polynominal.PolynomeCache;
+
+import java.util.Arrays;
+
+/**
+ * Тестові приклади для класу {@link PolynomeCache}.
+ */
+public class PolynomeCacheTest {
+
+    /**
+     * Точка входу для тестування {@link PolynomeCache}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome p = new Polynome(new double[]{1, -3, 2});
+        Polynome same = Polynome.parse("2x^2 - 3x + 1");
+        Polynome negZero = new Polynome(new double[]{1, -3, 2, -0.0});
+        System.out.println("p.equals(same) = " + p.equals(same));
+        System.out.println("p.hashCode() == same.hashCode() = " + (p.hashCode() == same.hashCode()));
+        System.out.println("p.equals(negZero) = " + p.equals(negZero));
+
+        PolynomeCache cache = new PolynomeCache(1000);
+        for (int i = 0; i < 5; i++) {
+            cache.derivative(p);
+            cache.definiteIntegral(same, 0, i);
+        }
+        System.out.println("P'(x) = " + cache.derivative(p));
+        System.out.println("корені = " + Arrays.toString(cache.roots(same)));
+        System.out.println(cache);
+
+        for (int i = 0; i < 500; i++) {
+            cache.integral(new Polynome(new double[]{i, 1, 2, 3}));
+        }
+        System.out.println(cache);
+
+        // запис вагою 70 + 71 більший за 1/16 межі, але має залишитися в кеші
+        PolynomeCache fresh = new PolynomeCache(1000);
+        double[] c = new double[71];
+        Arrays.fill(c, 1.0);
+        Polynome heavy = new Polynome(c);
+        fresh.derivative(heavy);
+        fresh.derivative(heavy);
+        System.out.println("похідна степеня 70: " + fresh);
+
+        // запис, важчий за всю межу, не зберігається і нічого не витісняє
+        PolynomeCache tiny = new PolynomeCache(100);
+        tiny.derivative(p);
+        tiny.derivative(heavy);
+        System.out.println("запис важчий за межу: " + tiny);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 18:05
+ *
+ * Тестовий клас, що демонструє роботу методу {@code <Polynome.compile>}:
+ * згенерований обчислювач, порівняння з {@code valueAt} та повернення
+ * до звичайного циклу для дуже високих степенів.
+ */
+package tests;
+
+import polynominal.Polynome;
+
+import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Тестові приклади для методу {@link Polynome#compile()}.
+ */
+public class PolynomeCompilerTest {
+
+    /**
+     * Точка входу для тестування {@link Polynome#compile()}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome p = new Polynome(new double[]{1, -3, 0, 2});
+        DoubleUnaryOperator f = p.compile();
+        System.out.println("p = " + p + ", клас обчислювача: " + f.getClass().getName()
+                + ", прихований: " + f.getClass().isHidden());
+        for (double x : new double[]{-2, 0, 0.5, 3}) {
+            System.out.println("p(" + x + ") = " + f.applyAsDouble(x) + " (" + p.valueAt(x) + ")");
+        }
+        System.out.println("константа: " + new Polynome(new double[]{7}).compile().applyAsDouble(100));
+
+        Random random = new Random(3);
+        for (int degree : new int[]{16, 512, 2000}) {
+            double[] c = new double[degree + 1];
+            for (int i = 0; i < c.length; i++) {
+                c[i] = random.nextDouble() * 2 - 1;
+            }
+            Polynome q = new Polynome(c);
+            DoubleUnaryOperator g = q.compile();
+            double maxError = 0;
+            for (int i = 0; i < 1000; i++) {
+                double x = random.nextDouble() * 2 - 1;
+                maxError = Math.max(maxError, Math.abs(g.applyAsDouble(x) - q.valueAt(x)));
+            }
+            System.out.printf("deg %d: згенерований клас = %b, max |Δ| від valueAt = %.3e%n",
+                    degree, g.getClass().getName().startsWith("polynominal.CompiledPolynome"), maxError);
+        }
+
+        Polynome hot = new Polynome(new double[]{0.5, -1.25, 0.75, 2, -0.125, 1, 0.3, -0.7});
+        DoubleUnaryOperator compiled = hot.compile();
+        int n = 20_000_000;
+        double sink = 0;
+        for (int round = 0; round < 3; round++) {
+            long t0 = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sink += hot.valueAt(i * 1e-8);
+            }
+            long t1 = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                sink += compiled.applyAsDouble(i * 1e-8);
+            }
+            long t2 = System.nanoTime();
+            System.out.printf("valueAt %d мс, compile %d мс%n", (t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000);
+        }
+        System.out.println("(контрольна сума " + sink + ")");
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 20:05
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <PolynomeExpression>}:
+ * відкладені операції, обчислення у точках без проміжних поліномів,
+ * спільні підвирази та матеріалізацію.
+ */
+package tests;
+
+import polynominal.Polynome;
+import polynominal.PolynomeExpression;
+
+/**
+ * Тестові приклади для класу {@link PolynomeExpression}.
+ */
+public class PolynomeExpressionTest {
+
+    /**
+     * Точка входу для тестування {@link PolynomeExpression}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Polynome p = new Polynome(new double[]{1, -3, 0, 2});
+        Polynome q = new Polynome(new double[]{0, 1, 1});
+        Polynome r = new Polynome(new double[]{-2, 0, 0, 0, 1});
+
+        PolynomeExpression e = p.lazy().add(q.lazy()).multiply(r.lazy()).derivative();
+        Polynome eager = p.add(q).multiply(r).derivative();
+        System.out.println("e = " + e + ", степінь ≤ " + e.degree());
+        for (double x : new double[]{-1.5, 0, 0.5, 2}) {
+            System.out.println("e(" + x + ") = " + e.valueAt(x) + " (" + eager.valueAt(x) + ")");
+        }
+        System.out.println("materialize: " + e.materialize());
+        System.out.println("     eager: " + eager);
+
+        PolynomeExpression s1 = p.lazy().multiply(q.lazy());
+        PolynomeExpression s2 = p.lazy().multiply(q.lazy());
+        System.out.println("спільний підвираз: " + (s1 == s2));
+
+        PolynomeExpression second = s1.add(s2).derivative().derivative();
+        Polynome secondEager = p.multiply(q).add(p.multiply(q)).derivative().derivative();
+        System.out.println("(2pq)''(1.5) = " + second.valueAt(1.5) + " (" + secondEager.valueAt(1.5) + ")");
+
+        PolynomeExpression in = p.lazy().multiply(r.lazy()).integral().scale(3).subtract(q.lazy());
+        Polynome inEager = p.multiply(r).integral().multiply(new Polynome(new double[]{3})).subtract(q);
+        System.out.println("3∫pr - q у 1.25 = " + in.valueAt(1.25) + " (" + inEager.valueAt(1.25) + ")");
+        System.out.println("d/dx ∫pr == pr: " + (p.lazy().multiply(r.lazy()).integral().derivative()
+                == p.lazy().multiply(r.lazy())));
+
+        double[] xs = {-1, -0.5, 0, 0.5, 1};
+        double[] out = new double[xs.length];
+        PolynomeExpression plain = p.lazy().add(q.lazy()).multiply(r.lazy());
+        plain.valueAt(xs, out);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < xs.length; i++) {
+            sb.append(out[i]).append(" (").append(p.add(q).multiply(r).valueAt(xs[i])).append(") ");
+        }
+        System.out.println("пакетно: " + sb);
+
+        PolynomeExpression acc = PolynomeExpression.constant(0);
+        for (int i = 0; i < 10_000; i++) {
+            acc = acc.add(q.lazy().scale(i));
+        }
+        System.out.println("сума 10000 доданків у 2: " + acc.valueAt(2) + " (" + 49_995_000.0 * q.valueAt(2) + ")");
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 11:02
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <PolynomeStore>}.
+ * Містить приклади запису поліномів у сховище, читання за id
+ * та виведення результатів у консоль.
+ */
+package tests;
+
+import polynominal.Polynome;
+import polynominal.PolynomeStore;
+import polynominal.PolynomeView;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Тестові приклади для класу {@link PolynomeStore}.
+ */
+public class PolynomeStoreTest {
+
+    /**
+     * Точка входу для тестування {@link PolynomeStore}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Path dir;
+        try {
+            dir = Files.createTempDirectory("polynome_store");
+        } catch (IOException e) {
+            System.err.println("Помилка створення тимчасового каталогу: " + e.getMessage());
+            return;
+        }
+        try (PolynomeStore store = PolynomeStore.open(dir.resolve("store_test").toString())) {
+            long first = store.append(new Polynome(new double[]{1, -3, 2}));
+            long second = store.append(new Polynome(new double[]{2, -9, 0, 3, 13, 0, -19, 10, -32}));
+            System.out.println("Кількість поліномів у сховищі: " + store.size());
+
+            System.out.println("store[" + first + "] = " + store.get(first));
+            PolynomeView view = store.view(second);
+            System.out.println("store[" + second + "] = " + view);
+            System.out.println("степінь = " + view.degree());
+            System.out.println("значення у точці 1 = " + view.valueAt(1));
+        } catch (IOException e) {
+            System.err.println("Помилка роботи з файлом: " + e.getMessage());
+        } finally {
+            delete(dir);
+        }
+    }
+
+    /**
+     * Видаляє тимчасовий каталог сховища разом з файлами.
+     *
+     * @param dir каталог
+     */
+    private static void delete(Path dir) {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+            Files.delete(dir);
+        } catch (IOException e) {
+            System.err.println("Не вдалося видалити " + dir + ": " + e.getMessage());
+        }
+    }
+}
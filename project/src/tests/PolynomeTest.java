@@ -67,7 +67,16 @@ public class PolynomeTest {
         System.out.println("p - pr = " + diff);
         System.out.println("p * pr = " + prod);
 
+        Polynome parsed = Polynome.parse("-32.0x^8 + 10.0x^7 - 9.0x + 2.0");
+        System.out.println("Розібраний з рядка поліном: " + parsed);
+        System.out.println("Розібраний поліном з довільним порядком членів: "
+                + Polynome.parse("2 - x + 3*x^3 + x^3"));
+
         try {
+            System.out.print("Потоковий запис prod: ");
+            prod.writeTo(System.out);
+            System.out.println();
+
             p.saveToFile("resources/poly_test.txt");
             Polynome loaded = Polynome.readFromFile("resources/poly_test.txt");
             System.out.println("Зчитаний з файлу поліном: " + loaded);
@@ -0,0 +1,76 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 23.10.2026
+ * Час виконання: 15:20
+ *
+ * Тестовий клас, що демонструє побудову полінома за коренями
+ * ({@code <Polynome.fromRoots>}) та паралельні добуток і суму наборів
+ * поліномів ({@code <Polynome.product>}, {@code <Polynome.sum>}).
+ */
+package tests;
+
+import polynominal.Polynome;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестові приклади для дерев добутку та суми.
+ */
+public class ProductTreeTest {
+
+    /**
+     * Точка входу для тестування дерев добутку та суми.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        System.out.println("fromRoots(1, 2, 3) = " + Polynome.fromRoots(1, 2, 3));
+        System.out.println("fromRoots() = " + Polynome.fromRoots());
+
+        List<Polynome> factors = List.of(new Polynome(new double[]{1, 1}), new Polynome(new double[]{-1, 0, 2}),
+                new Polynome(new double[]{3}), new Polynome(new double[]{0, 1}));
+        Polynome serial = new Polynome(new double[]{1});
+        for (Polynome f : factors) {
+            serial = serial.multiply(f);
+        }
+        System.out.println("product = " + Polynome.product(factors) + " (" + serial + ")");
+        System.out.println("sum = " + Polynome.sum(factors));
+
+        int n = 4000;
+        double[] roots = new double[n];
+        Random random = new Random(9);
+        for (int i = 0; i < n; i++) {
+            roots[i] = random.nextDouble() * 2 - 1;
+        }
+        long t0 = System.nanoTime();
+        Polynome tree = Polynome.fromRoots(roots);
+        long t1 = System.nanoTime();
+        Polynome naive = new Polynome(new double[]{1});
+        for (double r : roots) {
+            naive = naive.multiply(new Polynome(new double[]{-r, 1}));
+        }
+        long t2 = System.nanoTime();
+        System.out.printf("fromRoots(%d): дерево %d мс, послідовно %d мс, степінь %d, степені збігаються: %b%n",
+                n, (t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000, tree.degree(),
+                tree.degree() == naive.degree());
+
+        // x^2000 + 1 як добуток пар спряжених коренів (x^2 - 2cos(θ)x + 1)
+        List<Polynome> pairs = new ArrayList<>();
+        for (int k = 0; k < 1000; k++) {
+            double theta = Math.PI * (2 * k + 1) / 2000;
+            pairs.add(new Polynome(new double[]{1, -2 * Math.cos(theta), 1}));
+        }
+        Polynome unity = Polynome.product(pairs);
+        System.out.println("добуток 1000 квадратних множників: степінь " + unity.degree()
+                + ", коефіцієнти при x^0 і x^2000: " + unity.getCoefficients()[0] + ", "
+                + unity.getCoefficients()[2000] + " (x^2000 + 1)");
+
+        List<Polynome> terms = new ArrayList<>();
+        for (int k = 0; k < 100_000; k++) {
+            terms.add(new Polynome(new double[]{0.1, k % 7, 1e-3 * (k % 3)}));
+        }
+        System.out.println("сума 100000 поліномів: " + Polynome.sum(terms));
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 22.10.2026
+ * Час виконання: 11:10
+ *
+ * Тестовий клас, що демонструє роботу класу {@code <RationalArray>}:
+ * пакетні операції на місці, суму, скалярний добуток, сортування
+ * та контроль переповнення.
+ */
+package tests;
+
+import numbers.Rational;
+import numbers.RationalArray;
+
+import java.util.Arrays;
+
+/**
+ * Тестові приклади для класу {@link RationalArray}.
+ */
+public class RationalArrayTest {
+
+    /**
+     * Точка входу для тестування {@link RationalArray}.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        Rational[] values = {
+                new Rational(1, 2), new Rational(-3, 4), new Rational(5, 6),
+                new Rational(7, 1), new Rational(-1, 3)
+        };
+        RationalArray a = RationalArray.fromArray(values);
+        RationalArray b = new RationalArray(new long[]{1, 1, 1, 1, 1}, new long[]{3, 4, 6, 7, 3});
+        System.out.println("a = " + a);
+        System.out.println("b = " + b);
+        System.out.println("sum(a) = " + a.sum() + ", a·b = " + a.dot(b));
+
+        a.add(b);
+        System.out.println("a + b = " + a);
+        a.multiply(b);
+        System.out.println("(a + b) * b = " + a);
+        a.scale(new Rational(-6, 5));
+        System.out.println("... * (-6/5) = " + a);
+        a.sort();
+        System.out.println("відсортовано: " + a);
+        System.out.println("назад у Rational[]: " + Arrays.toString(a.toArray()));
+
+        long big = Long.MAX_VALUE / 2;
+        RationalArray c = new RationalArray(new long[]{big, big + 1}, new long[]{big + 1, big + 2});
+        System.out.println(big + "/" + (big + 1) + " < " + (big + 1) + "/" + (big + 2) + ": "
+                + (c.compare(0, 1) < 0));
+        try {
+            c.sum();
+        } catch (ArithmeticException e) {
+            System.out.println("переповнення виявлено: " + e.getMessage());
+        }
+    }
+}
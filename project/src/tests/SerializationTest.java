@@ -0,0 +1,91 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 14:40
+ *
+ * Тестовий клас, що демонструє компактну серіалізацію числових типів
+ * і поліномів. Порівнює розмір потоку стандартної серіалізації масивів
+ * з пакетною серіалізацією {@code <BulkSerialization>} та виводить
+ * результати у консоль.
+ */
+package tests;
+
+import numbers.BigUnsigned;
+import numbers.BulkSerialization;
+import numbers.Rational;
+import numbers.Unsigned;
+import polynominal.Polynome;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+/**
+ * Тестові приклади для серіалізації {@link Rational}, {@link Unsigned},
+ * {@link BigUnsigned} та {@link Polynome}.
+ */
+public class SerializationTest {
+
+    /**
+     * Точка входу для тестування серіалізації.
+     *
+     * @param args не використовується
+     */
+    public static void main(String[] args) {
+        int n = 10000;
+        Rational[] rationals = new Rational[n];
+        Polynome[] polynomes = new Polynome[n];
+        for (int i = 0; i < n; i++) {
+            rationals[i] = new Rational(i, i % 7 + 1);
+            polynomes[i] = new Polynome(new double[]{i, -3, 2, i % 5});
+        }
+
+        try {
+            byte[] objRationals = objectBytes(rationals);
+            byte[] objPolynomes = objectBytes(polynomes);
+
+            ByteArrayOutputStream bulkR = new ByteArrayOutputStream();
+            BulkSerialization.writeRationals(new DataOutputStream(bulkR), rationals);
+            ByteArrayOutputStream bulkP = new ByteArrayOutputStream();
+            Polynome.writeArray(new DataOutputStream(bulkP), polynomes);
+
+            System.out.println("Rational[" + n + "]: ObjectOutputStream = " + objRationals.length
+                    + " байт, пакетно = " + bulkR.size() + " байт");
+            System.out.println("Polynome[" + n + "]: ObjectOutputStream = " + objPolynomes.length
+                    + " байт, пакетно = " + bulkP.size() + " байт");
+
+            Rational[] r2 = BulkSerialization.readRationals(
+                    new DataInputStream(new ByteArrayInputStream(bulkR.toByteArray())));
+            Polynome[] p2 = Polynome.readArray(
+                    new DataInputStream(new ByteArrayInputStream(bulkP.toByteArray())));
+            System.out.println("r[" + (n - 1) + "] = " + r2[n - 1] + ", p[" + (n - 1) + "] = " + p2[n - 1]);
+
+            Object[] single = {new Rational(3, 4), new Unsigned(10),
+                    new BigUnsigned("10000000000000000000"), new Polynome(new double[]{1, -3, 2})};
+            ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(objectBytes(single)));
+            System.out.println("Відновлені об’єкти: " + Arrays.toString((Object[]) in.readObject()));
+        } catch (IOException | ClassNotFoundException e) {
+            System.err.println("Помилка серіалізації: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Серіалізує об’єкт стандартним {@link ObjectOutputStream}.
+     *
+     * @param o об’єкт для запису
+     * @return байти потоку
+     * @throws IOException у разі помилки запису
+     */
+    private static byte[] objectBytes(Object o) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+}
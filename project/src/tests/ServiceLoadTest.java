@@ -0,0 +1,134 @@
+/**
+ * Автор: Кухарук Соломія
+ * Дата: 19.10.2026
+ * Час виконання: 20:15
+ *
+ * Навантажувальний тест для {@code <PolynomeService>}. Надсилає задану
+ * кількість запитів {@code /eval} з обмеженою кількістю одночасних
+ * з’єднань і виводить у консоль пропускну здатність та затримки p50/p99.
+ */
+package tests;
+
+import service.PolynomeService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Навантажувальний тест локального сервісу обчислень.
+ */
+public class ServiceLoadTest {
+
+    private static final String[] POLYNOMES = {
+            "1,-3,2",
+            "2,-9,0,3,13,0,-19,10,-32",
+            "0.5,-1,1.5",
+            "1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1"
+    };
+
+    /**
+     * Точка входу навантажувального тесту.
+     *
+     * @param args {@code [кількість запитів] [одночасних запитів] [адреса сервісу]};
+     *             якщо адресу не задано, сервіс запускається у цьому ж процесі
+     */
+    public static void main(String[] args) {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        PolynomeService local = null;
+        try {
+            String base;
+            if (args.length > 2) {
+                base = args[2];
+            } else {
+                local = new PolynomeService(0, 200, 256);
+                base = "http://127.0.0.1:" + local.getPort();
+            }
+            run(base, requests, concurrency);
+            if (local != null) {
+                System.out.println("Пакетів: " + local.getBatcher().getBatches()
+                        + ", точок: " + local.getBatcher().getPoints());
+            }
+        } catch (IOException e) {
+            System.err.println("Помилка запуску сервісу: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (local != null) {
+                local.close();
+            }
+        }
+    }
+
+    /**
+     * Виконує навантажувальний тест і виводить статистику.
+     *
+     * @param base        базова адреса сервісу
+     * @param requests    кількість запитів
+     * @param concurrency найбільша кількість одночасних запитів
+     * @throws InterruptedException якщо потік перервано
+     */
+    private static void run(String base, int requests, int concurrency) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int id = i;
+                permits.acquire();
+                threads.submit(() -> {
+                    try {
+                        String p = POLYNOMES[id % POLYNOMES.length];
+                        URI uri = URI.create(base + "/eval?p=" + p + "&x=" + (id % 100) / 100.0);
+                        long t = System.nanoTime();
+                        HttpResponse<String> r = client.send(HttpRequest.newBuilder(uri).build(),
+                                HttpResponse.BodyHandlers.ofString());
+                        latencies[id] = System.nanoTime() - t;
+                        if (r.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        long total = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        System.out.println("Запитів: " + requests + ", одночасно: " + concurrency + ", помилок: " + errors.get());
+        System.out.printf("Пропускна здатність: %.0f запитів/с%n", requests / (total / 1e9));
+        System.out.printf("p50 = %.3f мс, p99 = %.3f мс, max = %.3f мс%n",
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    /**
+     * Повертає перцентиль з відсортованого масиву.
+     *
+     * @param sorted відсортовані значення
+     * @param p      частка від 0 до 1
+     * @return значення перцентиля
+     */
+    private static long percentile(long[] sorted, double p) {
+        int i = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(i, sorted.length - 1))];
+    }
+}